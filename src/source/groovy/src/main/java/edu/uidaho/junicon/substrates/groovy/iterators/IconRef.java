@@ -75,7 +75,7 @@ public class IconRef <T> extends IconVar <T> {
   //==========================================================================
 
   public T get () {
-	if (isHolder) { return value; };
+	if (isHolder) { return getHeld(); };
 	try {
 	    return cgetter.call();
 	} catch (Exception e) {
@@ -85,6 +85,7 @@ public class IconRef <T> extends IconVar <T> {
 
   public void set (T val) {
 	valueAtom = null;
+	isDeferred = false;
 	if (isHolder) {
 		value = val;
 	} else if (csetter != null) {
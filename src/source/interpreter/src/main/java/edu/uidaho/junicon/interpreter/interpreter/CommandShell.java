@@ -1285,9 +1285,18 @@ public class CommandShell extends AbstractShell {
 		if (pos < inputScriptNames.size()) {
 			scriptName = inputScriptNames.get(pos);
 		}
+		TransformSupport support = TransformSupport.getCurrentSupport();
+		if (support != null) { support.resetSingletons(""); }
 		// Don't aggregate stdin
 		runScript(script, scriptName, echoStartup,
 			(script != null) && isAggregateScripts);
+
+		// Report compositions the transform inferred singleton
+		if (performTranslate && (support != null)) {
+			getLogger().info(scriptName + ": " +
+				support.getSingletonCount() +
+				" singleton compositions");
+		}
 	}
 
       } catch (InterpreterException e) {
@@ -59,12 +59,28 @@ public class TransformSupport extends Catalog
   private int uniqueCount = 0;
   private String uniqueSeparator = "_";
 
+  // Slots of method bodies within each method body cache.
+  // Never reset, since cache names stay unique for the whole session.
+  private Map<String,Integer> slotList = new HashMap<String,Integer>();
+  private Map<String,Integer> slotCount = new HashMap<String,Integer>();
+
   // Used to record top-level global variables
   private Map<String,String> globalList = new HashMap<String,String>();
 
   // Used to record top-level class names
   private Map<String,String> classList = new HashMap<String,String>();
 
+  // Number of compositions inferred singleton since last reset
+  private int singletonCount = 0;
+
+  // Types inferred for local variables
+  private static final String TYPE_NONE = "none";
+  private static final String TYPE_INTEGER = "integer";
+  private static final String TYPE_REAL = "real";
+  private static final String TYPE_STRING = "string";
+  private static final String TYPE_UNKNOWN = "unknown";
+  private static final int MAX_INFER_PASSES = 100;
+
   //======================================================================
   // Constructors
   //======================================================================
@@ -228,6 +244,30 @@ public class TransformSupport extends Catalog
 	return unique;
   }
 
+  //==========================================================================
+  // Method body cache slots
+  //==========================================================================
+
+  /**
+   * Get slot of method body within the given method body cache.
+   * Slots are assigned in order of first use, starting at 0 for each cache,
+   * so that the cache can index its free bodies by slot.
+   * @param cacheName uniqueified name of method body cache.
+   * @param name uniqueified name of method body.
+   * @return slot of method body in cache.
+   */
+  public int getSlot (String cacheName, String name) {
+	if (cacheName == null) { cacheName = ""; }
+	String key = cacheName + "." + name;
+	Integer slot = slotList.get(key);
+	if (slot != null) { return slot; }
+	Integer count = slotCount.get(cacheName);
+	slot = (count == null) ? 0 : count;
+	slotCount.put(cacheName, slot + 1);
+	slotList.put(key, slot);
+	return slot;
+  }
+
   //==========================================================================
   // Record top-level global variable names.
   //==========================================================================
@@ -288,6 +328,145 @@ public class TransformSupport extends Catalog
 	return classList.containsKey(name);
   }
 
+  //==========================================================================
+  // Count compositions inferred singleton.
+  //==========================================================================
+  /**
+   * Reset count of compositions inferred singleton.
+   * @return empty string.
+   */
+  public String resetSingletons (String dummy) {
+	singletonCount = 0;
+	return "";
+  }
+
+  /**
+   * Count a composition inferred singleton.
+   * @return empty string.
+   */
+  public String addSingleton (String dummy) {
+	singletonCount++;
+	return "";
+  }
+
+  /**
+   * Get number of compositions inferred singleton since last reset.
+   */
+  public int getSingletonCount () {
+	return singletonCount;
+  }
+
+  //==========================================================================
+  // Infer types of local variables.
+  //==========================================================================
+
+  /**
+   * Infer the types of local variables in a method from their assignments.
+   * Each assignment gives the type of the assigned expression
+   * in prefix form over the tokens:
+   *	integer, real, string, unknown, @name for a local,
+   *	the binary operators + - * / %, and the unary operators neg, pos.
+   * The type of a local is the join of the types of its assignments,
+   * over the flat lattice none &lt; integer, real, string &lt; unknown,
+   * iterated to a fixed point.
+   * Arithmetic over integers is integer, and over integers and reals is real.
+   * Locals left as none, i.e., only ever assigned from themselves,
+   * or as unknown, are not typed.
+   * @param candidates names of locals, each enclosed by ";", e.g. ";i;s;".
+   * @param writes assignments of the form "name=type expression;".
+   * @return inferred types, each enclosed by ";", e.g. ";i=integer;".
+   */
+  public String inferLocalTypes (String candidates, String writes) {
+	if ((candidates == null) || (writes == null)) { return ""; }
+	Map<String,String> types = new HashMap<String,String>();
+	String[] assignments = writes.split(";");
+	boolean changed = true;
+	for (int pass = 0; changed && (pass < MAX_INFER_PASSES); pass++) {
+	    changed = false;
+	    for (String assignment : assignments) {
+		int equals = assignment.indexOf('=');
+		if (equals <= 0) { continue; }
+		String name = assignment.substring(0, equals).trim();
+		if (! candidates.contains(";" + name + ";")) { continue; }
+		String[] tokens = assignment.substring(equals + 1).trim().split(
+			"\\s+");
+		int[] position = new int[] { 0 };
+		String type = joinTypes(types.get(name),
+			inferType(tokens, position, candidates, types));
+		if (! type.equals(types.get(name))) {
+			types.put(name, type);
+			changed = true;
+		}
+	    }
+	}
+	StringBuilder result = new StringBuilder(";");
+	for (Map.Entry<String,String> entry : types.entrySet()) {
+		String type = entry.getValue();
+		if (type.equals(TYPE_NONE) || type.equals(TYPE_UNKNOWN)) {
+			continue;
+		}
+		result.append(entry.getKey()).append("=").append(type);
+		result.append(";");
+	}
+	return result.toString();
+  }
+
+  /**
+   * Get the type of the prefix type expression starting at position,
+   * and advance position past it.
+   */
+  private String inferType (String[] tokens, int[] position,
+		String candidates, Map<String,String> types) {
+	if (position[0] >= tokens.length) { return TYPE_UNKNOWN; }
+	String token = tokens[position[0]++];
+	if (token.equals(TYPE_INTEGER) || token.equals(TYPE_REAL) ||
+			token.equals(TYPE_STRING)) {
+		return token;
+	}
+	if (token.startsWith("@")) {
+		String name = token.substring(1);
+		if (! candidates.contains(";" + name + ";")) {
+			return TYPE_UNKNOWN;
+		}
+		String type = types.get(name);
+		if (type == null) { return TYPE_NONE; }
+		return type;
+	}
+	if (token.equals("neg") || token.equals("pos")) {
+		String x = inferType(tokens, position, candidates, types);
+		if (x.equals(TYPE_NONE) || x.equals(TYPE_INTEGER) ||
+				x.equals(TYPE_REAL)) {
+			return x;
+		}
+		return TYPE_UNKNOWN;
+	}
+	if ((token.length() == 1) && ("+-*/%".indexOf(token.charAt(0)) >= 0)) {
+		String x = inferType(tokens, position, candidates, types);
+		String y = inferType(tokens, position, candidates, types);
+		if (x.equals(TYPE_NONE) || y.equals(TYPE_NONE)) {
+			return TYPE_NONE;
+		}
+		boolean xIsNumber = x.equals(TYPE_INTEGER) || x.equals(TYPE_REAL);
+		boolean yIsNumber = y.equals(TYPE_INTEGER) || y.equals(TYPE_REAL);
+		if ((! xIsNumber) || (! yIsNumber)) { return TYPE_UNKNOWN; }
+		if (x.equals(TYPE_REAL) || y.equals(TYPE_REAL)) {
+			return TYPE_REAL;
+		}
+		return TYPE_INTEGER;
+	}
+	return TYPE_UNKNOWN;
+  }
+
+  /**
+   * Join two types over the flat lattice.
+   */
+  private String joinTypes (String x, String y) {
+	if ((x == null) || x.equals(TYPE_NONE)) { return y; }
+	if ((y == null) || y.equals(TYPE_NONE)) { return x; }
+	if (x.equals(y)) { return x; }
+	return TYPE_UNKNOWN;
+  }
+
   //==========================================================================
   // Replace in string.
   //==========================================================================
@@ -387,6 +566,17 @@ public class TransformSupport extends Catalog
 	return interp.getReusableUnique(name);
   }
 
+  /**
+   * Get slot of method body within the given method body cache,
+   * or -1 if there is no current transform support,
+   * in which case the transform identifies the body by name.
+   */
+  public static int TgetSlot (String cacheName, String name) {
+	TransformSupport interp = (TransformSupport) getCurrentSupport();
+	if (interp == null) { return -1; };
+	return interp.getSlot(cacheName, name);
+  }
+
   //==========================================================================
   // Record top-level global variable names.
   //==========================================================================
@@ -451,6 +641,33 @@ public class TransformSupport extends Catalog
 	return interp.hasClass(name);
   }
 
+  //==========================================================================
+  // Count compositions inferred singleton.
+  //==========================================================================
+
+  /**
+   * Count a composition inferred singleton.
+   * @return empty string.
+   */
+  public static String TaddSingleton (String dummy) {
+	TransformSupport interp = (TransformSupport) getCurrentSupport();
+	if (interp == null) { return ""; };
+	return interp.addSingleton(dummy);
+  }
+
+  //==========================================================================
+  // Infer types of local variables.
+  //==========================================================================
+
+  /**
+   * Infer the types of local variables in a method from their assignments.
+   */
+  public static String TinferLocalTypes (String candidates, String writes) {
+	TransformSupport interp = (TransformSupport) getCurrentSupport();
+	if (interp == null) { return ""; };
+	return interp.inferLocalTypes(candidates, writes);
+  }
+
   //==========================================================================
   // Replace in string.
   //==========================================================================
@@ -175,8 +175,9 @@
 # 	method f(x,y) {locals; body} =>
 #	    def f = { x,y -> locals; return new IconIterator(body ; fail) }
 # Methods optimize using a cache for the iterator body:
-#	    def f = { x,y -> locals; return classCachename.getFree(f_uniq) ?: 
-# 		 new IconIterator(body;fail).setCache(classCachename, f_uniq); }
+#	    def f = { x,y -> locals; return classCachename.getFree(f_slot) ?: 
+# 		 new IconIterator(body;fail).setCache(classCachename, f_slot, f_uniq); }
+#	where f_slot is the body's index in the cache, assigned at translation.
 # Method invocations were already normalized to iteration over the
 #	returned generator: f(x,y) => (x' in x) & (y' in y) & (z in f(x',y'))
 #
@@ -330,6 +331,8 @@
 
 <!-- Derived configuration parameters, used internally -->
 <xsl:variable name="useInnerClasses" select="not(boolean($useLambdaExpressions))"/>
+<xsl:variable name="compileTypedOperations" select="boolean($isJava) and boolean($useLambdaExpressions)"/>
+    <!-- Compile arithmetic over locals of inferred type, see IconTypedIterator -->
 <xsl:variable name="asMethodNotClosure" select="boolean($isJava) or not(boolean($methodAsClosure))"/>
 <xsl:variable name="addAnnotations" select="boolean($isJava)"/>
 
@@ -355,17 +358,28 @@
 
 	<!--
 	#====
-	# Preprocess.   Phases 1 and 2.
+	# Preprocess.   Phases 1, 2, and 3.
 	#====
 	-->
 	<xsl:variable name="preprocessedPhase1">
 		<xsl:apply-templates select="*" mode="preprocessPhase1"/>
 	</xsl:variable>
 
-	<xsl:variable name="preprocessed">
+	<xsl:variable name="preprocessedPhase2">
 		<xsl:apply-templates select="xalan:nodeset($preprocessedPhase1)/*[1]" mode="preprocess"/>
 	</xsl:variable>
 
+	<xsl:variable name="preprocessed">
+	    <xsl:choose>
+		<xsl:when test="boolean($compileTypedOperations)">
+		    <xsl:apply-templates select="xalan:nodeset($preprocessedPhase2)/*[1]" mode="inferTypes"/>
+		</xsl:when>
+		<xsl:otherwise>
+		    <xsl:copy-of select="xalan:nodeset($preprocessedPhase2)/*[1]"/>
+		</xsl:otherwise>
+	    </xsl:choose>
+	</xsl:variable>
+
 	<!--
 	#====
 	# Transform program.
@@ -578,6 +592,7 @@
 #   Change atom references to method statics to use the unique name.
 #	Normalization renamed static declarations inside a method or closure
 #	to use a unique name within the class.
+# Preprocess : Phase 3.  Infer types of local variables, see below.
 #=============================================================================
 -->
 
@@ -857,6 +872,205 @@
 	</xsl:copy>
 </xsl:template>
 
+<!--
+#=============================================================================
+# Preprocess : Phase 3.  Infer types of local variables.
+#   Only if compileTypedOperations, i.e., isJava and useLambdaExpressions.
+#   For each method, infers the type of each local declared once in it,
+#	as the join of the types of the expressions assigned to it,
+#	and sets @inferredType to integer, real, or string on its references.
+#   Operations over locals of inferred type are then compiled
+#	to primitive arithmetic, guarded by a test of the inferred types.
+#   Since the guard keeps the result correct, the inferred type is only
+#	a prediction, and a local is left untyped if it is assigned
+#	through an alias: swapped, bound by "in",
+#	or inside a larger left-hand side, e.g., s[1] := "x".
+#   Type expressions are passed in prefix form to TinferLocalTypes,
+#	which iterates them to a fixed point.
+# TAGS local:  STATEMENT[KEYWORD/local]/ENUM/DECLARATION/IDENTIFIER
+# TAGS assign: ASSIGN/< lhs OPERATOR[@isAugment] rhs >
+#=============================================================================
+-->
+<xsl:template match="STATEMENT[KEYWORD[string()='method' or string()='initially' or string()='procedure']][BLOCK]" mode="inferTypes" priority="2">
+  <xsl:variable name="method" select="."/>
+
+  <!-- Candidates: locals declared once in the method, e.g., ";i;s;" -->
+  <xsl:variable name="candidates">
+    <xsl:text>;</xsl:text>
+    <xsl:for-each select="BLOCK/STATEMENT[KEYWORD[string()='local']]/ENUM/DECLARATION[@isLocalVariable and not(@isTmpVar) and not(@isMethodStatic)]/IDENTIFIER">
+	<xsl:variable name="varname" select="string()"/>
+	<xsl:if test="count($method//DECLARATION[IDENTIFIER[string()=$varname]]) = 1">
+	    <xsl:value-of select="$varname"/>
+	    <xsl:text>;</xsl:text>
+	</xsl:if>
+    </xsl:for-each>
+  </xsl:variable>
+
+  <!-- Writes: "name=type expression;" for each assignment to a candidate -->
+  <xsl:variable name="writes">
+    <xsl:if test="string-length($candidates) &gt; 1">
+      <xsl:for-each select=".//ATOM[IDENTIFIER][@isLocal][contains($candidates, concat(';', IDENTIFIER, ';'))]">
+	<xsl:apply-templates select="." mode="inferWrite"/>
+      </xsl:for-each>
+    </xsl:if>
+  </xsl:variable>
+
+  <xsl:variable name="types">
+    <xsl:if test="string-length($writes) &gt; 0">
+	<xsl:value-of select="cmd:TinferLocalTypes(string($candidates), string($writes))"/>
+    </xsl:if>
+  </xsl:variable>
+
+  <xsl:apply-templates select="." mode="setInferredTypes">
+	<xsl:with-param name="types" select="string($types)"/>
+  </xsl:apply-templates>
+</xsl:template>
+
+<!-- ==== Default template to copy nodes through -->
+<xsl:template match="@*|node()" mode="inferTypes">
+	<xsl:copy>
+	    	<xsl:apply-templates select="@*|node()" mode="inferTypes"/>
+	</xsl:copy>
+</xsl:template>
+
+<!--
+#====
+# Write to a local reference, if any, as "name=type expression;".
+#   x := e, x <- e	=> type of e
+#   x op:= e		=> op @x e, or string if ||:=
+#   x :=: y, x <-> y	=> unknown for both x and y
+#   (x in e)		=> unknown
+#   lhs := e		=> unknown if x is in lhs, but not in its subscripts
+#			   or arguments
+#====
+-->
+<xsl:template match="ATOM" mode="inferWrite">
+  <xsl:variable name="atom" select="."/>
+  <xsl:variable name="varname" select="string(IDENTIFIER)"/>
+
+  <xsl:choose>
+    <xsl:when test="parent::ASSIGN and not(preceding-sibling::*)">
+      <xsl:variable name="operator" select="string(../OPERATOR[1])"/>
+      <xsl:variable name="symbol" select="substring-before($operator, ':=')"/>
+      <xsl:value-of select="concat($varname, '=')"/>
+      <xsl:choose>
+	<xsl:when test="($operator = ':=') or ($operator = '&lt;-')">
+	    <xsl:apply-templates select="following-sibling::*[not(self::OPERATOR)][1]" mode="inferType"/>
+	</xsl:when>
+	<xsl:when test="../OPERATOR[1][@isAugment] and ($symbol = '||')">
+	    <xsl:text>string</xsl:text>
+	</xsl:when>
+	<xsl:when test="../OPERATOR[1][@isAugment] and (string-length($symbol) = 1) and contains('+-*/%', $symbol)">
+	    <xsl:value-of select="concat($symbol, ' @', $varname, ' ')"/>
+	    <xsl:apply-templates select="following-sibling::*[not(self::OPERATOR)][1]" mode="inferType"/>
+	</xsl:when>
+	<xsl:otherwise>
+	    <xsl:text>unknown</xsl:text>
+	</xsl:otherwise>
+      </xsl:choose>
+      <xsl:text>;</xsl:text>
+    </xsl:when>
+
+    <xsl:when test="parent::ASSIGN[OPERATOR[1][string()=':=:' or string()='&lt;->']] or @inLeftIterator">
+	<xsl:value-of select="concat($varname, '=unknown;')"/>
+    </xsl:when>
+
+    <xsl:otherwise>
+      <xsl:for-each select="ancestor::ASSIGN[count($atom/ancestor::* | *[1]) = count($atom/ancestor::*)]">
+	<xsl:variable name="assignDepth" select="count(ancestor::*)"/>
+	<xsl:if test="not($atom/ancestor::*[self::SUBSCRIPT or self::SLICE or self::TUPLE][count(ancestor::*) &gt; $assignDepth])">
+	    <xsl:value-of select="concat($varname, '=unknown;')"/>
+	</xsl:if>
+      </xsl:for-each>
+    </xsl:otherwise>
+  </xsl:choose>
+</xsl:template>
+
+<!--
+#====
+# Type of expression, in prefix form, over:
+#	integer, real, string, unknown, @name, + - * / %, neg, pos.
+#====
+-->
+<xsl:template match="ATOM[LITERAL[@isInteger or @isRadix]]" mode="inferType" priority="2">
+	<xsl:text>integer </xsl:text>
+</xsl:template>
+
+<xsl:template match="ATOM[LITERAL[@isReal]]" mode="inferType" priority="2">
+	<xsl:text>real </xsl:text>
+</xsl:template>
+
+<xsl:template match="ATOM[LITERAL[@isQuote]]" mode="inferType" priority="2">
+	<xsl:text>string </xsl:text>
+</xsl:template>
+
+<xsl:template match="ATOM[IDENTIFIER][@isLocal]" mode="inferType" priority="2">
+	<xsl:value-of select="concat('@', IDENTIFIER, ' ')"/>
+</xsl:template>
+
+<xsl:template match="EXPRESSION[count(*[not(self::DELIMITER)]) = 1]" mode="inferType" priority="2">
+	<xsl:apply-templates select="*[not(self::DELIMITER)]" mode="inferType"/>
+</xsl:template>
+
+<xsl:template match="ASSIGN[OPERATOR[1][string()=':=']]" mode="inferType" priority="2">
+	<xsl:apply-templates select="OPERATOR[1]/following-sibling::*[1]" mode="inferType"/>
+</xsl:template>
+
+<xsl:template match="OPERATION[@isBinary][OPERATOR[1][string()='+' or string()='-' or string()='*' or string()='/' or string()='%']]" mode="inferType" priority="2">
+	<xsl:value-of select="concat(OPERATOR[1], ' ')"/>
+	<xsl:apply-templates select="*[not(self::OPERATOR)]" mode="inferType"/>
+</xsl:template>
+
+<xsl:template match="OPERATION[@isBinary][OPERATOR[1][string()='||']]" mode="inferType" priority="2">
+	<xsl:text>string </xsl:text>
+</xsl:template>
+
+<xsl:template match="OPERATION[@isUnary][OPERATOR[1][string()='-' or string()='+']]" mode="inferType" priority="2">
+	<xsl:choose>
+	    <xsl:when test="OPERATOR[1] = '-'"><xsl:text>neg </xsl:text></xsl:when>
+	    <xsl:otherwise><xsl:text>pos </xsl:text></xsl:otherwise>
+	</xsl:choose>
+	<xsl:apply-templates select="*[not(self::OPERATOR)]" mode="inferType"/>
+</xsl:template>
+
+<!-- Size *x, and (e to e1 by e2), are always integer -->
+<xsl:template match="OPERATION[@isUnary][OPERATOR[1][string()='*']] | INVOKE[@isOperator][@symbol='to']" mode="inferType" priority="2">
+	<xsl:text>integer </xsl:text>
+</xsl:template>
+
+<xsl:template match="*" mode="inferType">
+	<xsl:text>unknown </xsl:text>
+</xsl:template>
+
+<!--
+#====
+# Set @inferredType on local references, from types such as ";i=integer;".
+#====
+-->
+<xsl:template match="ATOM[IDENTIFIER][@isLocal]" mode="setInferredTypes" priority="2">
+  <xsl:param name="types"/>
+  <xsl:variable name="type" select="substring-before(substring-after($types, concat(';', IDENTIFIER, '=')), ';')"/>
+  <xsl:copy>
+	<xsl:copy-of select="@*"/>
+	<xsl:if test="boolean($type)">
+	    <xsl:attribute name="inferredType">
+		<xsl:value-of select="$type"/>
+	    </xsl:attribute>
+	</xsl:if>
+	<xsl:copy-of select="node()"/>
+  </xsl:copy>
+</xsl:template>
+
+<!-- ==== Default template to copy nodes through -->
+<xsl:template match="@*|node()" mode="setInferredTypes">
+	<xsl:param name="types"/>
+	<xsl:copy>
+	    	<xsl:apply-templates select="@*|node()" mode="setInferredTypes">
+			<xsl:with-param name="types" select="$types"/>
+		</xsl:apply-templates>
+	</xsl:copy>
+</xsl:template>
+
 <!--
 #=============================================================================
 # Postprocess.
@@ -891,7 +1105,7 @@
 
 <!--
 #====
-# Single quotes: 'abc' => new IconSet('abc')
+# Single quotes: 'abc' => IconCset.valueOf('abc')
 # TAGS single quote: ATOM[LITERAL @isSingleQuote]
 #====
 -->
@@ -899,7 +1113,7 @@
   <xsl:copy>
   <xsl:apply-templates select="@*" mode="postprocess"/>
 	<xsl:text>(</xsl:text>
-	<xsl:value-of select="$newIconSet"/>
+	<xsl:value-of select="$newIconCset"/>
 	<xsl:text>(</xsl:text>
 		<xsl:copy-of select="LITERAL"/>
 	<xsl:text>))</xsl:text>
@@ -2625,8 +2839,11 @@
 # Create Groovy closure for method or closure body.
 #   (x,y) {locals; body} =>
 #	{ x,y -> locals;  // includes normalization temporaries 
-#		// Reuse method body
-#		IconIterator body = cache.getFree(closureUniquename);
+#		// Reuse method body, after any memoized results
+#		[ IconIterator memo = cache.getMemoized(closureSlot, args);
+#		  if (memo != null) { return memo; } ]	// if isMemoized
+#		IconIterator body = cache.getFree(closureSlot);
+#		// or getFree(closureUniquename) if no slot was assigned
 #		if (body != null) { return body.reset().unpackArgs(args) }
 #
 #		// Parameters		// Reified parameters
@@ -2648,7 +2865,7 @@
 #			[ PREFIX goes here ]
 #			rewrite(body;fail)
 #		SUFFIX to createSequenceFromBlock:
-#			setCache(classCachename, closureUniquename)
+#			setCache(classCachename, closureSlot, closureUniquename)
 #			setUnpackClosure(unpack).unpackArgs(args);
 #	}
 # If asMethodNotClosure, just does:  (Object... args) { block }
@@ -2683,6 +2900,8 @@
     <xsl:param name="appendFail" select="true()"/>
     <xsl:param name="isStatic" select="false()"/>
     <xsl:param name="useStaticInitializer" select="false()"/>
+    <xsl:param name="isMemoized" select="false()"/>
+	<!-- if isMemoized: first return any memoized results for args -->
     <!-- 
     #====
     # For lambda's or create inside another method or lambda,
@@ -2695,6 +2914,26 @@
 	<xsl:value-of select="cmd:TgetMinimalUnique('args')"/>
     </xsl:variable>
 
+    <!-- slot: index of body in method body cache, or -1 if unassigned -->
+    <xsl:variable name="closureSlot">
+	<xsl:value-of select="cmd:TgetSlot($classCachename, $closureUniquename)"/>
+    </xsl:variable>
+
+    <!-- cacheKey: slot of body in cache, or its quoted name if no slot -->
+    <xsl:variable name="isSlotted" select="number($closureSlot) &gt;= 0"/>
+    <xsl:variable name="cacheKey">
+	<xsl:choose>
+	  <xsl:when test="$isSlotted">
+		<xsl:value-of select="$closureSlot"/>
+	  </xsl:when>
+	  <xsl:otherwise>
+		<xsl:text>"</xsl:text>
+		<xsl:value-of select="$closureUniquename"/>
+		<xsl:text>"</xsl:text>
+	  </xsl:otherwise>
+	</xsl:choose>
+    </xsl:variable>
+
     <!-- body: create unique name for body in closure -->
     <xsl:variable name="bodyUniquename">
 	<xsl:value-of select="cmd:TgetMinimalUnique('body')"/>
@@ -2962,6 +3201,33 @@
 	    </STATEMENT>
 	</xsl:if>
 
+	<!-- "IconIterator memo = methodCache.getMemoized(slot, args);" -->
+	<xsl:if test="boolean($isMemoized)">
+	  <xsl:variable name="memoUniquename">
+		<xsl:value-of select="cmd:TgetMinimalUnique('memo')"/>
+	  </xsl:variable>
+	  <STATEMENT>		<!-- for format -->
+		<xsl:text>IconIterator </xsl:text>
+		<xsl:value-of select="$memoUniquename"/>
+		<xsl:text> = </xsl:text>
+		<xsl:value-of select="$classCachename"/>
+		<xsl:text>.getMemoized(</xsl:text>
+		<xsl:value-of select="$cacheKey"/>
+		<xsl:text>, </xsl:text>
+		<xsl:value-of select="$argsUniquename"/>
+		<xsl:text>);</xsl:text>
+	    <NEWLINE/>		<!-- for format -->
+	  </STATEMENT>
+	  <STATEMENT>		<!-- for format -->
+		<xsl:text>if (</xsl:text>
+		<xsl:value-of select="$memoUniquename"/>
+		<xsl:text> != null) { return </xsl:text>
+		<xsl:value-of select="$memoUniquename"/>
+		<xsl:text>; };</xsl:text>
+	    <NEWLINE/>		<!-- for format -->
+	  </STATEMENT>
+	</xsl:if>
+
 	<!-- "IconIterator body = methodCache.getFree(name);" -->
 	<STATEMENT>		<!-- for format -->
 		<xsl:text>IconIterator </xsl:text> <!-- IIcon -->
@@ -2969,9 +3235,9 @@
 		<xsl:value-of select="$bodyUniquename"/>
 		<xsl:text> = </xsl:text>
 		<xsl:value-of select="$classCachename"/>
-		<xsl:text>.getFree("</xsl:text>
-		<xsl:value-of select="$closureUniquename"/>
-		<xsl:text>");</xsl:text>
+		<xsl:text>.getFree(</xsl:text>
+		<xsl:value-of select="$cacheKey"/>
+		<xsl:text>);</xsl:text>
 	    <NEWLINE/>		<!-- for format -->
 	</STATEMENT>
 
@@ -3039,6 +3305,10 @@
 		<xsl:text>.setCache(</xsl:text>
 		<xsl:value-of select="$classCachename"/>
 		<DELIMITER ID=","/>
+		<xsl:if test="$isSlotted">
+		  <xsl:value-of select="$closureSlot"/>
+		  <DELIMITER ID=","/>
+		</xsl:if>
 		<xsl:text>"</xsl:text>
 		<xsl:value-of select="$closureUniquename"/>
 		<xsl:text>")</xsl:text>
@@ -4212,6 +4482,8 @@
 #	the actual method has a unique name.
 # If (useMethodUniquename and isMain), methodname = @methodUniquename.
 # Uniqueified method name, @methodUniquename, was created in normalization.
+# If the body has the directive @<memoize>, the method is annotated
+#	with @MMemoize and its results are memoized by argument tuple.
 #
 # TAGS method: STATEMENT/< KEYWORD[method] DECLARATION/IDENTIFIER[methodname]
 #			   parameters body >
@@ -4280,6 +4552,9 @@
 	<xsl:value-of select="$cachenameRTF"/>
     </xsl:variable>
 
+    <!-- isMemoized: if body has the directive @<memoize> -->
+    <xsl:variable name="isMemoized" select="boolean(BLOCK/EXPRESSION[ANNOTATION[QUALIFIED[DOTNAME[IDENTIFIER[string() = 'memoize']]]] or EXPRESSION[ANNOTATION[QUALIFIED[DOTNAME[IDENTIFIER[string() = 'memoize']]]]]])"/>
+
     <!--
     #====
     # Create annotation: @MMethod(name, methodName)
@@ -4301,6 +4576,13 @@
       <NEWLINE/>
       </STATEMENT>
 
+      <xsl:if test="boolean($isMemoized)">
+	<STATEMENT>
+	  <xsl:text>@MMemoize</xsl:text>
+	<NEWLINE/>
+	</STATEMENT>
+      </xsl:if>
+
       <xsl:apply-templates select="TUPLE/*[not(self::DELIMITER)]" mode="createField">
 	<xsl:with-param name="createParameterAnnotation" select="true()"/>
 	<xsl:with-param name="forceLastVarargs" select="$isMain"/>
@@ -4363,6 +4645,7 @@
 		<xsl:with-param name="asMethodNotClosure" select="$asMethodNotClosure"/>
 		<xsl:with-param name="isStatic" select="$isStatic"/>
 		<xsl:with-param name="useStaticInitializer" select="$useStaticInitializer"/>
+		<xsl:with-param name="isMemoized" select="$isMemoized"/>
 	</xsl:apply-templates>
 
     <xsl:choose>
@@ -4570,6 +4853,21 @@
 -->
 <xsl:template match="OPERATION" priority="2">
 
+  <!-- Compile arithmetic over locals of inferred type -->
+  <xsl:variable name="compiledType">
+    <xsl:if test="boolean($compileTypedOperations) and .//ATOM[@inferredType='integer' or @inferredType='real']">
+	<xsl:apply-templates select="." mode="compiledType"/>
+    </xsl:if>
+  </xsl:variable>
+
+  <xsl:choose>
+  <xsl:when test="string-length($compiledType) &gt; 0">
+    <xsl:apply-templates select="." mode="compileTyped">
+	<xsl:with-param name="compiledType" select="string($compiledType)"/>
+    </xsl:apply-templates>
+  </xsl:when>
+  <xsl:otherwise>
+
   <xsl:variable name="constructor">
 	<xsl:apply-templates select="." mode="operatorToConstructor">
 		<xsl:with-param name="symbol" select="OPERATOR[1]"/>
@@ -4577,9 +4875,337 @@
 	</xsl:apply-templates>
   </xsl:variable>
 
+  <xsl:variable name="isSingleton">
+	<xsl:apply-templates select="." mode="isSingleton"/>
+  </xsl:variable>
+
   <xsl:apply-templates select="." mode="createOperation">
        <xsl:with-param name="constructor" select="xalan:nodeset($constructor)/CONSTRUCTOR"/>
+       <xsl:with-param name="isSingleton" select="string-length($isSingleton) &gt; 0"/>
   </xsl:apply-templates>
+
+  </xsl:otherwise>
+  </xsl:choose>
+</xsl:template>
+
+<!--
+#=============================================================================
+# Compiles an arithmetic expression or integer comparison over locals
+#	of inferred type, and literals, into primitive long or double
+#	arithmetic, guarded by a test of the inferred types,
+#	with the generic operations over atoms as fallback.
+#   x + y  => IconTypedIterator.integer(() -> guard,
+#		() -> Math.addExact(x, y), () -> IconOperators.plus.apply(x, y))
+#   x &lt; y  => IconTypedIterator.test(() -> guard, () -> x &lt; y, y,
+#		() -> IconOperators.lessThan.apply(x, y))
+#   Integer arithmetic is compiled for + - * / % and unary -,
+#	and real arithmetic only for + - * and unary -.
+#	Integer literals are limited to 18 digits so as to fit in a long,
+#	and real literals to digits and a decimal point.
+#   Comparison is compiled for &lt; &lt;= &gt; &gt;= = ~= over integers,
+#	where y is a literal or local.
+# TAGS operation: OPERATION [@isBinary @isUnary]
+#       	  < OPERATOR [@isAugment @isBoolean]  args... >
+#=============================================================================
+-->
+<xsl:template match="OPERATION" mode="compileTyped">
+  <xsl:param name="compiledType"/>
+
+  <xsl:variable name="root" select="."/>
+  <xsl:variable name="guard">
+    <xsl:for-each select=".//ATOM[@inferredType]">
+      <xsl:if test="generate-id(.) = generate-id(($root//ATOM[@inferredType][IDENTIFIER = current()/IDENTIFIER])[1])">
+	<xsl:if test="position() &gt; 1">
+	    <xsl:text> &amp;&amp; </xsl:text>
+	</xsl:if>
+	<xsl:choose>
+	  <xsl:when test="@inferredType = 'real'">
+	    <xsl:text>IconTypedIterator.isReal(</xsl:text>
+	  </xsl:when>
+	  <xsl:otherwise>
+	    <xsl:text>IconTypedIterator.isInteger(</xsl:text>
+	  </xsl:otherwise>
+	</xsl:choose>
+	<xsl:value-of select="cmd:TgetSameUnique(IDENTIFIER, '_r')"/>
+	<xsl:text>)</xsl:text>
+      </xsl:if>
+    </xsl:for-each>
+  </xsl:variable>
+
+  <xsl:copy>
+  <xsl:copy-of select="@*"/>
+    <xsl:value-of select="concat('IconTypedIterator.', $compiledType, '(() -> ', $guard, ', () -> ')"/>
+    <xsl:choose>
+      <xsl:when test="$compiledType = 'test'">
+	<xsl:variable name="symbol" select="string(OPERATOR[1])"/>
+	<xsl:apply-templates select="*[not(self::OPERATOR)][1]" mode="compilePrimitive"/>
+	<xsl:choose>
+	  <xsl:when test="$symbol = '='"><xsl:text> == </xsl:text></xsl:when>
+	  <xsl:when test="$symbol = '~='"><xsl:text> != </xsl:text></xsl:when>
+	  <xsl:otherwise><xsl:value-of select="concat(' ', $symbol, ' ')"/></xsl:otherwise>
+	</xsl:choose>
+	<xsl:apply-templates select="*[not(self::OPERATOR)][2]" mode="compilePrimitive"/>
+	<xsl:text>, </xsl:text>
+	<xsl:apply-templates select="*[not(self::OPERATOR)][2]" mode="compileGeneric"/>
+      </xsl:when>
+      <xsl:otherwise>
+	<xsl:apply-templates select="." mode="compilePrimitive"/>
+      </xsl:otherwise>
+    </xsl:choose>
+    <xsl:text>, () -> </xsl:text>
+    <xsl:apply-templates select="." mode="compileGeneric"/>
+    <xsl:text>)</xsl:text>
+  </xsl:copy>
+</xsl:template>
+
+<!--
+#====
+# Compiled type of expression: integer, real, test, or empty if not compiled.
+#====
+-->
+<xsl:template match="ATOM[@inferredType='integer' or @inferredType='real']" mode="compiledType" priority="2">
+	<xsl:value-of select="@inferredType"/>
+</xsl:template>
+
+<xsl:template match="ATOM[LITERAL[@isInteger and not(@isRadix)]]" mode="compiledType" priority="2">
+	<xsl:if test="(string-length(LITERAL) &lt;= 18) and (translate(LITERAL, '0123456789', '') = '')">
+	    <xsl:text>integer</xsl:text>
+	</xsl:if>
+</xsl:template>
+
+<xsl:template match="ATOM[LITERAL[@isReal]]" mode="compiledType" priority="2">
+	<xsl:if test="translate(LITERAL, '0123456789.', '') = ''">
+	    <xsl:text>real</xsl:text>
+	</xsl:if>
+</xsl:template>
+
+<xsl:template match="EXPRESSION[count(*[not(self::DELIMITER)]) = 1]" mode="compiledType" priority="2">
+	<xsl:apply-templates select="*[not(self::DELIMITER)]" mode="compiledType"/>
+</xsl:template>
+
+<xsl:template match="OPERATION[@isBinary][OPERATOR[1][not(@isAugment)][string()='+' or string()='-' or string()='*' or string()='/' or string()='%']]" mode="compiledType" priority="2">
+  <xsl:variable name="x">
+	<xsl:apply-templates select="*[not(self::OPERATOR)][1]" mode="compiledType"/>
+  </xsl:variable>
+  <xsl:variable name="y">
+	<xsl:apply-templates select="*[not(self::OPERATOR)][2]" mode="compiledType"/>
+  </xsl:variable>
+  <xsl:choose>
+    <xsl:when test="($x = 'integer') and ($y = 'integer')">
+	<xsl:text>integer</xsl:text>
+    </xsl:when>
+    <xsl:when test="(($x = 'real') or ($y = 'real')) and (($x = 'integer') or ($x = 'real')) and (($y = 'integer') or ($y = 'real')) and not((OPERATOR[1] = '/') or (OPERATOR[1] = '%'))">
+	<xsl:text>real</xsl:text>
+    </xsl:when>
+  </xsl:choose>
+</xsl:template>
+
+<xsl:template match="OPERATION[@isUnary][OPERATOR[1][string()='-']]" mode="compiledType" priority="2">
+	<xsl:apply-templates select="*[not(self::OPERATOR)][1]" mode="compiledType"/>
+</xsl:template>
+
+<xsl:template match="OPERATION[@isBinary][OPERATOR[1][string()='&lt;' or string()='&lt;=' or string()='&gt;' or string()='&gt;=' or string()='=' or string()='~=']]" mode="compiledType" priority="2">
+  <xsl:variable name="x">
+	<xsl:apply-templates select="*[not(self::OPERATOR)][1]" mode="compiledType"/>
+  </xsl:variable>
+  <xsl:variable name="y">
+	<xsl:apply-templates select="*[not(self::OPERATOR)][2][self::ATOM]" mode="compiledType"/>
+  </xsl:variable>
+  <xsl:if test="($x = 'integer') and ($y = 'integer')">
+	<xsl:text>test</xsl:text>
+  </xsl:if>
+</xsl:template>
+
+<xsl:template match="*" mode="compiledType">
+</xsl:template>
+
+<!--
+#====
+# Primitive long or double expression, casting integers in real arithmetic.
+#====
+-->
+<xsl:template match="ATOM[@inferredType]" mode="compilePrimitive" priority="2">
+	<xsl:value-of select="cmd:TgetSameUnique(IDENTIFIER, '_r')"/>
+	<xsl:choose>
+	    <xsl:when test="@inferredType = 'real'">
+		<xsl:text>.getValue().getReal()</xsl:text>
+	    </xsl:when>
+	    <xsl:otherwise>
+		<xsl:text>.getValue().getInteger()</xsl:text>
+	    </xsl:otherwise>
+	</xsl:choose>
+</xsl:template>
+
+<xsl:template match="ATOM[LITERAL]" mode="compilePrimitive" priority="2">
+	<xsl:value-of select="LITERAL"/>
+	<xsl:if test="LITERAL[@isInteger]">
+	    <xsl:text>L</xsl:text>
+	</xsl:if>
+</xsl:template>
+
+<xsl:template match="EXPRESSION" mode="compilePrimitive" priority="2">
+	<xsl:apply-templates select="*[not(self::DELIMITER)]" mode="compilePrimitive"/>
+</xsl:template>
+
+<xsl:template match="OPERATION" mode="compilePrimitive" priority="2">
+  <xsl:variable name="type">
+	<xsl:apply-templates select="." mode="compiledType"/>
+  </xsl:variable>
+  <xsl:variable name="symbol" select="string(OPERATOR[1])"/>
+  <xsl:choose>
+    <xsl:when test="($type = 'integer') and @isUnary">
+	<xsl:text>Math.negateExact(</xsl:text>
+	<xsl:apply-templates select="*[not(self::OPERATOR)][1]" mode="compilePrimitive"/>
+	<xsl:text>)</xsl:text>
+    </xsl:when>
+    <xsl:when test="$type = 'integer'">
+	<xsl:choose>
+	  <xsl:when test="$symbol = '+'"><xsl:text>Math.addExact(</xsl:text></xsl:when>
+	  <xsl:when test="$symbol = '-'"><xsl:text>Math.subtractExact(</xsl:text></xsl:when>
+	  <xsl:when test="$symbol = '*'"><xsl:text>Math.multiplyExact(</xsl:text></xsl:when>
+	  <xsl:when test="$symbol = '/'"><xsl:text>IconTypedIterator.divideExact(</xsl:text></xsl:when>
+	  <xsl:otherwise><xsl:text>(</xsl:text></xsl:otherwise>
+	</xsl:choose>
+	<xsl:apply-templates select="*[not(self::OPERATOR)][1]" mode="compilePrimitive"/>
+	<xsl:choose>
+	  <xsl:when test="$symbol = '%'"><xsl:text> % </xsl:text></xsl:when>
+	  <xsl:otherwise><xsl:text>, </xsl:text></xsl:otherwise>
+	</xsl:choose>
+	<xsl:apply-templates select="*[not(self::OPERATOR)][2]" mode="compilePrimitive"/>
+	<xsl:text>)</xsl:text>
+    </xsl:when>
+    <xsl:otherwise>
+	<xsl:text>(</xsl:text>
+	<xsl:if test="@isUnary">
+	    <xsl:text>- </xsl:text>
+	</xsl:if>
+	<xsl:for-each select="*[not(self::OPERATOR)]">
+	    <xsl:if test="position() &gt; 1">
+		<xsl:value-of select="concat(' ', $symbol, ' ')"/>
+	    </xsl:if>
+	    <xsl:variable name="operandType">
+		<xsl:apply-templates select="." mode="compiledType"/>
+	    </xsl:variable>
+	    <xsl:if test="$operandType = 'integer'">
+		<xsl:text>(double) </xsl:text>
+	    </xsl:if>
+	    <xsl:apply-templates select="." mode="compilePrimitive"/>
+	</xsl:for-each>
+	<xsl:text>)</xsl:text>
+    </xsl:otherwise>
+  </xsl:choose>
+</xsl:template>
+
+<!--
+#====
+# Generic expression over atoms, using OperatorOverAtoms Unary/Binary.
+#====
+-->
+<xsl:template match="ATOM[@inferredType]" mode="compileGeneric" priority="2">
+	<xsl:value-of select="cmd:TgetSameUnique(IDENTIFIER, '_r')"/>
+</xsl:template>
+
+<xsl:template match="ATOM[LITERAL]" mode="compileGeneric" priority="2">
+	<xsl:value-of select="$newIconValueCreate"/>
+	<xsl:text>(</xsl:text>
+	<xsl:apply-templates select="." mode="compilePrimitive"/>
+	<xsl:text>)</xsl:text>
+</xsl:template>
+
+<xsl:template match="EXPRESSION" mode="compileGeneric" priority="2">
+	<xsl:apply-templates select="*[not(self::DELIMITER)]" mode="compileGeneric"/>
+</xsl:template>
+
+<xsl:template match="OPERATION" mode="compileGeneric" priority="2">
+	<xsl:choose>
+	    <xsl:when test="@isUnary">
+		<xsl:value-of select="cmd:TgetProperty('OperatorOverAtomsUnary', OPERATOR[1])"/>
+	    </xsl:when>
+	    <xsl:otherwise>
+		<xsl:value-of select="cmd:TgetProperty('OperatorOverAtomsBinary', OPERATOR[1])"/>
+	    </xsl:otherwise>
+	</xsl:choose>
+	<xsl:text>.apply(</xsl:text>
+	<xsl:for-each select="*[not(self::OPERATOR)]">
+	    <xsl:if test="position() &gt; 1">
+		<xsl:text>, </xsl:text>
+	    </xsl:if>
+	    <xsl:apply-templates select="." mode="compileGeneric"/>
+	</xsl:for-each>
+	<xsl:text>)</xsl:text>
+</xsl:template>
+
+<!--
+#=============================================================================
+# Singleton inference.
+#   Infers if an operation, assignment, or product can never produce
+#	more than one result, in which case createOperation marks it
+#	as a singleton, so that resuming it fails without re-descending
+#	into its operands, and counts it using TaddSingleton.
+#	x op y => new IconOperation(op).over(x, y).singleton()
+#   Singletons are lifted locals, class fields, and literals,
+#	and operations over atoms, := or augmented assignments,
+#	and products, whose operands are all singletons.
+#   Operations over iterators, such as alternation and limit,
+#	and tab match, reversible assignment, and swap, are excluded.
+# Returns "true" if singleton, else empty.
+#=============================================================================
+-->
+<xsl:template match="ATOM[@lift][IDENTIFIER][@isLocal or @isToClassField]" mode="isSingleton" priority="2">
+	<xsl:text>true</xsl:text>
+</xsl:template>
+
+<xsl:template match="ATOM[@lift][LITERAL]" mode="isSingleton" priority="2">
+	<xsl:text>true</xsl:text>
+</xsl:template>
+
+<xsl:template match="EXPRESSION[count(*[not(self::DELIMITER)]) = 1]" mode="isSingleton" priority="2">
+	<xsl:apply-templates select="*[not(self::DELIMITER)]" mode="isSingleton"/>
+</xsl:template>
+
+<xsl:template match="OPERATION[OPERATOR[1][not(@isAugment)]][not(KEYWORD)]" mode="isSingleton" priority="2">
+  <xsl:variable name="symbol" select="string(OPERATOR[1])"/>
+  <xsl:choose>
+    <xsl:when test="count(*) &lt;= 2">
+      <xsl:if test="cmd:ThasProperty('OperatorOverAtomsUnary', $symbol) and not(cmd:ThasProperty('OperatorOverIteratorsUnary', $symbol)) and not($symbol = '=')">
+	<xsl:apply-templates select="." mode="isSingletonOperands"/>
+      </xsl:if>
+    </xsl:when>
+    <xsl:otherwise>
+      <xsl:if test="cmd:ThasProperty('OperatorOverAtomsBinary', $symbol) and not(cmd:ThasProperty('OperatorOverIteratorsBinary', $symbol))">
+	<xsl:apply-templates select="." mode="isSingletonOperands"/>
+      </xsl:if>
+    </xsl:otherwise>
+  </xsl:choose>
+</xsl:template>
+
+<xsl:template match="ASSIGN[OPERATOR[1][string()=':=']]" mode="isSingleton" priority="2">
+	<xsl:apply-templates select="." mode="isSingletonOperands"/>
+</xsl:template>
+
+<xsl:template match="ASSIGN[OPERATOR[1][@isAugment]]" mode="isSingleton" priority="2">
+  <xsl:variable name="symbol" select="substring-before(OPERATOR[1], ':=')"/>
+  <xsl:if test="cmd:ThasProperty('OperatorOverAtomsBinary', $symbol) and not(cmd:ThasProperty('OperatorOverIteratorsBinary', $symbol))">
+	<xsl:apply-templates select="." mode="isSingletonOperands"/>
+  </xsl:if>
+</xsl:template>
+
+<xsl:template match="PRODUCT[not(@map or @modifiers)]" mode="isSingleton" priority="2">
+	<xsl:apply-templates select="." mode="isSingletonOperands"/>
+</xsl:template>
+
+<xsl:template match="*" mode="isSingleton">
+</xsl:template>
+
+<!-- If all operands, as selected by createOperation, are singletons -->
+<xsl:template match="*" mode="isSingletonOperands">
+  <xsl:variable name="operands" select="*[not(self::OPERATOR or self::KEYWORD or self::DELIMITER)]"/>
+  <xsl:variable name="singletons">
+	<xsl:apply-templates select="$operands" mode="isSingleton"/>
+  </xsl:variable>
+  <xsl:if test="(count($operands) &gt; 0) and (string-length($singletons) = 4 * count($operands))">
+	<xsl:text>true</xsl:text>
+  </xsl:if>
 </xsl:template>
 
 <!--
@@ -4600,6 +5226,7 @@
     <xsl:param name="omitParenthesis" select="false()"/>
     <xsl:param name="map"/>		<!-- .map(operation) -->
     <xsl:param name="modifiers"/>	<!-- .setModifiers(modifiers) -->
+    <xsl:param name="isSingleton" select="false()"/> <!-- .singleton() -->
 
     <xsl:variable name="args">
 	<ARGS>
@@ -4630,6 +5257,10 @@
 	</xsl:if>
 	<xsl:apply-templates select="xalan:nodeset($args)/ARGS/*" mode="extractToList"/>
 	<xsl:text>)</xsl:text>
+	<xsl:if test="boolean($isSingleton)">
+		<xsl:text>.singleton()</xsl:text>
+		<xsl:value-of select="cmd:TaddSingleton('')"/>
+	</xsl:if>
     </xsl:copy>
 </xsl:template>
 
@@ -4813,10 +5444,15 @@
 -->
 <!-- x & y	=> IconProduct (x,y) : can have @map=operation @modifiers=s -->
 <xsl:template match="PRODUCT" priority="2">
+    <xsl:variable name="isSingleton">
+	<xsl:apply-templates select="." mode="isSingleton"/>
+    </xsl:variable>
+
     <xsl:apply-templates select="." mode="createOperation">
        <xsl:with-param name="constructor" select="$newIconProduct"/>
        <xsl:with-param name="map" select="@map"/>
        <xsl:with-param name="modifiers" select="@modifiers"/>
+       <xsl:with-param name="isSingleton" select="string-length($isSingleton) &gt; 0"/>
     </xsl:apply-templates>
 </xsl:template>
 
@@ -4904,8 +5540,13 @@
       </CONSTRUCTOR>
     </xsl:variable>
 
+    <xsl:variable name="isSingleton">
+	<xsl:apply-templates select="." mode="isSingleton"/>
+    </xsl:variable>
+
     <xsl:apply-templates select="." mode="createOperation">
        <xsl:with-param name="constructor" select="xalan:nodeset($constructor)/CONSTRUCTOR"/>
+       <xsl:with-param name="isSingleton" select="string-length($isSingleton) &gt; 0"/>
     </xsl:apply-templates>
 </xsl:template>
 
@@ -7171,6 +7812,7 @@
 <xsl:variable name="newIconList" select="'new IconList'"/>
 <xsl:variable name="newIconMap" select="'new IconMap'"/>
 <xsl:variable name="newIconSet" select="'new IconSet'"/>
+<xsl:variable name="newIconCset" select="'IconCset.valueOf'"/>
 
 <xsl:variable name="newIconVar" select = "concat('new ', $IconVar)"/>
 <xsl:variable name="newIconVarIterator" select = "concat('new ', $IconVarIterator)"/>
@@ -557,6 +557,19 @@ public class IconCoExpression <T> extends IconIterator <T>
 	return pipeTo;
   }
 
+  /**
+   * Gets the kind of co-expression, for instrumentation:
+   * pipe, proxy, thread, coexpression, firstclass, or delegate.
+   */
+  public String getKind () {
+	if (isPipe) { return "pipe"; }
+	if (isProxy) { return "proxy"; }
+	if (isThread) { return "thread"; }
+	if (isCoExpression) { return "coexpression"; }
+	if (isFirstClass) { return "firstclass"; }
+	return "delegate";
+  }
+
   //============================================================================
   // Creation of coexpression, thread, pipe, proxy, or first class.
   //============================================================================
@@ -839,7 +852,11 @@ public class IconCoExpression <T> extends IconIterator <T>
 	    }
 
 	    // Wait for thread result
-	    return takeAtom(thread.getOutbox());
+	    if (! IconEvents.isEnabled) { return takeAtom(thread.getOutbox()); }
+	    Object handoff = IconEvents.beginHandoff("take");
+	    IIconAtom<T> taken = takeAtom(thread.getOutbox());
+	    IconEvents.endHandoff(handoff, (taken == FAIL));
+	    return taken;
 	}
 
 	// Otherwise for thread or coexpression, will delegate to iter
@@ -855,11 +872,19 @@ public class IconCoExpression <T> extends IconIterator <T>
 		if (iter.isFailed()) { nextAtom = FAIL; }
 	    }
 	    if (isProducer) {
+		// Producer runs ahead of consumer, so hand off a frozen value
+		if (nextAtom != null) { nextAtom = nextAtom.snapshot(); }
+		Object handoff = null;
+		if (IconEvents.isEnabled) {
+		    handoff = IconEvents.beginHandoff("put");
+		}
 		try {
 		    outbox.put(nextAtom);
 		} catch (InterruptedException e) {
+		    IconEvents.endHandoff(handoff, true);
 		    return FAIL;
 		}
+		IconEvents.endHandoff(handoff, false);
 	    }
 	    return nextAtom;
 	}
@@ -876,6 +901,8 @@ public class IconCoExpression <T> extends IconIterator <T>
 
 	// redundant for safety, nextAtom does this after nextChildOverride
 	if (iter.isFailed()) { return FAIL; }
+	// Result outlives this step, since the next activation resumes iter
+	if (nextAtom != null) { nextAtom = nextAtom.snapshot(); }
 	return nextAtom;
   }
   //====
@@ -964,6 +991,10 @@ public class IconCoExpression <T> extends IconIterator <T>
   public static <V> IIconAtom<V> activate (IIconIterator<V> parent,
 		V message, IconCoExpression<V> coexpr) {
 	if (coexpr == null) { return FAIL; }
+	if (IconEvents.isEnabled) {
+		IconEvents.activate(coexpr.getKind(),
+			(getCurrentCoexpr() != null));
+	}
 	if (! coexpr.isCoExpression) {	
 		return coexpr.nextAtom();
 	}
@@ -62,10 +62,16 @@ public class IconIn <T> extends IconComposition <T> {
    * IconIn will set the bound variable referenced by its setter
    * to the reified value returned from the iterator.
    * The transforms set it up this way, and deference the value later when used.
+   * A reused range counter is bound as is, without a snapshot,
+   * unless it is owned by a variable, see IconValueCounter.forBinding().
    * UnaryMap will not be executed if x.isFailed or x.isReturned.
    */
   public IIconAtom<T> unaryMap (IIconAtom<T> result) {
-	if (binding != null) { binding.setAtom(result); }
+	if (binding != null) {
+		if (result instanceof IconValueCounter) {
+			binding.setAtom(((IconValueCounter) result).forBinding());
+		} else { binding.setAtom(result); }
+	}
 	return result;
   }
 
@@ -28,6 +28,7 @@
 package edu.uidaho.junicon.runtime.junicon.constructs;
 
 import edu.uidaho.junicon.runtime.junicon.iterators.*;
+import edu.uidaho.junicon.runtime.junicon.iterators.IIconAtom.IconTypes;
 
 import java.util.Iterator;
 import java.util.Collection;
@@ -69,12 +70,14 @@ import java.util.Arrays;
 public class IconPromote <T> extends IconComposition <T> {
   private IIconAtom<T> listAtom = null;	// Needed for updatable string
   private IconValue<T> list = null;	// Derived list atom value
+  private IconTypes listType = IconTypes.UNTYPED;	// Type of list
   private int size = 0;
   private int pos = -1;
   private Object obj = null;		// For field
   private List<String> fieldNames = null;
   private boolean asValue = false;	// Override to produce index
   private Iterator<T> clonedIter = null;
+  private IIconNumericList<T> numericList = null; // List with unboxed numbers
 
   //==========================================================================
   // Constructors.
@@ -188,6 +191,7 @@ public class IconPromote <T> extends IconComposition <T> {
   public void afterRestart () {
 	// Reset
 	clonedIter = null;
+	numericList = null;
 	pos = -1;
 	size = 0;
 
@@ -198,19 +202,31 @@ public class IconPromote <T> extends IconComposition <T> {
 	if (list == null) { return; }
 
 	// Get type: string, number, collection, map, iterator, array, other
-	if (list.isString()) {
+	listType = list.getType();
+	switch (listType) {
+	    case STRING:
 		size = list.getString().length();
-	} else if (list.isNumber()) {
+		break;
+	    case NUMBER:
 		size = (int) list.getInteger();
-	} else if (list.isList()) {
+		break;
+	    case LIST:
+		if (list.getList() instanceof IIconNumericList) {
+			numericList = (IIconNumericList<T>) list.getList();
+			break;
+		}
 		clonedIter = list.getList().iterator();
-	} else if (list.isCollection()) {
+		break;
+	    case SET: case COLLECTION:
 		clonedIter = list.getCollection().iterator();
-	} else if (list.isMap()) {
+		break;
+	    case MAP:
 		clonedIter = list.getMap().keySet().iterator();
-	} else if (list.isArray()) {
+		break;
+	    case ARRAY:
 		size = list.getArray().length;
-	} else if (list.isOther()) {
+		break;
+	    case OTHER:
 		obj = list.getOther();
 		if (obj != null) {
 			fieldNames = IconField.objectAsNames(obj);
@@ -218,8 +234,12 @@ public class IconPromote <T> extends IconComposition <T> {
 				size = fieldNames.size();
 			}
 		}
-	} else if (list.isIterator()) {
+		break;
+	    case ITERATOR: case GENERATOR:
 		clonedIter = list.getIterator();  // cannot clone iterator
+		break;
+	    default:
+		break;
 	}
   }
 
@@ -235,49 +255,82 @@ public class IconPromote <T> extends IconComposition <T> {
 	if (isConstant()) { return getConstantAtom(); }	// Object
 
 	pos++;		// Starts at 0, since was first -1
-	if (list.isString()) {		// Index into string by position
+	if (numericList != null) {	// Index into list by position
+	    if (pos < numericList.size()) {
+		if (asValue) { return valueAt(pos); }
+		return new IconIndex<T>().origin(0).setIndex(
+			list, pos);  // create()
+	    }
+	    setIsFailed(true);
+	    return null;
+	}
+	switch (listType) {
+	  case STRING:		// Index into string by position
 	    if (pos < size) {	// Use frozen string for getter, atom for setter
 		return new IconIndex<T>().origin(0).setIndex(
 			(listAtom == null) ? list : listAtom, pos);  // create()
 	    }
-	} else
-	if (list.isNumber()) {		// 1 to number
+	    break;
+	  case NUMBER:		// 1 to number
 	    if (pos < size) {
 		return IconValue.create(pos+1);
 	    }
-	} else
-	if (list.isArray()) {		// Index into array by position
+	    break;
+	  case ARRAY:		// Index into array by position
 	    if (pos < size) {
 		return new IconIndex<T>().origin(0).setIndex(
 			(listAtom == null) ? list : listAtom, pos);  // create()
 	    }
-	} else
-	if (list.isOther()) {
-	    if (pos < size) {
-		return new IconField<T>(obj, fieldNames.get(pos)); // create()
+	    break;
+	  case OTHER:
+	    if (pos < size) {	// Index into record by field position
+		if (asValue) {
+			return IconValue.create(IconField.getFieldValue(obj,
+				pos));  // create()
+		}
+		return new IconField<T>(obj, pos); // create()
 	    }
-	} else
-    	if ((clonedIter != null) && clonedIter.hasNext()) {
-	    if (list.isList()) {	// Index into list by position
+	    break;
+	  default:
+    	    if ((clonedIter == null) || (! clonedIter.hasNext())) { break; }
+	    switch (listType) {
+	      case LIST:	// Index into list by position
 		if (asValue) {
 			return IconValue.create(clonedIter.next()); // create()
 		}
 		clonedIter.next();	// skip to next, but return index
 		return new IconIndex<T>().origin(0).setIndex(
 			list, pos);  // create()
-	    }
-	    if (list.isMap()) {	// Index into map by key
+	      case MAP:		// Index into map by key
 		return new IconIndex<T>().origin(0).setMapIndex(list,
 			clonedIter.next());			// create()
-	    }
-	    if (list.isCollection() || list.isIterator()) { // Just return value
+	      case SET: case COLLECTION: case ITERATOR: case GENERATOR:
+		// Just return value
 		return IconValue.create(clonedIter.next());	// create()
+	      default:
+		break;
 	    }
 	}
 	setIsFailed(true);
 	return null;
   }
 
+  /**
+   * Gets an element of a numeric list as a typed value, without boxing.
+   */
+  private IIconAtom<T> valueAt (int index) {
+	switch (numericList.getElementType()) {
+	  case INTEGER:
+	    return IconValue.create(numericList.getLong(index));
+	  case REAL:
+	    if (IconNumber.getIsRealPrecision()) { break; }
+	    return IconValue.create(numericList.getDouble(index));
+	  default:
+	    break;
+	}
+	return IconValue.create(numericList.get(index));	// create()
+  }
+
 }
 
 //==== END OF FILE
@@ -28,6 +28,7 @@
 package edu.uidaho.junicon.runtime.junicon.constructs;
 
 import edu.uidaho.junicon.runtime.junicon.iterators.*;
+import static edu.uidaho.junicon.runtime.junicon.iterators.IIconAtom.FAIL;
 
 import java.util.Iterator;
 import java.util.Collection;
@@ -54,6 +55,12 @@ import java.math.BigInteger;
  * Alternatively, could code range operator as a function using yield (suspend),
  * but this is very inefficient for a base operator.
  * <P>
+ * To avoid allocation on every step, the iterator hands out the same
+ * mutable IconValueCounter each time, which is just overwritten with
+ * the next long value.
+ * Consumers where the value escapes the current step use snapshot(),
+ * see IconValueCounter.
+ * <P>
  * USAGE: x to y [by z]
  *
  * @author Peter Mills
@@ -66,6 +73,7 @@ public class IconToIterator <T> extends IconIterator <T> {
   private IIconAtom<T> xatom = null;
   private IIconAtom<T> yatom = null;
   private IIconAtom<T> zatom = null;
+  private IconValueCounter counter = new IconValueCounter();
 
   //==========================================================================
   // Constructors.
@@ -137,8 +145,9 @@ public class IconToIterator <T> extends IconIterator <T> {
 	if ((by == 0) || ((by > 0) && (current > upper)) || 
 			((by < 0) && (current < upper))) {
 		setIsFailed(true);
+		return FAIL;
 	}
-	return IconValue.create(current);
+	return (IIconAtom<T>) counter.setInteger(current);
 	//====
 	// // Must return BigInteger or will coerce down Groovy arithmetic.
 	// return IconValue.create(IconNumber.asBigInteger(current));
@@ -173,6 +173,16 @@ public interface IIconAtom <T> {
    */
   public IIconAtom<T> onReturn ();
 
+  /**
+   * Gets an immutable snapshot of this atom's value
+   * if this atom is a mutable value that is reused across iterations,
+   * such as the counter handed out by a range generator.
+   * Used wherever an atom escapes the iterator that produced it,
+   * for example when assigned to a variable or passed to another thread.
+   * Default is to just return this atom.
+   */
+  public IIconAtom<T> snapshot ();
+
   /**
    * Sets if is a method local that is dereferenced on return.
    * Returns this to allow setter chaining.
@@ -647,6 +647,14 @@ public interface IIconIterator <T> extends java.util.Iterator<T>,
    */
   public IIconIterator<T> setCache (MethodBodyCache cache, String name);
 
+  /**
+   * Sets class cache used for function body definitions,
+   * with this iterator's slot and name in the cache.
+   * Returns this.
+   */
+  public IIconIterator<T> setCache (MethodBodyCache cache, int slot,
+	String name);
+
   /**
    * Get class cache for function body definitions.
    */
@@ -657,6 +665,12 @@ public interface IIconIterator <T> extends java.util.Iterator<T>,
    */
   public String getNameInCache ();
 
+  /**
+   * Gets this iterator's slot in cache for function body definitions,
+   * or -1 if it is identified in the cache only by name.
+   */
+  public int getSlotInCache ();
+
   /**
    * Sets closure to unpack args from variadic method.
    * Returns this.
@@ -0,0 +1,70 @@
+//========================================================================
+// Copyright (c) 2014 Orielle, LLC.  
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions
+// are met:
+//
+// 1. Redistributions of source code must retain the above copyright
+//    notice, this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+//    notice, this list of conditions and the following disclaimer in the
+//    documentation and/or other materials provided with the distribution.
+//
+// This software is provided by the copyright holders and contributors
+// "as is" and any express or implied warranties, including, but not
+// limited to, the implied warranties of merchantability and fitness for
+// a particular purpose are disclaimed. In no event shall the copyright
+// holder or contributors be liable for any direct, indirect, incidental,
+// special, exemplary, or consequential damages (including, but not
+// limited to, procurement of substitute goods or services; loss of use,
+// data, or profits; or business interruption) however caused and on any
+// theory of liability, whether in contract, strict liability, or tort
+// (including negligence or otherwise) arising in any way out of the use
+// of this software, even if advised of the possibility of such damage.
+//========================================================================
+package edu.uidaho.junicon.runtime.junicon.iterators;
+
+import edu.uidaho.junicon.runtime.junicon.iterators.IIconAtom.IconTypes;
+
+import java.util.List;
+
+/**
+ * List that can hold its numeric elements unboxed.
+ * Used by index and promote to get and set numeric elements
+ * without boxing them, or wrapping them in untyped values.
+ *
+ * @author Peter Mills
+ */
+public interface IIconNumericList <V> extends List <V> {
+  /**
+   * Gets the type shared by all elements:
+   * INTEGER if all are Long, REAL if all are Double, or else UNTYPED.
+   */
+  public IconTypes getElementType ();
+
+  /**
+   * Gets an element as a long.
+   */
+  public long getLong (int index);
+
+  /**
+   * Gets an element as a double.
+   */
+  public double getDouble (int index);
+
+  /**
+   * Sets an element to a Long.
+   */
+  public void setLong (int index, long x);
+
+  /**
+   * Sets an element to a Double.
+   */
+  public void setDouble (int index, double x);
+
+}
+
+//==== END OF FILE
@@ -92,7 +92,7 @@ public class IconAssign <T> extends IconComposition <T> {
 	    IconValue value = null;
 	    public void save (IIconAtom<T> var) {
 		this.var = var;
-		if (var != null) { value = var.getValue(); }
+		if (var != null) { value = var.getValue().snapshot(); }
 	    }
 	    public void restore () {
 		if (var == null) { return; }
@@ -108,7 +108,8 @@ public class IconAssign <T> extends IconComposition <T> {
   public IIconAtom<T> assignOperator (IIconAtom<T> lhs, IIconAtom<T> rhs) {
 	if ((lhs == null) || (rhs == null)) { return null; }
         IconValue savedLhs = null;
-	if (isSwap) { savedLhs = lhs.getValue(); }
+	// Saved value outlives the assignment, which may reuse a counter
+	if (isSwap) { savedLhs = lhs.getValue().snapshot(); }
 	if (augmentOp != null) {
 		IIconAtom<T> result = augmentOp.apply(lhs, rhs);
 		if (result == FAIL) { return FAIL; }
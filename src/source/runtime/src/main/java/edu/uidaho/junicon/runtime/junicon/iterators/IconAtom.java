@@ -84,6 +84,8 @@ public class IconAtom <T> implements IIconAtom <T> {
 
   public IIconAtom<T> onReturn () { return this; }
 
+  public IIconAtom<T> snapshot () { return this; }
+
   public IIconAtom<T> local () { return this; }
 
   //==========================================================================
@@ -98,42 +98,62 @@ public class IconComposition <T> extends IconIterator <T>
   // Map info = new HashMap(); // debug info:line/col/source, if in suspend chain
 
   //====
-  // Only one of the following compositions can apply
+  // Kind of composition, with its modifiers, packed into one word.
+  // Only one of PRODUCT, CONCAT, ZIP, REDUCE, REPEAT, or the statements
+  // can apply.  Set when the composition is built, then only read.
   //====
-  private boolean isProduct = false;	// can only be true if binary
-  private boolean isConcat = false;  // default if operands and no composition
+  private int kind = UNARY | UNARY_MAP;
+
+  private static final int PRODUCT = 1;	// can only be true if binary
+  private static final int CONCAT = 1 << 1; // default if operands and no composition
 				     // is like unary concat, ignores y child.
 		// XX: WAS: default is concat if binary: isConcat iff !isProduct
-  private boolean isZip = false;	// interleave
-  private boolean isReduce = false;	// instead of map, with operator
-  private boolean isRepeat = false;	// can only be true if isUnary
-  private boolean isSuspendStatement = false; // causes suspend event (isSuspended)
-  private boolean isContinuationStatement = false; // causes continuation event
-  private boolean isBreakStatement = false;    // causes break event (isBreak)
-  private boolean isContinueStatement = false; // causes skip event (isContinue)
-  private boolean isReturnStatement = false; // causes return event (isReturned)
+  private static final int ZIP = 1 << 2;	// interleave
+  private static final int REDUCE = 1 << 3;	// instead of map, with operator
+  private static final int REPEAT = 1 << 4;	// can only be true if isUnary
+  private static final int SUSPEND_STATEMENT = 1 << 5; // causes suspend event (isSuspended)
+  private static final int CONTINUATION_STATEMENT = 1 << 6; // causes continuation event
+  private static final int BREAK_STATEMENT = 1 << 7;    // causes break event (isBreak)
+  private static final int CONTINUE_STATEMENT = 1 << 8; // causes skip event (isContinue)
+  private static final int RETURN_STATEMENT = 1 << 9; // causes return event (isReturned)
 
-  //====
   // Limit modifiers that can be attached to any composition
-  //====
-  private boolean isNeverRestart = false;  // consumable resource, never renews
+  private static final int NEVER_RESTART = 1 << 10;  // consumable resource, never renews
 
-  //====
   // Modifiers that can be attached to any composition
+  private static final int MAP = 1 << 11; // map if operator != null, isMap iff !isReduce
+  private static final int UNARY_MAP = 1 << 12;  // if isMap, map over each of x and y
+  private static final int GUARDED = 1 << 13;	// if guard is non-null
+  private static final int LOOP = 1 << 14;	// loop boundary, for break
+  private static final int CONTINUE_BOUNDARY = 1 << 15; // continue boundary, for continue
+
+  // Set by constructor
+  private static final int UNARY = 1 << 16;  // default is unary: isBinary iff y!=null
+  private static final int X_IN_CHAIN = 1 << 17; // left operand in associative chain (x & y) & z
+  private static final int LEAF_OPERANDS = 1 << 18; // operands are not compositions, can fuse
+
+  //====
+  // Limits and guard
   //====
-  private boolean isMap = false; // map if operator != null, isMap iff !isReduce
-  private boolean isUnaryMap = true;  // if isMap, map over each of x and y
   private long upperlimit = -1;	// if >= 0, limits number of iterations to at most this
   private IconIterator<?> limitWithIterator = null;  // limits iteration to last result
   private IconIterator<?> guard = null; // uses testGuard() method, set by guard's last next
-  private boolean isGuarded = false;	// if guard is non-null
   private boolean isGuardFailed = false;
-  private boolean isLoop = false;	// loop boundary, for break
-  private boolean isContinueBoundary = false; // continue boundary, for continue
 
-  // Set by constructor
-  private boolean isUnary = true;  // default is unary: isBinary iff y!=null
-  boolean xIsInChain = false;   // left operand in associative chain (x & y) & z
+  /**
+   * If operands that are not themselves compositions,
+   * such as singletons, ranges, and invocations,
+   * are driven in place by their parent instead of being pushed on the stack.
+   */
+  public static boolean isFuseLeaves = true;
+
+  /**
+   * If method invocations step their method body on the explicit stack
+   * of the enclosing composition, i.e., trampoline across method boundaries,
+   * instead of recursing into the body's nextAtom().
+   * Recursion depth is then limited by the heap, not the thread stack.
+   */
+  public static boolean isTrampoline = true;
 
   // Operator for map and reduce : null if no operation
   private UnaryOperator<IIconAtom<T>> unaryOperator = null;
@@ -143,7 +163,16 @@ public class IconComposition <T> extends IconIterator <T>
 
   // nextAtom state
   IconIterator<T> current = null;	// Current place in stack
-  boolean isPopped = false;		// Must handle child result
+
+  // Initial number of trampoline frames for nested method bodies
+  private static final int INITIAL_FRAMES = 16;
+
+  /**
+   * Returns if any of the given kind bits are set.
+   */
+  private boolean hasKind (int bits) {
+	return (kind & bits) != 0;
+  }
 
   //==========================================================================
   // Iterator methods.
@@ -155,7 +184,7 @@ public class IconComposition <T> extends IconIterator <T>
   //	for example will perform function invocation for IconInvokeIterator.
   //====
   public IIconIterator<T> restart () {
-	if (isNeverRestart && haveRestartedOnce) { return this; };
+	if (hasKind(NEVER_RESTART) && haveRestartedOnce) { return this; };
 	reset();
 	if (x != null) x.reset();  // if (x != null) x.restart();
 	if (y != null) y.reset();  // if (y != null) y.restart();
@@ -172,9 +201,16 @@ public class IconComposition <T> extends IconIterator <T>
   // If the iterator is a composition over other iterator operands,
   // it interprets a child as failing if either it isFailed() or returns FAIL.
   // Returns IconAtom, or null.
+  //
+  // If isTrampoline, method invocations step their method body
+  // on this same explicit stack, instead of recursing into its nextAtom().
+  // The owner is the composition whose step is in progress, i.e.,
+  // this or the body of an invocation, and frames hold the invocations
+  // and owners to return to once the body's step completes.
   //====
   public IIconAtom<T> nextAtom () {	// throws NoSuchElementException
-    boolean isDone = false;
+    boolean isPopped = false;		// Must handle child result
+    boolean isStepped = false;		// Invocation completed, slave to parent
     IconIterator<T> topush = null;
     IconIterator<T> prev = null;
 
@@ -186,24 +222,20 @@ public class IconComposition <T> extends IconIterator <T>
 	return result;
     }
 
-    // If suspended, just use current.   Otherwise, make sure are top-level.
-    if ((! isSuspended) || (current == null)) {
-	current = this;
-	current.parent = null;
-    }
-    if (isSuspended && useOnSuspendAdvice) { onSuspendAdvice.beforeResume(); }
+    // Trampoline frames, allocated on first invocation of a method body
+    IconComposition<T> owner = this;
+    IconComposition<T>[] owners = null;
+    IconInvokeIterator<T>[] invocations = null;
+    int depth = 0;
 
-    // Reset state
-    isSuspended = false;
-    isContinuation = false;
-    isReturned = false;
-    isPopped = false;
-    isDone = false;
+    IconIterator<T> current = beginStep();
 
     // Outermost next: chain through composition until succeed, fail, or suspend
-    while (! isDone) {
-	// Process child result, for composition
-	if (isPopped) {
+    while (true) {
+	if (isStepped) {
+	  isStepped = false;
+	} else if (isPopped) {
+	  // Process child result, for composition
    	  isPopped = false;
 	  topush = current.nextChildEnd();	// handlePoppedChild();
 	  if ((topush != null) && (! current.isFailed)) {
@@ -230,6 +262,7 @@ public class IconComposition <T> extends IconIterator <T>
 	} else {
 	  // Next(): push child, pop to parent, or top-level return
 	  if (current.isComposition) {
+	    IconIterator<T> fused = null;	// Fused leaf operand that returned
 	    current.nextBegin();
 	    if (current.useOnNextAdvice) { current.afterNextBegin(); } // even if fail
 	    if (! current.isFailed) {
@@ -239,16 +272,42 @@ public class IconComposition <T> extends IconIterator <T>
 		boolean doChildren = current.nextChildBegin();
 		if ((! current.isFailed) && doChildren) {
 			// Can fail from guard if unary
-		  prev = current;		// Push X or Y
-		  if (current.inLeft) { current = current.x;
-		  } else { current = current.y; }
-		  current.parent = prev;	// Set parent, just to be safe
-		  continue;
+		  if (! (isFuseLeaves && ((IconComposition<T>) current).hasKind(LEAF_OPERANDS))) {
+		    prev = current;		// Push X or Y
+		    if (current.inLeft) { current = current.x;
+		    } else { current = current.y; }
+		    current.parent = prev;	// Set parent, just to be safe
+		    continue;
+		  }
+		  // Fused: drive leaf operands in place, unless one returned
+		  fused = ((IconComposition<T>) current).nextLeafOperands();
+		  if (fused != null) { current = fused; }
 		}
 	      }
-	      current.nextEnd();
+	      if (fused == null) { current.nextEnd(); }
 	    } else { current.nextEndFinally(); }
-	    if (current.useOnNextAdvice) { current.afterNextEnd(); } // even if fail
+	    if ((fused == null) && current.useOnNextAdvice) {
+		current.afterNextEnd();		// even if fail
+	    }
+	  } else if (current.isInvocation && isTrampoline) {
+	    // Step method body in place, on this stack
+	    IconComposition<T> body =
+		((IconInvokeIterator<T>) current).trampolineBegin();
+	    if (body != null) {
+		if (owners == null) {
+		    owners = new IconComposition[INITIAL_FRAMES];
+		    invocations = new IconInvokeIterator[INITIAL_FRAMES];
+		} else if (depth == owners.length) {
+		    owners = Arrays.copyOf(owners, depth * 2);
+		    invocations = Arrays.copyOf(invocations, depth * 2);
+		}
+		owner.current = current;
+		owners[depth] = owner;
+		invocations[depth++] = (IconInvokeIterator<T>) current;
+		owner = body;
+		current = body.beginStep();
+		continue;
+	    }
 	  } else {
 	    current.nextAtom();
 	  }
@@ -261,24 +320,57 @@ public class IconComposition <T> extends IconIterator <T>
 	  // Break and continue will just cycle back up to loop point.
 	  //	isReturned = suspend | method return | break | continue
 	  //====
-	  if (current.isReturned && handleChildReturn(current)) {
-		nextEndChildReturn();
-		if (current.isMethodReturned && useOnSuspendAdvice) {
-			onSuspendAdvice.afterMethodReturn();
-		} else if (current.isSuspended && useOnSuspendAdvice) {
-			onSuspendAdvice.afterSuspend();
+	  if (current.isReturned && owner.handleChildReturn(current)) {
+		owner.nextEndChildReturn();
+		if (current.isMethodReturned && owner.useOnSuspendAdvice) {
+			owner.onSuspendAdvice.afterMethodReturn();
+		} else if (current.isSuspended && owner.useOnSuspendAdvice) {
+			owner.onSuspendAdvice.afterSuspend();
 		}
-		return current.result;
+	  } else {
+		// Pop to parent, otherwise
+		current = current.parent;
+		isPopped = true;
+		continue;
 	  }
-	  // Pop to parent, otherwise
-	  current = current.parent;
-	  isPopped = true;
-	  continue;
         }
-	// At outermost top level, have done nextEnd, so just return next result
-	return current.result;	// Return result, not lastResult (parent==this)
+
+	//====
+	// Owner has completed its step.
+	// At outermost top level, have done nextEnd, so just return next result.
+	// Otherwise return to the invocation of the owner's method body.
+	//====
+	owner.current = current;
+	if (depth == 0) {
+		return current.result;	// Return result, not lastResult
+	}
+	current = invocations[--depth];
+	owner = owners[depth];
+	invocations[depth] = null;
+	owners[depth] = null;
+	((IconInvokeIterator<T>) current).trampolineEnd();
+	isStepped = true;
+    }
+  }
+
+  /**
+   * Prepares this composition to begin or resume a step of nextAtom().
+   * If suspended, resumes from current, otherwise starts at the top level.
+   * @return where to begin the step.
+   */
+  private IconIterator<T> beginStep () {
+    // If suspended, just use current.   Otherwise, make sure are top-level.
+    if ((! isSuspended) || (current == null)) {
+	current = this;
+	current.parent = null;
     }
-    return current.result;	// Never gets here
+    if (isSuspended && useOnSuspendAdvice) { onSuspendAdvice.beforeResume(); }
+
+    // Reset state
+    isSuspended = false;
+    isContinuation = false;
+    isReturned = false;
+    return current;
   }
 
   //====
@@ -299,6 +391,22 @@ public class IconComposition <T> extends IconIterator <T>
 	return this;
   }
 
+  //==========================================================================
+  // Singleton.
+  //==========================================================================
+
+  /**
+   * Limits the composition to at most one result,
+   * so that resuming it fails without re-descending into its operands.
+   * The transform marks operations, assignments, and products
+   * that it infers can never produce more than one result.
+   * Returns the composition, so that it can be passed as an operand.
+   */
+  public IconComposition<T> singleton () {
+	super.singleton();
+	return this;
+  }
+
   //==========================================================================
   // Child iterator methods.
   //==========================================================================
@@ -339,12 +447,15 @@ public class IconComposition <T> extends IconIterator <T>
 		//====
 		// Map if isMap -- map is innermost
 		//====
-		if (isMap && (isUnary || isUnaryMap)) {
+		if (hasKind(MAP) && hasKind(UNARY | UNARY_MAP)) {
 			result = unaryMap(result);
 			//====
 			// Skip if fail since map(op).over(x) = (i in x) & op(i)
 			//====
-			if (result == FAIL) { return x; }	// Push x
+			if (result == FAIL) {			// Push x
+				if (IconEvents.isEnabled) { IconEvents.backtrack(); }
+				return x;
+			}
 		}
 		xIsEmpty = false;
 	}
@@ -353,15 +464,22 @@ public class IconComposition <T> extends IconIterator <T>
 	// The following will only occur for unary reduce and repeat
 	// (where continue will cycle at loop boundary).
 	//====
-	if (isRepeat && (x.isFailed && (! xIsEmpty))) {
+	if (hasKind(REPEAT) && (x.isFailed && (! xIsEmpty))) {
 		// x.reset();
 		xIsEmpty = true;
 		return x;					// Push x
 	}
 
-	if (isReduce) {		// Reduce is unary, so can cause isFailed.
+	if (hasKind(REDUCE)) {		// Reduce is unary, so can cause isFailed.
+		//====
+		// Only a fold retains its result across steps, so only then
+		//	freeze a reused counter.  Every and while just discard it.
+		//====
 		if ((! haveReducedOnce) && (reduceInitial == null)) {
 			reduceResult = result;
+			if ((reduceOperator != null) && (result != null)) {
+				reduceResult = result.snapshot();
+			}
 			haveReducedOnce = true;
 		} else {
 		    if (! haveReducedOnce) {
@@ -380,6 +498,8 @@ public class IconComposition <T> extends IconIterator <T>
 			if (reduceResult == FAIL) {
 				isFailed = true;
 				reduceResult = null;
+			} else if (reduceResult != null) {
+				reduceResult = reduceResult.snapshot();
 			}
 		    }
 		}
@@ -394,7 +514,7 @@ public class IconComposition <T> extends IconIterator <T>
 	//====
 	// Reduce returns singleton or fails; if null operator always fails
 	//====
-	if (isReduce) {		// End of reduce : reduce is unary
+	if (hasKind(REDUCE)) {		// End of reduce : reduce is unary
 		if ((! x.isFailed) && (! haveXresult) && (! isFailed)) {
 			return x;				// Push x
 		}
@@ -405,7 +525,7 @@ public class IconComposition <T> extends IconIterator <T>
 			haveXresult = true;
 			haveReduceResult = true;
 		}
-	} else if ((x.isFailed || (! haveXresult)) && isUnary) {
+	} else if ((x.isFailed || (! haveXresult)) && hasKind(UNARY)) {
 		isFailed = true;
 	}
 	lastXresult = result;
@@ -415,7 +535,7 @@ public class IconComposition <T> extends IconIterator <T>
 	//	Will only have isFailed if unary, and reduce is unary.
 	// WATCH OUT: Product can be unary, so must exclude unary first.
 	//====
-	if (isUnary) {
+	if (hasKind(UNARY)) {
 	  if (isFailed) { result = FAIL; }
 	  return null;		// DO NOT push x.  Let parent handle result.
 	}
@@ -436,7 +556,7 @@ public class IconComposition <T> extends IconIterator <T>
 	// Binary zip: for each (x,y), step-by-step in parallel
 	//	Does y iterator in parallel
 	//====
-	if (isProduct ||  isZip) {
+	if (hasKind(PRODUCT | ZIP)) {
 	    if (! haveXresult) {
 		isFailed = true;	// filterChildFail()
 		result = FAIL;
@@ -448,13 +568,13 @@ public class IconComposition <T> extends IconIterator <T>
 	    return y;						// Push y
 	}
 
-	if (isConcat) {
-	  if (! isUnary) {		// Default is concat
+	if (hasKind(CONCAT)) {
+	  if (! hasKind(UNARY)) {		// Default is concat
 	   if (haveXresult) {
 		result = lastXresult;
 		return null;
 	   }
-	   if (isGuarded && testGuard()) {			// Skip y
+	   if (hasKind(GUARDED) && testGuard()) {			// Skip y
 		isFailed = true;	// filterChildFail()
 		result = FAIL;
 		return null;
@@ -493,14 +613,17 @@ public class IconComposition <T> extends IconIterator <T>
     }
 
     // Handle product, zip, concat
-    if (isProduct) {
-	if (isMap && (! y.isFailed)) {
+    if (hasKind(PRODUCT)) {
+	if (hasKind(MAP) && (! y.isFailed)) {
 		result = binaryMap(lastXresult, result);
 		//====
 		// Skip if fail since
 		//	map(op).product(x,y) = (i in x) & (j in y) & op(i,j)
 		//====
-		if (result == FAIL) { return y; }		// Push y
+		if (result == FAIL) {				// Push y
+			if (IconEvents.isEnabled) { IconEvents.backtrack(); }
+			return y;
+		}
 	}
 	if (y.isFailed) {
 		if (x.isFailed) {
@@ -508,6 +631,7 @@ public class IconComposition <T> extends IconIterator <T>
 			result = FAIL;
 			return null;
 	  	}
+		if (IconEvents.isEnabled) { IconEvents.backtrack(); }
 		inLeft = true;
 		haveXresult = false;
 		lastXresult = null;
@@ -518,8 +642,8 @@ public class IconComposition <T> extends IconIterator <T>
     	return null;		// DO NOT push y.  Let parent handle result.
     }
 
-    if (isZip) {
-	if (isMap && (! y.isFailed)) {
+    if (hasKind(ZIP)) {
+	if (hasKind(MAP) && (! y.isFailed)) {
 		result = binaryMap(lastXresult, result);
 		//====
 		// Skip if fail since
@@ -538,9 +662,9 @@ public class IconComposition <T> extends IconIterator <T>
     	return x;			// Push x
     }
 
-    if (isConcat) {
-      if (! isUnary) {		// Default is concat
-	if (isMap && (! y.isFailed)) {
+    if (hasKind(CONCAT)) {
+      if (! hasKind(UNARY)) {		// Default is concat
+	if (hasKind(MAP) && (! y.isFailed)) {
 		result = unaryMap(result);	// y.getResult()
 		//====
 		// Skip if fail since map(op).over(x) = (i in x) & op(i)
@@ -574,12 +698,12 @@ public class IconComposition <T> extends IconIterator <T>
    *	Default if not overridden is to process children.
    */
   public boolean nextChildBegin () {
-    if (y == null) { isUnary = true; }	// Just to be sure, so no null pointer
+    if (y == null) { kind |= UNARY; }	// Just to be sure, so no null pointer
     if (inLeft) {
 	haveXresult = false;
 	lastXresult = null;
-	if (isGuarded && (! testGuard())) {
-		if (isUnary) {
+	if (hasKind(GUARDED) && (! testGuard())) {
+		if (hasKind(UNARY)) {
 			isFailed = true;
 			result = FAIL;
 		} else {			// Go to Y
@@ -606,7 +730,7 @@ if (isDebug) {
 	// Restart if failed, first next(), or always restart and not suspended.
 	// 	If failed restart even if suspended, since do not resume on next
 	if (isFailed || (! haveDoneNext) ||
-			(isAlwaysRestart && (! isSuspended))) {
+			(hasModifier(ALWAYS_RESTART) && (! isSuspended))) {
 		restart();
 		if (isFailed) { // for neverRestart
 			result = FAIL;		// handleFail()
@@ -616,7 +740,7 @@ if (isDebug) {
 
 if (isDebug) {
 	if (name.isEmpty()) { name = this.getClass().getName(); }
-	System.out.println("Next " + name + (isSuspendStatement?" SuspendStatement":""));
+	System.out.println("Next " + name + (hasKind(SUSPEND_STATEMENT)?" SuspendStatement":""));
 }
 
 	result = null;
@@ -625,7 +749,7 @@ if (isDebug) {
 	//	IconReturn is bounded, so will fail after returns, but can avoid
 	// 	re-descending into iterator by below isMethodReturned check.
 	if (! isSuspended) {
-	  if (((isSingleton || isBounded) && haveDoneNext)
+	  if ((hasModifier(SINGLETON | BOUNDED) && haveDoneNext)
 			|| ((upperlimit >= 0) && (count >= upperlimit))
 			|| isMethodReturned) {
 		haveDoneNext = true;
@@ -635,7 +759,7 @@ if (isDebug) {
 	  }
 
 	  // If reduce returned a result last time, then fail this time
-	  if (isReduce && haveReduceResult) {
+	  if (hasKind(REDUCE) && haveReduceResult) {
 		isFailed = true;
 		result = FAIL;
 		return;
@@ -676,14 +800,14 @@ if (isDebug) {
 
 	// HandleMyReturn: handle return/suspend/break/continue statement
 	if (! isReturned) {
-	    if (isReturnStatement) {
+	    if (hasKind(RETURN_STATEMENT)) {
 		isMethodReturned = true; isReturned = true;
-	    } else if (isSuspendStatement & (! isFailed)) {
+	    } else if (hasKind(SUSPEND_STATEMENT) & (! isFailed)) {
 		isSuspended = true; isReturned = true;
-	    } else if (isContinuationStatement & (! isFailed)) {
+	    } else if (hasKind(CONTINUATION_STATEMENT) & (! isFailed)) {
 		isContinuation = true; isSuspended = true; isReturned = true;
-	    } else if (isBreakStatement) { isBreaked = true; isReturned = true;
-	    } else if (isContinueStatement) {
+	    } else if (hasKind(BREAK_STATEMENT)) { isBreaked = true; isReturned = true;
+	    } else if (hasKind(CONTINUE_STATEMENT)) {
 		isContinued = true; isReturned = true;
 	    }
 	}
@@ -691,10 +815,10 @@ if (isDebug) {
 	// Handle fail overrides, not allowed with return/suspend/break/continue
 	if (! isReturned) {
 	    // Guard trumps alwaysSucceed -- if IsGuarded, use its value
-	    if (isAlwaysSucceed) {	     // isGuarded trumps alwaysSucceed
- 		if (isGuarded) { isFailed = ! testGuard(); }
+	    if (hasModifier(ALWAYS_SUCCEED)) {	     // isGuarded trumps alwaysSucceed
+ 		if (hasKind(GUARDED)) { isFailed = ! testGuard(); }
 	    }
-	    handleFailOverrides(isGuarded); // ignore alwaysSucceed if guarded
+	    handleFailOverrides(hasKind(GUARDED)); // ignore alwaysSucceed if guarded
 	}
 
 	// Return failure or success result
@@ -717,6 +841,28 @@ if (isDebug) {
 	}
   }
 
+  /**
+   * Fused nextAtom() over operands that are not compositions.
+   * Equivalent to pushing x or y on the stack, invoking its nextAtom(),
+   * and popping back to nextChildEnd(), but done in a local loop
+   * that skips the stack machinery of the outermost next.
+   * Since leaf operands cannot themselves push children,
+   * the only way out other than completion is a child that returned,
+   * e.g., a continuation from an invoked co-expression,
+   * which the caller then treats exactly as if it had been pushed.
+   * @return the child that returned, or null if done.
+   */
+  IconIterator<T> nextLeafOperands () {
+	IconIterator<T> child = inLeft ? x : y;
+	while (true) {
+		child.parent = this;
+		child.nextAtom();
+		if (child.isReturned) { return child; }
+		child = nextChildEnd();
+		if ((child == null) || isFailed) { return null; }
+	}
+  }
+
   /**
    * Handle continue or break for child, e.g., x or y.
    * Propagates state to parent.
@@ -725,7 +871,7 @@ if (isDebug) {
   private boolean filterChildReturn (IconIterator<T> child) {
 	if (child == null) { return false; }
 	if (child.isBreaked()) {
-		if (isLoop) {	// This is a break at loop boundary, so fails.
+		if (hasKind(LOOP)) {	// This is a break at loop boundary, so fails.
 			isFailed = true;	// return filterChildFail();
 			result = FAIL;
 		} else {
@@ -733,7 +879,7 @@ if (isDebug) {
 			isReturned = true;
 		}
 	} else if (child.isContinued()) {
-		if (isContinueBoundary) {
+		if (hasKind(CONTINUE_BOUNDARY)) {
 			isFailed = true;
 			result = FAIL;
 		} else {			// Propagate up to boundary
@@ -741,7 +887,7 @@ if (isDebug) {
 			isReturned = true;
 		}
 	}
-	if (child.isFailed && isUnary) {
+	if (child.isFailed && hasKind(UNARY)) {
 		isFailed = true;
 		result = FAIL;
 	}
@@ -782,7 +928,7 @@ if (isDebug) {
   //====
   public boolean testGuard () {
 	isGuardFailed = false;
-	if (isGuarded) {
+	if (hasKind(GUARDED)) {
 		if (guard.isSingleton()) {
 			if (guard.isEmpty()) { isGuardFailed = true; }
 		} else if (guard.isFailed()) { isGuardFailed = true; }
@@ -850,8 +996,8 @@ if (isDebug) {
   public IIconComposition <T> asComposition () { return this; }
 
   public IIconComposition<T> product () {
-	this.isProduct = true;
-	this.isUnaryMap = false;
+	kind |= PRODUCT;
+	kind &= ~UNARY_MAP;
 	if ((x != null) && getXIsInChain()) {
 		IIconComposition <T> comp = x.asComposition();
 		if (comp != null) { comp.product(); }
@@ -860,9 +1006,9 @@ if (isDebug) {
   }
 
   public IIconComposition<T> concat () {
-	this.isConcat = true;
+	kind |= CONCAT;
 	// this.isProduct = false;
-	this.isUnaryMap = true;
+	kind |= UNARY_MAP;
 	if ((x != null) && getXIsInChain()) {
 		IIconComposition <T> comp = x.asComposition();
 		if (comp != null) { comp.concat(); }
@@ -871,8 +1017,8 @@ if (isDebug) {
   }
 
   public IIconComposition<T> zip () {
-	this.isZip = true;
-	this.isUnaryMap = false;
+	kind |= ZIP;
+	kind &= ~UNARY_MAP;
 	if ((x != null) && getXIsInChain()) {
 		IIconComposition <T> comp = x.asComposition();
 		if (comp != null) { comp.zip(); }
@@ -886,7 +1032,7 @@ if (isDebug) {
 		IIconAtom<T> initial) {
 	this.reduceOperator = o;
 	this.reduceInitial = initial;
-	this.isReduce=true;	// this.isMap=false;
+	kind |= REDUCE;	// this.isMap=false;
 	if ((x != null) && getXIsInChain()) {
 		IIconComposition <T> comp = x.asComposition();
 		if (comp != null) { comp.reduce(o, initial); }
@@ -898,20 +1044,20 @@ if (isDebug) {
   public IIconComposition<T> reduce (BinaryOperator<IIconAtom<T>> o) {
 	return reduce(o,null); }
   public IIconComposition<T> reduce () { return reduce(reduceOperator, null); }
-  public IIconComposition<T> repeat () { this.isRepeat=true; return this; }
+  public IIconComposition<T> repeat () { kind |= REPEAT; return this; }
 
-  public IIconComposition<T> doReturn () { this.isReturnStatement = true; return this; }
-  public IIconComposition<T> doSuspend () { this.isSuspendStatement = true; return this; }
-  public IIconComposition<T> doContinuation () { this.isContinuationStatement = true; return this; }
-  public IIconComposition<T> doBreak () { this.isBreakStatement = true; return this; }
-  public IIconComposition<T> doContinue () { this.isContinueStatement = true; return this; }	// skip
+  public IIconComposition<T> doReturn () { kind |= RETURN_STATEMENT; return this; }
+  public IIconComposition<T> doSuspend () { kind |= SUSPEND_STATEMENT; return this; }
+  public IIconComposition<T> doContinuation () { kind |= CONTINUATION_STATEMENT; return this; }
+  public IIconComposition<T> doBreak () { kind |= BREAK_STATEMENT; return this; }
+  public IIconComposition<T> doContinue () { kind |= CONTINUE_STATEMENT; return this; }	// skip
 
   //====
   // Modifiers that can be attached to any composition
   //====
   public IIconComposition<T> map (UnaryOperator<IIconAtom<T>> o) {
 	this.unaryOperator = o;
-	this.isMap=true;	// this.isReduce=false;
+	kind |= MAP;	// this.isReduce=false;
 	if ((x != null) && getXIsInChain()) {
 		IIconComposition <T> comp = x.asComposition();
 		if (comp != null) { comp.map(o); }
@@ -921,7 +1067,7 @@ if (isDebug) {
 
   public IIconComposition<T> map (BinaryOperator<IIconAtom<T>> o) {
 	this.binaryOperator = o;
-	this.isMap=true;	// this.isReduce=false;
+	kind |= MAP;	// this.isReduce=false;
 	if ((x != null) && getXIsInChain()) {
 		IIconComposition <T> comp = x.asComposition();
 		if (comp != null) { comp.map(o); }
@@ -932,7 +1078,7 @@ if (isDebug) {
   public IIconComposition<T> map (TriFunction<IIconIterator<T>,
 		IIconAtom<T>> o) {
 	this.contextOperator = o;
-	this.isMap=true;	// this.isReduce=false;
+	kind |= MAP;	// this.isReduce=false;
 	if ((x != null) && getXIsInChain()) {
 		IIconComposition <T> comp = x.asComposition();
 		if (comp != null) { comp.map(o); }
@@ -941,7 +1087,7 @@ if (isDebug) {
   }
 
   public IIconComposition<T> map () {
-	this.isMap=true;	// this.isReduce=false;
+	kind |= MAP;	// this.isReduce=false;
 	return this;
   }
 
@@ -967,10 +1113,10 @@ if (isDebug) {
 	this.limitWithIterator=i; return this; }
 
   public IIconIterator<T> neverRestart () {
-	this.isNeverRestart = true; return this; } // resource
+	kind |= NEVER_RESTART; return this; } // resource
 
   public boolean isSingleton () {
-	return (isSingleton || isBounded || (upperlimit == 1));
+	return (hasModifier(SINGLETON | BOUNDED) || (upperlimit == 1));
   }
 
   //====
@@ -978,18 +1124,18 @@ if (isDebug) {
   //====
   public IIconComposition<T> guard (IconIterator<?> g) {
 	this.guard = g;
-	this.isGuarded = false;
-	if (g != null) { this.isGuarded = true; }
+	kind &= ~GUARDED;
+	if (g != null) { kind |= GUARDED; }
 	return this;
   }
-  public IIconComposition<T> loopBoundary () { this.isLoop=true; return this; }
+  public IIconComposition<T> loopBoundary () { kind |= LOOP; return this; }
 
   public IIconComposition<T> continueBoundary () {
-	this.isContinueBoundary = true;
+	kind |= CONTINUE_BOUNDARY;
 	return this;
   }
 
-  public boolean isGuarded () { return isGuarded; }
+  public boolean isGuarded () { return hasKind(GUARDED); }
 
   //====
   // Operands
@@ -1002,20 +1148,21 @@ if (isDebug) {
   //====
   public IIconComposition<T> setX (IconIterator<T> x, boolean isInChain) {
 	this.x = x;
+	deriveLeafOperands();
 	if (x == null) { return this; }
-	this.xIsInChain = isInChain;
+	kind = (isInChain) ? (kind | X_IN_CHAIN) : (kind & ~X_IN_CHAIN);
 	x.setParent(this);
 	IIconComposition <T> comp = x.asComposition();
 	if (getXIsInChain() && (comp != null)) {
-		if (isProduct) { comp.product(); }
-		if (isConcat) { comp.concat(); }
-		if (isZip) { comp.zip(); }
-		if (isReduce) {
+		if (hasKind(PRODUCT)) { comp.product(); }
+		if (hasKind(CONCAT)) { comp.concat(); }
+		if (hasKind(ZIP)) { comp.zip(); }
+		if (hasKind(REDUCE)) {
 			comp.reduce(reduceOperator, reduceInitial);
 			reduceInitial = null;
 		}
 		// if (isMap) { comp.map(operator); }
-		if (isMap) {
+		if (hasKind(MAP)) {
 		  if (binaryOperator != null) { comp.map(binaryOperator); }
 		  if (unaryOperator != null) { comp.map(unaryOperator); }
 		  if (contextOperator != null) { comp.map(contextOperator); }
@@ -1029,13 +1176,31 @@ if (isDebug) {
   public IconIterator<T> getY () { return y; }
   public IIconComposition<T> setY (IconIterator<T> y) {
 	this.y = y;
-	if (y != null) { y.setParent(this); isUnary = false; } ;
+	if (y != null) { y.setParent(this); kind &= ~UNARY; } ;
+	deriveLeafOperands();
 	return this; }
 
+  /**
+   * Derive if operands can be fused, i.e., neither is a composition,
+   * nor an invocation if it will be trampolined.
+   */
+  private void deriveLeafOperands () {
+	kind &= ~LEAF_OPERANDS;
+	if ((x != null) && (! isStackedOperand(x))
+			&& ((y == null) || (! isStackedOperand(y)))) {
+		kind |= LEAF_OPERANDS;
+	}
+  }
+
+  private static boolean isStackedOperand (IconIterator<?> operand) {
+	return operand.isComposition
+		|| (isTrampoline && operand.isInvocation);
+  }
+
   //====
   // Is sub-expression in left-associative chain, e.g., (x & y) & z
   //====
-  public boolean getXIsInChain () { return xIsInChain; }
+  public boolean getXIsInChain () { return hasKind(X_IN_CHAIN); }
 
   //==========================================================================
   // Constructors
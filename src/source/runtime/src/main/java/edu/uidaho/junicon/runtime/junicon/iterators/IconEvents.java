@@ -0,0 +1,176 @@
+//========================================================================
+// Copyright (c) 2015 Orielle, LLC.  
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions
+// are met:
+//
+// 1. Redistributions of source code must retain the above copyright
+//    notice, this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+//    notice, this list of conditions and the following disclaimer in the
+//    documentation and/or other materials provided with the distribution.
+//
+// This software is provided by the copyright holders and contributors
+// "as is" and any express or implied warranties, including, but not
+// limited to, the implied warranties of merchantability and fitness for
+// a particular purpose are disclaimed. In no event shall the copyright
+// holder or contributors be liable for any direct, indirect, incidental,
+// special, exemplary, or consequential damages (including, but not
+// limited to, procurement of substitute goods or services; loss of use,
+// data, or profits; or business interruption) however caused and on any
+// theory of liability, whether in contract, strict liability, or tort
+// (including negligence or otherwise) arising in any way out of the use
+// of this software, even if advised of the possibility of such damage.
+//========================================================================
+package edu.uidaho.junicon.runtime.junicon.iterators;
+
+/**
+ * Runtime instrumentation of the iterator runtime
+ * using Java Flight Recorder events.
+ * Records procedure calls and returns, generator suspend and resume,
+ * failure-driven backtracking counts within each call,
+ * co-expression activation, and thread and pipe hand-off.
+ * Procedure events carry the Icon procedure name and class,
+ * recovered from the @MMethod annotation on the translated method.
+ * <P>
+ * Events are off by default, and are enabled either by the
+ * system property junicon.events=true or by setEnabled(true).
+ * When disabled, each instrumentation point costs a static field test,
+ * and this class never loads the flight recorder classes.
+ * Once enabled, the flight recorder is reached reflectively
+ * through IconFlightEvents, so the runtime needs no jdk.jfr to build or run.
+ * If the JVM has no flight recorder, events stay disabled.
+ * Once enabled, events are recorded whenever a recording is running,
+ * e.g., using -XX:StartFlightRecording or jcmd JFR.start,
+ * and can be selected using their junicon.* event names.
+ *
+ * @author Peter Mills
+ */
+public class IconEvents {
+
+  /**
+   * If instrumentation points record events.
+   * Use setEnabled() to change, so as to check for the flight recorder.
+   */
+  public static boolean isEnabled = false;
+
+  static {
+	if ("true".equals(System.getProperty("junicon.events", "false"))) {
+		setEnabled(true);
+	}
+  }
+
+  private IconEvents () { }
+
+  //==========================================================================
+  // Configuration.
+  //==========================================================================
+
+  /**
+   * Enables or disables events.
+   * Events remain disabled if the flight recorder is not available.
+   * @return if events are enabled.
+   */
+  public static boolean setEnabled (boolean onoff) {
+	if (onoff) {
+		try {
+			Class.forName("jdk.jfr.Event");
+			isEnabled = IconFlightEvents.isAvailable();
+		} catch (ClassNotFoundException | LinkageError e) {
+			isEnabled = false;
+		}
+	} else { isEnabled = false; }
+	return isEnabled;
+  }
+
+  //==========================================================================
+  // Procedure invocation.
+  //==========================================================================
+
+  /**
+   * Begins a procedure call for the given method body.
+   * @return call handle, or null if events are disabled.
+   */
+  public static Object beginCall (IconIterator<?> body) {
+	if (! isEnabled) { return null; }
+	return IconFlightEvents.beginCall(body);
+  }
+
+  /**
+   * Records a resume if the call was suspended.
+   */
+  public static void resumeCall (Object call) {
+	if (call == null) { return; }
+	IconFlightEvents.resumeCall(call);
+  }
+
+  /**
+   * Records the outcome of a step of the call.
+   * If the body failed or returned, ends the call,
+   * otherwise records that it suspended.
+   * @return call handle, or null if the call ended.
+   */
+  public static Object stepCall (Object call, boolean failed,
+		boolean returned) {
+	if (call == null) { return null; }
+	return IconFlightEvents.stepCall(call, failed, returned);
+  }
+
+  /**
+   * Ends a call whose body was reclaimed before it failed or returned.
+   */
+  public static void endCall (Object call) {
+	if (call == null) { return; }
+	IconFlightEvents.endCall(call);
+  }
+
+  //==========================================================================
+  // Backtracking.
+  //==========================================================================
+
+  /**
+   * Counts a failure-driven backtrack in the current thread.
+   * Counts are reported with the enclosing procedure call.
+   */
+  public static void backtrack () {
+	if (! isEnabled) { return; }
+	IconFlightEvents.backtrack();
+  }
+
+  //==========================================================================
+  // Co-expressions, threads, and pipes.
+  //==========================================================================
+
+  /**
+   * Records activation of a co-expression.
+   * @param kind kind of co-expression, e.g., coexpression or thread.
+   * @param isNested if activated inside another co-expression.
+   */
+  public static void activate (String kind, boolean isNested) {
+	if (! isEnabled) { return; }
+	IconFlightEvents.activate(kind, isNested);
+  }
+
+  /**
+   * Begins a hand-off of a value between a thread and its pipe.
+   * @param kind kind of hand-off, e.g., put or take.
+   * @return hand-off handle, or null if events are disabled.
+   */
+  public static Object beginHandoff (String kind) {
+	if (! isEnabled) { return null; }
+	return IconFlightEvents.beginHandoff(kind);
+  }
+
+  /**
+   * Ends a hand-off, recording if it failed.
+   */
+  public static void endHandoff (Object handoff, boolean failed) {
+	if (handoff == null) { return; }
+	IconFlightEvents.endHandoff(handoff, failed);
+  }
+}
+
+//==== END OF FILE
@@ -47,7 +47,8 @@ import java.lang.IllegalAccessException;	// Class getField
 /**
  * Provides setters and getters to access object fields by name,
  * or by index into list of declared public non-synthetic field names.
- * Uses Java reflection.
+ * Uses Java reflection, once per class, to build a table of
+ * field accessors that is cached for later accesses.
  *
  * @author Peter Mills
  */
@@ -64,9 +65,9 @@ public class IconField <T> extends IconAtom <T> {
   boolean isFrozen = false;
   Object fieldObject = null;	// frozen object to which field applies
   boolean haveField = false;	// have gotten field
-  Field field = null;		// frozen field
+  IconFieldAccessors.Accessor field = null;	// frozen field
 
-  List<Field> fields = null;	// declared public non-synthetic fields
+  IconFieldAccessors fields = null;	// declared fields of obj
   boolean haveAllFieldNames = false;	// have gotten names
 
 //============================================================================
@@ -231,15 +232,7 @@ public class IconField <T> extends IconAtom <T> {
 	    (isIndex ? Integer.toString(index) :
 	    (((names == null) && (names.length == 0)) ? "" : names[0])));
     }
-    Object value = null;
-    try {
-	value = field.get(fieldObject);
-    } catch (IllegalArgumentException e) {
-	throw e;
-    } catch (IllegalAccessException e) {
-	throw new IllegalArgumentException(e);
-    }
-    return (T) value;
+    return (T) field.get(fieldObject);
   }
 
   /**
@@ -257,13 +250,7 @@ public class IconField <T> extends IconAtom <T> {
 	    (isIndex ? Integer.toString(index) :
 	    (((names == null) && (names.length == 0)) ? "" : names[0])));
     }
-    try {
-	field.set(fieldObject, value);
-    } catch (IllegalArgumentException e) {
-	throw e;
-    } catch (IllegalAccessException e) {
-	throw new IllegalArgumentException(e);
-    }
+    field.set(fieldObject, value);
   }
 
   //=========================================================================
@@ -301,7 +288,7 @@ public class IconField <T> extends IconAtom <T> {
         deriveObject();
     }
     if (! haveAllFieldNames) {
-	fields = objectAsList(obj);
+	fields = IconFieldAccessors.forObject(obj);
 	haveAllFieldNames = true;
     }
     if (fields == null) { return 0; }
@@ -312,25 +299,17 @@ public class IconField <T> extends IconAtom <T> {
    * Gets field for given object using index if set.
    * An index of < 0 indexes from end of list of field names.
    */
-  private Field getFieldFromIndex () {
-    // For numeric index into record, change to field name.
+  private IconFieldAccessors.Accessor getFieldFromIndex () {
     if (! haveAllFieldNames) {
-	fields = objectAsList(obj);
+	fields = IconFieldAccessors.forObject(obj);
 	haveAllFieldNames = true;
     }
-    if ((fields == null) || fields.isEmpty()) {	  // No fields
+    if ((fields == null) || (fields.size() == 0)) {	  // No fields
 	return null;
     }
     int size = fields.size();
     if (index < 0) { index += size; }		// Index from end
-    if ((index < 0) || (index >= size)) {	// Index error
-	return null;
-    }
-    Field field = fields.get(index);
-    if (! Modifier.isPublic(obj.getClass().getModifiers())) {
-	field.setAccessible(true);
-    }
-    return field;
+    return fields.get(index);			// null if index error
   }
 
 //============================================================================
@@ -345,72 +324,23 @@ public class IconField <T> extends IconAtom <T> {
   private static Object getFieldValue (Object obj, int size, String... names) {
       if ((obj == null) || (names == null)) { return obj; }
       if ((size < 0) || (size > names.length)) { size = names.length; }
-      Field field = null;
-      Class clazz = null;
       for (int i=0; i<size; i++) {
-	String name = names[i];
-	if ((name == null) || name.isEmpty()) { return null; }
-	try {		// Get field for next name
-	    clazz = obj.getClass();
-	    field = clazz.getDeclaredField(name);
-	} catch (NoSuchFieldException e) {
-	    return null;
-	}
+	IconFieldAccessors.Accessor field = getField(obj, names[i]);
 	if (field == null) { return null; }
-	try {		// Cascade to next field
-	    if (! Modifier.isPublic(clazz.getModifiers())) {
-		field.setAccessible(true);
-	    }
-	    obj = field.get(obj);
-	} catch (IllegalArgumentException e) {
-	    throw e;
-	} catch (IllegalAccessException e) {
-	    throw new IllegalArgumentException(e);
-	}
+	obj = field.get(obj);		// Cascade to next field
       }
       return obj;
   }
 
   /**
-   * Gets field for given object and name.
-   * Sets field as accessible if not public.
+   * Gets accessor for given object and field name, or null if none.
    */
-  private static Field getField (Object obj, String name) {
+  private static IconFieldAccessors.Accessor getField (Object obj,
+		String name) {
 	if ((obj == null) || (name == null) || name.isEmpty()) {
 		return null;
 	}
-	Field field = null;
-	Class clazz = null;
-	try {
-	    clazz = obj.getClass();
-	    field = clazz.getDeclaredField(name);
-	    if (! Modifier.isPublic(clazz.getModifiers())) {
-		field.setAccessible(true);
-	    }
-	} catch (NoSuchFieldException e) {
-	    return null;
-	}
-	return field;
-  }
-
-  /**
-   * Gets field value for given object.
-   * Sets field as accessible if not public.
-   */
-  private static Object getFieldValue (Object obj, Field field) {
-	if ((obj == null) || (field == null)) { return null; }
-	Object value = null;
-	try {
-	    if (! Modifier.isPublic(obj.getClass().getModifiers())) {
-		field.setAccessible(true);
-	    }
-	    value = field.get(obj);
-	} catch (IllegalArgumentException e) {
-	    throw e;
-	} catch (IllegalAccessException e) {
-	    throw new IllegalArgumentException(e);
-	}
-	return value;
+	return IconFieldAccessors.forObject(obj).get(name);
   }
 
 //============================================================================
@@ -438,38 +368,62 @@ public class IconField <T> extends IconAtom <T> {
 //============================================================================
 
   /**
-   * Create list of object fields,
+   * Gets list of object fields,
    * for public fields declared in this class only.
+   * The list is shared and unmodifiable.
    */
   public static List<Field> objectAsList (Object obj) {
     if (obj == null) { return null; }
-    Field[] fields = obj.getClass().getDeclaredFields();
-    ArrayList list = new ArrayList();
-    if (fields == null) { return null; }
-    for (Field field : fields) {
-	// Screen out Groovy synthetic fields, as well as transient or static
-	//   NOT: if (field.getModifiers() == java.lang.reflect.Modifier.PUBLIC)
-	int mod = field.getModifiers();
-	if (Modifier.isPublic(mod) && (! (field.isSynthetic() ||
-		Modifier.isTransient(mod) || Modifier.isStatic(mod)))) {
-	    list.add(field);
-	}
-    }
-    return list;
+    return IconFieldAccessors.forObject(obj).fields();
   }
 
   /**
-   * Create list of object field names,
+   * Gets list of object field names,
    * for public fields declared in this class only.
+   * The list is shared and unmodifiable.
    */
   public static List<String> objectAsNames (Object obj) {
-    List<Field> fields = objectAsList(obj);
-    if (fields == null) { return null; }
-    ArrayList<String> names = new ArrayList<String>();
-    for (Field field : fields) {
-	names.add(field.getName());
+    if (obj == null) { return null; }
+    return IconFieldAccessors.forObject(obj).names();
+  }
+
+  /**
+   * Create list of object field values,
+   * for public fields declared in this class only.
+   */
+  public static List<Object> objectAsValues (Object obj) {
+    if (obj == null) { return null; }
+    IconFieldAccessors fields = IconFieldAccessors.forObject(obj);
+    int size = fields.size();
+    ArrayList<Object> values = new ArrayList<Object>(size);
+    for (int i = 0; i < size; i++) {
+	values.add(fields.get(i).get(obj));
     }
-    return names;
+    return values;
+  }
+
+  /**
+   * Gets number of object fields,
+   * for public fields declared in this class only.
+   */
+  public static int objectFieldCount (Object obj) {
+    if (obj == null) { return 0; }
+    return IconFieldAccessors.forObject(obj).size();
+  }
+
+  /**
+   * Gets object field value by position,
+   * in public fields declared in this class only.
+   * An index of < 0 indexes from end of list of fields.
+   * @throws IndexOutOfBoundsException if no such field.
+   */
+  public static Object getFieldValue (Object obj, int index) {
+    IconFieldAccessors.Accessor field = (obj == null) ? null :
+	IconFieldAccessors.forObject(obj).get(index);
+    if (field == null) {
+	throw new IndexOutOfBoundsException("No such field " + index);
+    }
+    return field.get(obj);
   }
 
   /**
@@ -477,13 +431,14 @@ public class IconField <T> extends IconAtom <T> {
    * for public fields declared in this class only.
    */
   public static Map<String, Object> objectAsMap (Object obj) {
-    List<Field> fields = objectAsList(obj);
-    if (fields == null) { return null; }
+    if (obj == null) { return null; }
+    IconFieldAccessors fields = IconFieldAccessors.forObject(obj);
     LinkedHashMap<String,Object> map = new LinkedHashMap<String,Object>();
-    for (Field field : fields) {
+    for (int i = 0; i < fields.size(); i++) {
 	try {
-	    map.put(field.getName(), field.get(obj));
-	} catch (IllegalAccessException e) {
+	    IconFieldAccessors.Accessor field = fields.get(i);
+	    map.put(field.field.getName(), field.get(obj));
+	} catch (IllegalArgumentException e) {
 	    return null;
 	}
     }
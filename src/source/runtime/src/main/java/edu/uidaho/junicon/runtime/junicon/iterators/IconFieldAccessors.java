@@ -0,0 +1,268 @@
+//========================================================================
+// Copyright (c) 2012 Orielle, LLC.  
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions
+// are met:
+//
+// 1. Redistributions of source code must retain the above copyright
+//    notice, this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+//    notice, this list of conditions and the following disclaimer in the
+//    documentation and/or other materials provided with the distribution.
+//
+// This software is provided by the copyright holders and contributors
+// "as is" and any express or implied warranties, including, but not
+// limited to, the implied warranties of merchantability and fitness for
+// a particular purpose are disclaimed. In no event shall the copyright
+// holder or contributors be liable for any direct, indirect, incidental,
+// special, exemplary, or consequential damages (including, but not
+// limited to, procurement of substitute goods or services; loss of use,
+// data, or profits; or business interruption) however caused and on any
+// theory of liability, whether in contract, strict liability, or tort
+// (including negligence or otherwise) arising in any way out of the use
+// of this software, even if advised of the possibility of such damage.
+//========================================================================
+package edu.uidaho.junicon.runtime.junicon.iterators;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
+import java.util.HashMap;
+
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Per-class table of field accessors, built once for each class
+ * on first use and cached in a ClassValue.
+ * Accessors are found by field name, for any declared field,
+ * or by position in the list of declared public non-synthetic
+ * non-static non-transient fields, which is the order of record fields.
+ * <P>
+ * Each accessor uses method handles for the getter and setter,
+ * falling back to the reflected field where a handle cannot be made,
+ * e.g., for a private field of a public class,
+ * so that errors are reported as for Field.get and Field.set.
+ * As for reflection, fields of non-public classes are made accessible.
+ * <P>
+ * The ClassValue stores each table with its class, rather than in a map
+ * from classes, and the table refers only to that class and to runtime
+ * classes, so it does not keep a dynamically compiled class or its loader
+ * reachable. The table is also held by a soft reference, so that tables
+ * of classes still loaded but no longer used can be reclaimed under
+ * memory pressure. A reclaimed table is rebuilt on its next use.
+ * The tradeoff is a table per class for as long as memory allows,
+ * in exchange for not reflecting on every field access.
+ *
+ * @author Peter Mills
+ */
+final class IconFieldAccessors {
+
+  private static final MethodType GETTER_TYPE =
+	MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE =
+	MethodType.methodType(void.class, Object.class, Object.class);
+
+  private static final ClassValue<SoftReference<IconFieldAccessors>> tables =
+	new ClassValue<SoftReference<IconFieldAccessors>>() {
+		protected SoftReference<IconFieldAccessors> computeValue (
+				Class<?> type) {
+			return new SoftReference<>(new IconFieldAccessors(type));
+		}
+	};
+
+  private final Map<String, Accessor> byName = new HashMap<>();
+  private final String[] declaredNames;	// Interned, in declared order
+  private final Accessor[] declared;
+  private final Accessor[] byIndex;
+  private final List<Field> fields;	// Public non-synthetic fields
+  private final List<String> names;
+
+  private IconFieldAccessors (Class<?> type) {
+	MethodHandles.Lookup lookup = MethodHandles.lookup();
+	boolean isPublic = Modifier.isPublic(type.getModifiers());
+	List<Accessor> indexed = new ArrayList<>();
+	List<Field> publicFields = new ArrayList<>();
+	List<String> publicNames = new ArrayList<>();
+	Field[] declaredFields = type.getDeclaredFields();
+	declaredNames = new String[declaredFields.length];
+	declared = new Accessor[declaredFields.length];
+	for (int i = 0; i < declaredFields.length; i++) {
+		Field field = declaredFields[i];
+		Accessor accessor = new Accessor(lookup, field, isPublic);
+		byName.put(field.getName(), accessor);
+		declaredNames[i] = field.getName();
+		declared[i] = accessor;
+		// Screen out Groovy synthetic fields, as well as transient or static
+		int mod = field.getModifiers();
+		if (Modifier.isPublic(mod) && (! (field.isSynthetic() ||
+			Modifier.isTransient(mod) || Modifier.isStatic(mod)))) {
+		    indexed.add(accessor);
+		    publicFields.add(field);
+		    publicNames.add(field.getName());
+		}
+	}
+	byIndex = indexed.toArray(new Accessor[indexed.size()]);
+	fields = Collections.unmodifiableList(publicFields);
+	names = Collections.unmodifiableList(publicNames);
+  }
+
+  //==========================================================================
+  // Lookup.
+  //==========================================================================
+
+  /**
+   * Gets the accessor table for the class.
+   */
+  static IconFieldAccessors forClass (Class<?> type) {
+	IconFieldAccessors table = tables.get(type).get();
+	if (table == null) {		// Reclaimed, so rebuild
+		tables.remove(type);
+		table = tables.get(type).get();
+		if (table == null) { table = new IconFieldAccessors(type); }
+	}
+	return table;
+  }
+
+  /**
+   * Gets the accessor table for the object's class, or null if none.
+   */
+  static IconFieldAccessors forObject (Object obj) {
+	if (obj == null) { return null; }
+	return forClass(obj.getClass());
+  }
+
+  /**
+   * Gets the accessor for a declared field, or null if none.
+   * Field names in generated code are literals, and so interned
+   * as are reflected names, so first try matching by identity.
+   */
+  Accessor get (String name) {
+	for (int i = 0; i < declaredNames.length; i++) {
+		if (declaredNames[i] == name) { return declared[i]; }
+	}
+	return byName.get(name);
+  }
+
+  /**
+   * Gets the accessor for a public field by position,
+   * or null if out of range.
+   * A position of < 0 indexes from end of list of fields.
+   */
+  Accessor get (int index) {
+	if (index < 0) { index += byIndex.length; }
+	if ((index < 0) || (index >= byIndex.length)) { return null; }
+	return byIndex[index];
+  }
+
+  /**
+   * Number of public fields.
+   */
+  int size () {
+	return byIndex.length;
+  }
+
+  /**
+   * Unmodifiable list of public fields.
+   */
+  List<Field> fields () {
+	return fields;
+  }
+
+  /**
+   * Unmodifiable list of public field names.
+   */
+  List<String> names () {
+	return names;
+  }
+
+  //==========================================================================
+  // Accessor.
+  //==========================================================================
+
+  /**
+   * Getter and setter for one field.
+   */
+  static final class Accessor {
+	final Field field;
+	private final MethodHandle getter;	// null if use field
+	private final MethodHandle setter;	// null if use field
+
+	Accessor (MethodHandles.Lookup lookup, Field field, boolean isPublic) {
+		this.field = field;
+		if (! isPublic) {
+			try { field.setAccessible(true);
+			} catch (SecurityException e) { }
+		}
+		MethodHandle get = null;
+		MethodHandle put = null;
+		if (! Modifier.isStatic(field.getModifiers())) {
+		    try {
+			get = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+		    } catch (IllegalAccessException e) { }
+		    // Field.set converts primitives, so use it for those
+		    if (! field.getType().isPrimitive()) {
+			try {
+			    put = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+			} catch (IllegalAccessException e) { }
+		    }
+		}
+		getter = get;
+		setter = put;
+	}
+
+	/**
+	 * Gets the field value.
+	 */
+	Object get (Object obj) {
+		if (getter != null) {
+		    try {
+			return (Object) getter.invokeExact(obj);
+		    } catch (RuntimeException | Error e) {
+			throw e;
+		    } catch (Throwable e) {
+			throw new IllegalArgumentException(e);
+		    }
+		}
+		try {
+			return field.get(obj);
+		} catch (IllegalAccessException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+	/**
+	 * Sets the field value.
+	 */
+	void set (Object obj, Object value) {
+		if (setter != null) {
+		    try {
+			setter.invokeExact(obj, value);
+			return;
+		    } catch (ClassCastException e) {
+			throw new IllegalArgumentException(e);
+		    } catch (RuntimeException | Error e) {
+			throw e;
+		    } catch (Throwable e) {
+			throw new IllegalArgumentException(e);
+		    }
+		}
+		try {
+			field.set(obj, value);
+		} catch (IllegalAccessException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+  }
+
+}
+
+//==== END OF FILE
@@ -0,0 +1,430 @@
+//========================================================================
+// Copyright (c) 2015 Orielle, LLC.  
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions
+// are met:
+//
+// 1. Redistributions of source code must retain the above copyright
+//    notice, this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+//    notice, this list of conditions and the following disclaimer in the
+//    documentation and/or other materials provided with the distribution.
+//
+// This software is provided by the copyright holders and contributors
+// "as is" and any express or implied warranties, including, but not
+// limited to, the implied warranties of merchantability and fitness for
+// a particular purpose are disclaimed. In no event shall the copyright
+// holder or contributors be liable for any direct, indirect, incidental,
+// special, exemplary, or consequential damages (including, but not
+// limited to, procurement of substitute goods or services; loss of use,
+// data, or profits; or business interruption) however caused and on any
+// theory of liability, whether in contract, strict liability, or tort
+// (including negligence or otherwise) arising in any way out of the use
+// of this software, even if advised of the possibility of such damage.
+//========================================================================
+package edu.uidaho.junicon.runtime.junicon.iterators;
+
+import edu.uidaho.junicon.runtime.junicon.annotations.MMethod;
+
+import java.util.Map;
+import java.util.HashMap;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.lang.reflect.Method;
+import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Flight recorder events for the iterator runtime.
+ * Only loaded once IconEvents is enabled.
+ * <P>
+ * The flight recorder API in jdk.jfr is reached only by reflection,
+ * so that the runtime compiles and loads on JVMs without it,
+ * such as JDK 8 before update 262.
+ * Event types are defined through jdk.jfr.EventFactory
+ * when this class is initialized,
+ * and are unavailable if that fails.
+ * <P>
+ * The Icon procedure name is found from the @MMethod annotation
+ * on the translated method whose body is being invoked.
+ * The body records its method name in the method body cache,
+ * and its declaring class is that of its argument unpacking closure.
+ *
+ * @author Peter Mills
+ */
+final class IconFlightEvents {
+
+  // Event methods, over an Object receiver
+  private static MethodHandle begin = null;
+  private static MethodHandle end = null;
+  private static MethodHandle commit = null;
+  private static MethodHandle isEnabled = null;
+  private static MethodHandle setField = null;
+
+  // Event factories, as () -> Object
+  private static MethodHandle procedureCall = null;
+  private static MethodHandle generatorSuspend = null;
+  private static MethodHandle generatorResume = null;
+  private static MethodHandle coExpressionActivate = null;
+  private static MethodHandle handoff = null;
+
+  // If the event types were defined and a recorder is available
+  private static boolean isAvailable = false;
+
+  // Field indexes of the events, in order of definition
+  private static final int CALL_CLASS = 0;
+  private static final int CALL_PROCEDURE = 1;
+  private static final int CALL_METHOD = 2;
+  private static final int CALL_OUTCOME = 3;
+  private static final int CALL_SUSPENDS = 4;
+  private static final int CALL_BACKTRACKS = 5;
+  private static final int GENERATOR_CLASS = 0;
+  private static final int GENERATOR_PROCEDURE = 1;
+  private static final int ACTIVATE_KIND = 0;
+  private static final int ACTIVATE_NESTED = 1;
+  private static final int HANDOFF_KIND = 0;
+  private static final int HANDOFF_FAILED = 1;
+
+  static {
+	try {
+		defineEvents();
+		Class<?> recorder = Class.forName("jdk.jfr.FlightRecorder");
+		isAvailable = (Boolean) recorder.getMethod("isAvailable")
+			.invoke(null);
+	} catch (ReflectiveOperationException | LinkageError
+			| RuntimeException e) {
+		isAvailable = false;
+	}
+  }
+
+  // Backtracks counted in each thread
+  private static final ThreadLocal<long[]> backtracks =
+	new ThreadLocal<long[]>() {
+     @Override protected long[] initialValue() {
+	return new long[1];
+     }
+  };
+
+  // Declaring class of each unpacking closure
+  private static final ClassValue<Class<?>> owners =
+	new ClassValue<Class<?>>() {
+     @Override protected Class<?> computeValue (Class<?> closure) {
+	return ownerOf(closure);
+     }
+  };
+
+  // Icon procedure names by method name, for each declaring class
+  private static final ClassValue<Map<String,String>> procedures =
+	new ClassValue<Map<String,String>>() {
+     @Override protected Map<String,String> computeValue (Class<?> owner) {
+	return proceduresOf(owner);
+     }
+  };
+
+  private IconFlightEvents () { }
+
+  static boolean isAvailable () {
+	return isAvailable;
+  }
+
+  //==========================================================================
+  // Event definitions.
+  //==========================================================================
+
+  /**
+   * Procedure call in progress, which holds its event
+   * together with the state kept between steps.
+   */
+  private static final class Call {
+	Object event;
+	String className;
+	String procedure;
+	int suspends = 0;
+	boolean isSuspended = false;
+	long startBacktracks = 0;
+  }
+
+  /**
+   * Defines the event types and resolves the event methods.
+   */
+  private static void defineEvents () throws ReflectiveOperationException {
+	MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+	Class<?> event = Class.forName("jdk.jfr.Event");
+	begin = eventMethod(lookup, event, "begin", void.class);
+	end = eventMethod(lookup, event, "end", void.class);
+	commit = eventMethod(lookup, event, "commit", void.class);
+	isEnabled = eventMethod(lookup, event, "isEnabled", boolean.class);
+	setField = eventMethod(lookup, event, "set", void.class,
+		int.class, Object.class);
+
+	procedureCall = define("junicon.ProcedureCall", "Procedure Call",
+		"Invocation of a procedure or method until it returns, fails, or is abandoned",
+		false, new String[] {"Junicon", "Procedures"},
+		String.class, "className", "Class",
+		String.class, "procedure", "Procedure",
+		String.class, "methodName", "Method",
+		String.class, "outcome", "Outcome",
+		int.class, "suspends", "Suspends",
+		long.class, "backtracks", "Backtracks");
+	generatorSuspend = define("junicon.GeneratorSuspend",
+		"Generator Suspend", null,
+		false, new String[] {"Junicon", "Procedures"},
+		String.class, "className", "Class",
+		String.class, "procedure", "Procedure");
+	generatorResume = define("junicon.GeneratorResume",
+		"Generator Resume", null,
+		false, new String[] {"Junicon", "Procedures"},
+		String.class, "className", "Class",
+		String.class, "procedure", "Procedure");
+	coExpressionActivate = define("junicon.CoExpressionActivate",
+		"Co-expression Activation", null,
+		true, new String[] {"Junicon", "Co-expressions"},
+		String.class, "kind", "Kind",
+		boolean.class, "isNested", "Nested");
+	handoff = define("junicon.Handoff", "Thread Hand-off",
+		"Blocking hand-off of a value between a thread and its pipe",
+		true, new String[] {"Junicon", "Co-expressions"},
+		String.class, "kind", "Kind",
+		boolean.class, "failed", "Failed");
+  }
+
+  /**
+   * Resolves a method of jdk.jfr.Event, adapted to an Object receiver.
+   */
+  private static MethodHandle eventMethod (MethodHandles.Lookup lookup,
+		Class<?> event, String name, Class<?> returnType,
+		Class<?>... parameters) throws ReflectiveOperationException {
+	MethodType type = MethodType.methodType(returnType, parameters);
+	return lookup.findVirtual(event, name, type)
+		.asType(type.insertParameterTypes(0, Object.class));
+  }
+
+  /**
+   * Defines an event type using jdk.jfr.EventFactory.
+   * Fields are given as triples of type, name, and label.
+   * @return factory for new events of the type, as () -> Object.
+   */
+  private static MethodHandle define (String name, String label,
+		String description, boolean hasStackTrace, String[] category,
+		Object... fields) throws ReflectiveOperationException {
+	Class<?> elementClass = Class.forName("jdk.jfr.AnnotationElement");
+	Constructor<?> element = elementClass.getConstructor(
+		Class.class, Object.class);
+	Class<?> descriptorClass = Class.forName("jdk.jfr.ValueDescriptor");
+	Constructor<?> descriptor = descriptorClass.getConstructor(
+		Class.class, String.class, List.class);
+	Class<?> factoryClass = Class.forName("jdk.jfr.EventFactory");
+
+	List<Object> annotations = new ArrayList<Object>();
+	annotations.add(element.newInstance(jfrClass("Name"), name));
+	annotations.add(element.newInstance(jfrClass("Label"), label));
+	annotations.add(element.newInstance(jfrClass("Category"), category));
+	if (description != null) {
+		annotations.add(element.newInstance(jfrClass("Description"),
+			description));
+	}
+	annotations.add(element.newInstance(jfrClass("StackTrace"),
+		hasStackTrace));
+
+	List<Object> descriptors = new ArrayList<Object>();
+	for (int i = 0; i + 2 < fields.length; i += 3) {
+		descriptors.add(descriptor.newInstance(fields[i], fields[i+1],
+			Arrays.asList(element.newInstance(jfrClass("Label"),
+				fields[i+2]))));
+	}
+
+	Object factory = factoryClass.getMethod("create", List.class,
+		List.class).invoke(null, annotations, descriptors);
+	return MethodHandles.publicLookup().findVirtual(factoryClass,
+		"newEvent", MethodType.methodType(Class.forName("jdk.jfr.Event")))
+		.bindTo(factory).asType(MethodType.methodType(Object.class));
+  }
+
+  private static Class<?> jfrClass (String name)
+		throws ClassNotFoundException {
+	return Class.forName("jdk.jfr." + name);
+  }
+
+  //==========================================================================
+  // Event access.
+  //==========================================================================
+
+  /**
+   * Creates an event, or returns null if its type is not enabled.
+   */
+  private static Object newEvent (MethodHandle factory) {
+	try {
+		Object event = (Object) factory.invokeExact();
+		if (! (boolean) isEnabled.invokeExact(event)) { return null; }
+		return event;
+	} catch (Throwable e) {
+		throw failed(e);
+	}
+  }
+
+  private static void invoke (MethodHandle method, Object event) {
+	try {
+		method.invokeExact(event);
+	} catch (Throwable e) {
+		throw failed(e);
+	}
+  }
+
+  private static void set (Object event, int index, Object value) {
+	try {
+		setField.invokeExact(event, index, value);
+	} catch (Throwable e) {
+		throw failed(e);
+	}
+  }
+
+  private static RuntimeException failed (Throwable e) {
+	if (e instanceof RuntimeException) { return (RuntimeException) e; }
+	if (e instanceof Error) { throw (Error) e; }
+	return new IllegalStateException(e);
+  }
+
+  //==========================================================================
+  // Procedure invocation.
+  //==========================================================================
+
+  static Object beginCall (IconIterator<?> body) {
+	if (body.getNameInCache() == null) { return null; }  // not a method body
+	Object event = newEvent(procedureCall);
+	if (event == null) { return null; }
+	Call call = new Call();
+	call.event = event;
+	String methodName = body.getNameInCache();
+	Class<?> owner = (body.unpack == null) ? null :
+		owners.get(body.unpack.getClass());
+	if (owner != null) {
+		call.className = owner.getName();
+		call.procedure = procedures.get(owner).get(methodName);
+	}
+	if (call.procedure == null) { call.procedure = methodName; }
+	set(event, CALL_CLASS, call.className);
+	set(event, CALL_PROCEDURE, call.procedure);
+	set(event, CALL_METHOD, methodName);
+	call.startBacktracks = backtracks.get()[0];
+	invoke(begin, event);
+	return call;
+  }
+
+  static void resumeCall (Object handle) {
+	Call call = (Call) handle;
+	if (! call.isSuspended) { return; }
+	call.isSuspended = false;
+	commitGenerator(generatorResume, call);
+  }
+
+  static Object stepCall (Object handle, boolean failed, boolean returned) {
+	Call call = (Call) handle;
+	if (failed || returned) {
+		finish(call, failed ? "fail" : "return");
+		return null;
+	}
+	call.suspends++;
+	call.isSuspended = true;
+	commitGenerator(generatorSuspend, call);
+	return call;
+  }
+
+  static void endCall (Object handle) {
+	finish((Call) handle, "abandon");
+  }
+
+  private static void finish (Call call, String outcome) {
+	invoke(end, call.event);
+	set(call.event, CALL_OUTCOME, outcome);
+	set(call.event, CALL_SUSPENDS, call.suspends);
+	set(call.event, CALL_BACKTRACKS,
+		backtracks.get()[0] - call.startBacktracks);
+	invoke(commit, call.event);
+  }
+
+  private static void commitGenerator (MethodHandle factory, Call call) {
+	Object event = newEvent(factory);
+	if (event == null) { return; }
+	set(event, GENERATOR_CLASS, call.className);
+	set(event, GENERATOR_PROCEDURE, call.procedure);
+	invoke(commit, event);
+  }
+
+  static void backtrack () {
+	backtracks.get()[0]++;
+  }
+
+  //==========================================================================
+  // Co-expressions, threads, and pipes.
+  //==========================================================================
+
+  static void activate (String kind, boolean isNested) {
+	Object event = newEvent(coExpressionActivate);
+	if (event == null) { return; }
+	set(event, ACTIVATE_KIND, kind);
+	set(event, ACTIVATE_NESTED, isNested);
+	invoke(commit, event);
+  }
+
+  static Object beginHandoff (String kind) {
+	Object event = newEvent(handoff);
+	if (event == null) { return null; }
+	set(event, HANDOFF_KIND, kind);
+	invoke(begin, event);
+	return event;
+  }
+
+  static void endHandoff (Object handle, boolean failed) {
+	invoke(end, handle);
+	set(handle, HANDOFF_FAILED, failed);
+	invoke(commit, handle);
+  }
+
+  //==========================================================================
+  // Procedure names.
+  //==========================================================================
+
+  /**
+   * Gets the class declaring a lambda expression,
+   * from the runtime's naming of its class, e.g., Foo$$Lambda$12.
+   */
+  private static Class<?> ownerOf (Class<?> closure) {
+	String name = closure.getName();
+	int index = name.indexOf("$$Lambda");
+	if (index <= 0) { return closure; }
+	try {
+		return Class.forName(name.substring(0, index), false,
+			closure.getClassLoader());
+	} catch (ClassNotFoundException | LinkageError e) {
+		return null;
+	}
+  }
+
+  /**
+   * Maps translated method names to their Icon procedure names.
+   * Bodies are cached under the method name, or under the
+   * procedure name with an _m suffix if that is distinct.
+   */
+  private static Map<String,String> proceduresOf (Class<?> owner) {
+	Map<String,String> names = new HashMap<String,String>();
+	try {
+		for (Method method : owner.getDeclaredMethods()) {
+			MMethod annotation = method.getAnnotation(MMethod.class);
+			if (annotation != null) {
+				names.put(method.getName(), annotation.name());
+				names.putIfAbsent(annotation.name() + "_m",
+					annotation.name());
+			}
+		}
+	} catch (SecurityException | LinkageError e) { }
+	return names;
+  }
+}
+
+//==== END OF FILE
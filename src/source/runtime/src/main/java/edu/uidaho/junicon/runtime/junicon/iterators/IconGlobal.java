@@ -31,14 +31,36 @@ import edu.uidaho.junicon.runtime.junicon.iterators.IIconAtom.IconTypes;
 
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Arrays;
 
 /**
- * Global field with redirection to static map of globals to value atoms.
+ * Global field, resolved to a slot in the global frame.
+ * <P>
+ * Each global name is resolved once, when the IconGlobal is created,
+ * i.e., when the class that declares it is linked,
+ * to a fixed slot in an array-backed frame of globals.
+ * Get and set are then a field load and store on the slot,
+ * without a name lookup, and set does not wrap the value.
+ * <P>
+ * <B>Sharing.</B>
+ * There is one global frame, shared by all threads,
+ * including those that run co-expressions,
+ * so that a global set in one co-expression is seen in all others,
+ * as in Icon.
+ * Slot values are volatile, so reads are lock-free and see the last
+ * value written by any thread.
+ * Only resolving a new name takes a lock.
+ * Each get or set is atomic, but a read-modify-write such as g +:= 1
+ * is not, and so needs synchronization by the program if
+ * threads update the same global concurrently.
+ * Co-expressions that are activated, rather than run as threads,
+ * never run concurrently, and so need none.
  *
  * @author Peter Mills
  */
 public class IconGlobal <T> extends IconAtom <T> { 
   String name = "";
+  private Slot slot = null;		// null if no name
 
   //==========================================================================
   // Constructors.
@@ -51,65 +73,129 @@ public class IconGlobal <T> extends IconAtom <T> {
 
   /**
    * Constructor with global variable name.
+   * Resolves the name to its slot in the global frame.
    */
   public IconGlobal (String name) {
 	if (name == null) { return; }
 	this.name = name;
+	slot = resolve(name);
   }
 
   //==========================================================================
   // Setter and getter.
   //==========================================================================
   public T get () {
-	IconValue<T> atom = getGlobal(name);
-	if (atom == null) { return null; }
-	return atom.get();
+	if (slot == null) { return null; }
+	Object value = slot.value;
+	if (value instanceof IconValue) { return ((IconValue<T>) value).get(); }
+	return (T) value;
   }
 
   public void set (T value) {
-	setGlobal(name, IconValue.create(value));
+	if (slot == null) { return; }
+	if (value instanceof IconValue) {	// Keep distinct from typed value
+		slot.value = IconValue.create(value);
+	} else {
+		slot.value = value;
+	}
   }
 
   //==========================================================================
   // Typed values.
   //==========================================================================
+  /**
+   * Sets the value as an atom.
+   * The slot holds the typed value, so that getValue() returns it.
+   */
   public void setValue (IIconAtom<T> atom) {
+	if (slot == null) { return; }
 	if (atom == null) {
-		setGlobal(name, EMPTY_VALUE);
+		slot.value = null;
 	} else {
-		setGlobal(name, atom.getValue());
+		slot.value = atom.getValue().snapshot();
 	}
   }
 
   public IconValue getValue () {
-	IconValue<T> atom = getGlobal(name);
-	if (atom == null) { return EMPTY_VALUE; }
-	return atom;
+	if (slot == null) { return EMPTY_VALUE; }
+	Object value = slot.value;
+	if (value == null) { return EMPTY_VALUE; }
+	if (value instanceof IconValue) { return (IconValue) value; }
+	return IconValue.create(value);
   }
 
   //==========================================================================
-  // Thread local for global variable map.
+  // Global frame.
   //==========================================================================
-  private static final ThreadLocal<Map<String, IconValue>> globalMap = 
-	new ThreadLocal () {
-	    @Override protected Map<String, IconValue> initialValue () {
-		 return new HashMap<String, IconValue>();
-            }
-  };
-
-  private IconValue getGlobal (String name) {
-	return globalMap.get().get(name);
+
+  /**
+   * Slot for a global variable.
+   * Holds either a plain value, or a typed IconValue.
+   */
+  private static final class Slot {
+	final String name;
+	final int index;
+	volatile Object value = null;
+
+	Slot (String name, int index) {
+		this.name = name;
+		this.index = index;
+	}
+  }
+
+  private static final Object frameLock = new Object();
+  private static final Map<String, Slot> slotNames = new HashMap<>();
+  private static Slot[] frame = new Slot[64];
+  private static int frameSize = 0;
+
+  /**
+   * Resolves a global name to its slot, adding it to the frame if new.
+   * Returns null for an empty name.
+   */
+  private static Slot resolve (String name) {
+	if (name.isEmpty()) { return null; }
+	synchronized (frameLock) {
+		Slot slot = slotNames.get(name);
+		if (slot == null) {
+			if (frameSize == frame.length) {
+				frame = Arrays.copyOf(frame, 2 * frameSize);
+			}
+			slot = new Slot(name, frameSize);
+			frame[frameSize++] = slot;
+			slotNames.put(name, slot);
+		}
+		return slot;
+	}
   }
 
-  private IconValue setGlobal (String name, IconValue value) {
-	if ((name == null) || name.isEmpty()) { return null; }
-	return globalMap.get().put(name, value);
+  /**
+   * Gets the index of the global's slot in the global frame,
+   * or -1 if none.
+   */
+  public int getSlotIndex () {
+	if (slot == null) { return -1; }
+	return slot.index;
   }
 
-  //====
-  // public static Map getGlobalMap () { return globalMap.get(); }
-  // public static void setGlobalMap (Map map) { globalMap.set(map); }
-  //====
+  /**
+   * Gets the number of globals resolved in the global frame.
+   */
+  public static int getFrameSize () {
+	synchronized (frameLock) {
+		return frameSize;
+	}
+  }
+
+  /**
+   * Gets the names of the globals in the global frame, in slot order.
+   */
+  public static String[] getGlobalNames () {
+	synchronized (frameLock) {
+		String[] names = new String[frameSize];
+		for (int i = 0; i < frameSize; i++) { names[i] = frame[i].name; }
+		return names;
+	}
+  }
 
 }
 
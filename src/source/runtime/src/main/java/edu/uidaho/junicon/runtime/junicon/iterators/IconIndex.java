@@ -42,6 +42,8 @@ import java.lang.UnsupportedOperationException;	// Collection - RuntimeException
 
 import java.util.concurrent.Callable;
 
+import edu.uidaho.junicon.runtime.junicon.iterators.IIconAtom.IconTypes;
+
 /**
  * Produces an updatable reference c[i] or slice c[i:j]
  * into a map, list, collection, array, string, or object's fields.
@@ -107,6 +109,8 @@ public class IconIndex <T> extends IconAtom <T> {
   IIconAtom<T> beginAtom = null;  // Used to freeze i in c[i]
   IIconAtom<T> endAtom = null;	// Used to freeze e in c[b..e]
   IconValue<T> list = null;	// Frozen c in c[i] -- Derived list atom
+  IconTypes listType = IconTypes.UNTYPED;	// Frozen type of list
+  IIconNumericList<T> numericList = null; // Frozen c if unboxed numeric list
   int begin = -1;		// Frozen b in c[b] -- Adjusted for Java
   int end = -1;			// Frozen e in c[b..e] -- Adjusted for Java
   Object beginObject = null;	// Map or record index value, object not number
@@ -250,14 +254,15 @@ public class IconIndex <T> extends IconAtom <T> {
 	if (! isFrozen) { freeze(); }
 	if (list == null) { return null; };
 
-	// Map index is object, not integer
-	if (list.isMap()) {
+	switch (listType) {
+	  // Map index is object, not integer
+	  case MAP:
 	    return (T) list.getMap().get(beginObject);
-	}
-
-	if (list.isOther()) {
+	  case OTHER:
 	    if (field == null) { return null; }
 	    return (T) field.get();
+	  default:
+	    break;
 	}
 
 	// begin and end integers are used for remaining index
@@ -266,57 +271,57 @@ public class IconIndex <T> extends IconAtom <T> {
 			"Index out of bounds " + begin + " : " + end);
 	}
 
-	if (list.isCollection()) {
-	  if (list.isList()) {
+	switch (listType) {
+	  case LIST:
 	    if (isSlice) {
 		return (T) new ArrayList(list.getList().subList(begin, end));
 	    }
 	    return (T) list.getList().get(begin);
-	  }
 
-	  // Collection: get iterator, scoot to nth element. Slice not supported
-	  Iterator iter = list.getCollection().iterator();
-	  T result = null;
-	  int i=-1; 
-	  while ((iter.hasNext()) && (i < begin)) {
+	  case SET: case COLLECTION:
+	    // Collection: get iterator, scoot to nth element. Slice not supported
+	    Iterator iter = list.getCollection().iterator();
+	    T result = null;
+	    int i=-1; 
+	    while ((iter.hasNext()) && (i < begin)) {
 		result = (T) iter.next();
 		i++;
-	  }
-	  if (i < begin) {
+	    }
+	    if (i < begin) {
 		throw new IndexOutOfBoundsException("Index out of bounds "
 			+ begin);
-	  }
-	  return (T) result;
-	}
+	    }
+	    return (T) result;
 
-	if (list.isArray()) {
+	  case ARRAY:
 	    if (isSlice) {
 		return (T) Arrays.copyOfRange(list.getArray(), begin, end);
 	    }
 	    return (T) list.getArray()[begin];
-	}
 
-	if (list.isString()) {
+	  case STRING:
 	    return (T) list.getString().substring(begin,end);
-	}
 
-	return null;	// Non-indexible type, e.g., IconIterator
+	  default:
+	    return null;	// Non-indexible type, e.g., IconIterator
+	}
   }
 
   public void set (T rhs) {
 	if (! isFrozen) { freeze(); }
 	if (list == null) { return; };
 
-	// Map index is object, not integer
-	if (list.isMap()) {
+	switch (listType) {
+	  // Map index is object, not integer
+	  case MAP:
 	    list.getMap().put(beginObject, rhs);
 	    return;
-	}
-
-	if (list.isOther()) {
+	  case OTHER:
 	    if (field == null) { return; }
 	    field.set(rhs);
 	    return;
+	  default:
+	    break;
 	}
 
 	// begin and end are used for remaining index
@@ -325,8 +330,9 @@ public class IconIndex <T> extends IconAtom <T> {
 			"Index out of bounds " + begin + " : " + end);
 	}
 
-	if (list.isCollection()) {
-	  if (list.isList()) {
+	if ((listType == IconTypes.LIST) || (listType == IconTypes.SET)
+			|| (listType == IconTypes.COLLECTION)) {
+	  if (listType == IconTypes.LIST) {
 	    if (isSlice) {
 		List range = list.getList().subList(begin,end);
 		range.clear();
@@ -335,6 +341,8 @@ public class IconIndex <T> extends IconAtom <T> {
 		} else {
 			range.add(rhs);
 		}
+	    } else if (numericList != null) {
+		setUnboxed(rhs);
 	    } else {
 		list.getList().set(begin, rhs);
 	    }
@@ -346,7 +354,7 @@ public class IconIndex <T> extends IconAtom <T> {
 	}
 
 	// Array update must set the listAtom, not just update the value
-	if (list.isArray()) {
+	if (listType == IconTypes.ARRAY) {
 	    if (isSlice) {
 		List fromArray = new ArrayList(Arrays.asList(list.getArray()));
 		List range = fromArray.subList(begin, end);
@@ -366,7 +374,7 @@ public class IconIndex <T> extends IconAtom <T> {
 	}
 
 	// String update must set the listAtom, not just update the value
-	if (list.isString()) {
+	if (listType == IconTypes.STRING) {
 	    // Convert rhs non-string to string
 	    String rhsString = null;
 	    if (rhs != null) { rhsString = rhs.toString(); }
@@ -392,6 +400,49 @@ public class IconIndex <T> extends IconAtom <T> {
 	}
   }
 
+  /**
+   * Gets an element of a numeric list directly as a typed number,
+   * rather than boxing it and deferring its type.
+   */
+  public IconValue getValue () {
+	if (! isFrozen) { freeze(); }
+	if ((numericList != null) && (! isSlice) && (begin >= 0)) {
+	    switch (numericList.getElementType()) {
+	      case INTEGER:
+		return IconValue.create(numericList.getLong(begin));
+	      case REAL:
+		if (IconNumber.getIsRealPrecision()) { break; }
+		return IconValue.create(numericList.getDouble(begin));
+	      default:
+		break;
+	    }
+	}
+	return super.getValue();
+  }
+
+  /**
+   * Sets an element of a numeric list, unboxed if the element type matches.
+   */
+  private void setUnboxed (T rhs) {
+	switch (numericList.getElementType()) {
+	  case INTEGER:
+	    if (rhs instanceof Long) {
+		numericList.setLong(begin, (Long) rhs);
+		return;
+	    }
+	    break;
+	  case REAL:
+	    if (rhs instanceof Double) {
+		numericList.setDouble(begin, (Double) rhs);
+		return;
+	    }
+	    break;
+	  default:
+	    break;
+	}
+	numericList.set(begin, rhs);
+  }
+
   public IIconAtom<T> onReturn () { return freezeReference(); }
 
   //=========================================================================
@@ -458,9 +509,17 @@ public class IconIndex <T> extends IconAtom <T> {
 	//====
 	// Freeze list and index values by evaluting their closures.
 	//====
+	numericList = null;
 	if (listAtom == null) { return this; }
 	list = listAtom.getValue();
 	if (list == null) { return this; }
+	listType = list.getType();
+	if (listType == IconTypes.LIST) {
+		List asList = list.getList();
+		if (asList instanceof IIconNumericList) {
+			numericList = (IIconNumericList<T>) asList;
+		}
+	}
 
 	if (haveBeginAtom) {
 	  if ((beginAtom == null) || (isSlice && (endAtom == null))) {
@@ -474,7 +533,7 @@ public class IconIndex <T> extends IconAtom <T> {
 	// Skip adjusting numeric endpoints if map
 	// If not Map, Collection, or CharSequence, then is record/class.
 	//====
-	if (list.isMap()) {
+	if (listType == IconTypes.MAP) {
 	    return this;
 	}
 
@@ -499,16 +558,20 @@ public class IconIndex <T> extends IconAtom <T> {
 	// Get size of list, string, or record if possible
 	//====
 	int size = -1;
-	if (list.isString()) {	// if (list instanceof CharSequence)
+	switch (listType) {
+	  case STRING:	// if (list instanceof CharSequence)
 		if (! isNumber) { list = null; return this; }
 		size = list.getString().length(); 
-	} else if (list.isCollection()) { // cannot slice Set | Queue
+		break;
+	  case LIST: case SET: case COLLECTION: // cannot slice Set | Queue
 		if (! isNumber) { list = null; return this; }
 		size = list.getCollection().size(); 
-	} else if (list.isArray()) {
+		break;
+	  case ARRAY:
 		if (! isNumber) { list = null; return this; }
 		size = list.getArray().length;
-	} else if (list.isOther()) {
+		break;
+	  case OTHER:
 		// Get field if indexing into Object's fields
 		// If using number, will reset field to use that later
 		field = new IconField<T>(list,
@@ -516,6 +579,9 @@ public class IconIndex <T> extends IconAtom <T> {
 			 beginObject.toString())); // create()
 		if (! isNumber) { return this; }
 		size = field.getNumberFields();
+		break;
+	  default:
+		break;
 	}
 
 	//====
@@ -542,7 +608,7 @@ public class IconIndex <T> extends IconAtom <T> {
 	  end = eUpdate[0];
 	}
 
-	if (list.isOther() && (begin >= 0)) {
+	if ((listType == IconTypes.OTHER) && (begin >= 0)) {
 		field.setFieldIndex(begin);
 	}
 
@@ -0,0 +1,240 @@
+//========================================================================
+// Copyright (c) 2015 Orielle, LLC.  
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions
+// are met:
+//
+// 1. Redistributions of source code must retain the above copyright
+//    notice, this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+//    notice, this list of conditions and the following disclaimer in the
+//    documentation and/or other materials provided with the distribution.
+//
+// This software is provided by the copyright holders and contributors
+// "as is" and any express or implied warranties, including, but not
+// limited to, the implied warranties of merchantability and fitness for
+// a particular purpose are disclaimed. In no event shall the copyright
+// holder or contributors be liable for any direct, indirect, incidental,
+// special, exemplary, or consequential damages (including, but not
+// limited to, procurement of substitute goods or services; loss of use,
+// data, or profits; or business interruption) however caused and on any
+// theory of liability, whether in contract, strict liability, or tort
+// (including negligence or otherwise) arising in any way out of the use
+// of this software, even if advised of the possibility of such damage.
+//========================================================================
+package edu.uidaho.junicon.runtime.junicon.iterators;
+
+import edu.uidaho.junicon.runtime.junicon.iterators.IIconAtom.IconTypes;
+
+import java.util.Map;
+import java.util.IdentityHashMap;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import java.util.function.BinaryOperator;
+
+/**
+ * Per call site inline cache for numeric binary operators.
+ * Wraps an operator such as plus or lessThan for one IconOperation,
+ * and caches the pair of Number classes last seen for its operands
+ * together with a kernel specialized for their aligned numeric type.
+ * On a hit, applies the kernel directly to the underlying numbers,
+ * skipping the generic isNumber() tests and IconValueNumber.align().
+ * Integer kernels take primitive longs from getInteger(),
+ * so that a reused range counter is not boxed on each call.
+ * On a miss, such as a type change or a non-numeric operand,
+ * falls back to the generic operator and respecializes,
+ * until too many misses, after which the site stays generic.
+ * <P>
+ * Kernels are registered for an operator by IconOperators.
+ * The aligned type depends on the integer and real precision settings,
+ * which are assumed to be fixed before evaluation begins.
+ *
+ * @author Peter Mills
+ */
+public class IconInlineCache <T> implements BinaryOperator<IIconAtom<T>> {
+
+  /**
+   * Specialized operation over aligned numbers.
+   * Atoms are passed for operators, such as comparison,
+   * that return one of their operands.
+   */
+  @FunctionalInterface
+  public interface NumericKernel {
+	public IIconAtom apply (Number x, Number y,
+		IIconAtom xatom, IIconAtom yatom);
+  }
+
+  /**
+   * Specialized operation over integers.
+   */
+  @FunctionalInterface
+  public interface IntegerKernel {
+	public IIconAtom apply (long x, long y,
+		IIconAtom xatom, IIconAtom yatom);
+  }
+
+  /**
+   * If operations use inline caches.
+   */
+  public static boolean isEnabled = true;
+
+  // Respecializations allowed before the site is left generic
+  private static final int MAX_MISSES = 4;
+
+  // Kernels by operator, indexed by aligned type
+  private static Map<Object, NumericKernel[]> kernels =
+		new IdentityHashMap();
+  private static Map<Object, IntegerKernel> integerKernels =
+		new IdentityHashMap();
+  private static final int INTEGER = 0;
+  private static final int REAL = 1;
+  private static final int BIGINTEGER = 2;
+  private static final int BIGDECIMAL = 3;
+
+  private BinaryOperator<IIconAtom<T>> operator;
+  private NumericKernel[] operatorKernels;
+  private IntegerKernel operatorIntegerKernel;
+
+  // Cache state
+  private Class<?> xClass = null;
+  private Class<?> yClass = null;
+  private NumericKernel kernel = null;
+  private IntegerKernel integerKernel = null;
+  private int misses = 0;
+
+  //==========================================================================
+  // Constructors.
+  //==========================================================================
+
+  /**
+   * Inline cache over the given operator and its kernels.
+   */
+  private IconInlineCache (BinaryOperator<IIconAtom<T>> operator,
+		NumericKernel[] operatorKernels, IntegerKernel integerKernel) {
+	this.operator = operator;
+	this.operatorKernels = operatorKernels;
+	this.operatorIntegerKernel = integerKernel;
+  }
+
+  /**
+   * Returns an inline cache for a new call site of the operator,
+   * or the operator itself if it has no registered kernels.
+   */
+  public static <T> BinaryOperator<IIconAtom<T>> forOperator (
+		BinaryOperator<IIconAtom<T>> operator) {
+	if ((! isEnabled) || (operator == null)) { return operator; }
+	NumericKernel[] found = kernels.get(operator);
+	if (found == null) { return operator; }
+	return new IconInlineCache<T>(operator, found,
+		integerKernels.get(operator));
+  }
+
+  /**
+   * Registers kernels for an operator, one for each aligned numeric type.
+   * Intended to be called when the operator is defined.
+   * @return the operator.
+   */
+  public static <V> BinaryOperator<V> register (BinaryOperator<V> operator,
+		IntegerKernel onInteger, NumericKernel onReal,
+		NumericKernel onBigInteger, NumericKernel onBigDecimal) {
+	if (operator == null) { return null; }
+	synchronized (kernels) {
+		kernels.put(operator, new NumericKernel[] {
+			null, onReal, onBigInteger, onBigDecimal });
+		integerKernels.put(operator, onInteger);
+	}
+	return operator;
+  }
+
+  /**
+   * Generic operator wrapped by this cache.
+   */
+  public BinaryOperator<IIconAtom<T>> getOperator () {
+	return operator;
+  }
+
+  //==========================================================================
+  // Apply.
+  //==========================================================================
+
+  public IIconAtom<T> apply (IIconAtom<T> xatom, IIconAtom<T> yatom) {
+	if ((integerKernel != null) && (xatom != null) && (yatom != null)) {
+		IconValue x = xatom.getValue();
+		IconValue y = yatom.getValue();
+		if ((x.getType() == IconTypes.NUMBER) && x.isInteger()
+				&& (y.getType() == IconTypes.NUMBER)
+				&& y.isInteger()) {
+			return integerKernel.apply(x.getInteger(), y.getInteger(),
+				xatom, yatom);
+		}
+	} else if ((kernel != null) && (xatom != null) && (yatom != null)) {
+		Object x = xatom.getValue().get();
+		Object y = yatom.getValue().get();
+		if ((x != null) && (y != null) && (x.getClass() == xClass)
+				&& (y.getClass() == yClass)) {
+			return kernel.apply((Number) x, (Number) y, xatom, yatom);
+		}
+	}
+	IIconAtom<T> result = operator.apply(xatom, yatom);
+	if (misses < MAX_MISSES) { specialize(xatom, yatom); }
+	return result;
+  }
+
+  /**
+   * Caches the operand classes and kernel for their aligned type,
+   * if both operands are numbers.  Otherwise leaves the site generic.
+   */
+  private void specialize (IIconAtom<T> xatom, IIconAtom<T> yatom) {
+	misses++;
+	kernel = null;
+	integerKernel = null;
+	if ((xatom == null) || (yatom == null)) { return; }
+	IconValue x = xatom.getValue();
+	IconValue y = yatom.getValue();
+	if (! ((x.get() instanceof Number) && (y.get() instanceof Number))) {
+		return;
+	}
+	IconTypes align = IconValueNumber.align(x, y);
+	if (align == null) { return; }
+	switch (align) {
+	    case INTEGER: integerKernel = operatorIntegerKernel; return;
+	    case REAL: kernel = operatorKernels[REAL]; break;
+	    case BIGINTEGER: kernel = operatorKernels[BIGINTEGER]; break;
+	    case BIGDECIMAL: kernel = operatorKernels[BIGDECIMAL]; break;
+	    default: return;
+	}
+	xClass = x.get().getClass();
+	yClass = y.get().getClass();
+  }
+
+  //==========================================================================
+  // Conversions for kernels, matching IconValueNumber.
+  //==========================================================================
+
+  /**
+   * Number as BigInteger.
+   */
+  public static BigInteger toBigInteger (Number number) {
+	if (number instanceof BigInteger) { return (BigInteger) number; }
+	return BigInteger.valueOf(number.longValue());
+  }
+
+  /**
+   * Number as BigDecimal.
+   */
+  public static BigDecimal toBigDecimal (Number number) {
+	if (number instanceof BigDecimal) { return (BigDecimal) number; }
+	if (number instanceof BigInteger) {
+		return new BigDecimal((BigInteger) number);
+	}
+	return new BigDecimal(number.doubleValue());
+  }
+
+}
+
+//==== END OF FILE
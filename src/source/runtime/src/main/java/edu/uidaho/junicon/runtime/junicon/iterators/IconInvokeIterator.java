@@ -74,12 +74,15 @@ public class IconInvokeIterator <T> extends IconIterator <T> {
   /**
    * No-arg constructor.
    */
-  public IconInvokeIterator () { }
+  public IconInvokeIterator () {
+	isInvocation = true;
+  }
 
   /**
    * Constructor with function as closure that returns value.
    */
   public IconInvokeIterator (Callable<T> invocable) {
+	isInvocation = true;
 	this.invocable = invocable;
 	singleton();	// May be bounded later by parent IconSequence
 	setUseOnNextAdvice(true);
@@ -89,6 +92,7 @@ public class IconInvokeIterator <T> extends IconIterator <T> {
    * Constructor with function as closure that returns void.
    */
   public IconInvokeIterator (Runnable runnable) {
+	isInvocation = true;
 	// Under Groovy, Closure is both Runnable and Callable, chooses Runnable
 	if (runnable instanceof Callable) {
 		this.invocable = (Callable<T>) runnable;
@@ -134,6 +138,9 @@ public class IconInvokeIterator <T> extends IconIterator <T> {
   private boolean isIterator = false;
   private IIconAtom<T> funcResult;
   private boolean hasReturned = false;	// last iteration was isMethoReturned
+  private Object callEvent = null;	// procedure call event, if recording
+  private IconMemoTable.Arguments memoKey = null; // arguments, if memoizing
+  private List<Object> memoResults = null;	// results so far, if memoizing
 
   /**
    * Override what happens after restart().
@@ -164,9 +171,14 @@ public class IconInvokeIterator <T> extends IconIterator <T> {
 	// This is sufficient to reclaim method body, but not aggressively.
 	//====
 	if (iter != null) {	// Return method body to cache
+		if (callEvent != null) {
+			IconEvents.endCall(callEvent);
+			callEvent = null;
+		}
+		memoResults = null;		// Abandoned, so not memoized
 		MethodBodyCache cache = iter.getCache();
 		if (cache != null) {
-		    cache.addFree(iter.getNameInCache(), iter);
+		    cache.addFree(iter);
 		}
 		iter = null;
 	}
@@ -191,6 +203,12 @@ public class IconInvokeIterator <T> extends IconIterator <T> {
 			(invoked instanceof IconIterator)) {
 		iter = (IconIterator) invoked;
 		isIterator = true;	// delegate next to iter
+		if (IconEvents.isEnabled) { callEvent = IconEvents.beginCall(iter); }
+		if (iter.memoKey != null) {	// Record results of memoized body
+			memoKey = iter.memoKey;
+			iter.memoKey = null;
+			memoResults = new ArrayList<Object>();
+		}
 		setIsSingleton(false);
 	} else {
 		isIterator = false;
@@ -216,23 +234,9 @@ public class IconInvokeIterator <T> extends IconIterator <T> {
 		    //====
 		    setIsFailed(true);
 		} else {
+		    if (callEvent != null) { IconEvents.resumeCall(callEvent); }
 		    funcResult = iter.nextAtom();
-		    boolean failed = iter.isFailed();
-		    hasReturned = iter.isMethodReturned();
-
-		    // Propagate failure and continuation past method boundary
-		    if (failed) { setIsFailed(true); };
-		    if (iter.isContinuation()) { setIsContinuation(); }
-
-		    // Free method cache
-		    if (failed || hasReturned) {
-			// Return method body to cache (aggressively reclaim)
-			MethodBodyCache cache = iter.getCache();
-			if (cache != null) {
-			    cache.addFree(iter.getNameInCache(), iter);
-			}
-			iter = null;
-		    }
+		    afterBodyNext();
 		}
 	} else {
 		if (invoked == FAIL) { return FAIL; }
@@ -248,12 +252,117 @@ public class IconInvokeIterator <T> extends IconIterator <T> {
 	return funcResult;
   }
 
+  /**
+   * Handles the result of the method body's nextAtom().
+   * Propagates failure and continuation past the method boundary,
+   * and frees the method body if it failed or returned.
+   */
+  private void afterBodyNext () {
+	boolean failed = iter.isFailed();
+	hasReturned = iter.isMethodReturned();
+	if (callEvent != null) {
+		callEvent = IconEvents.stepCall(callEvent, failed, hasReturned);
+	}
+	if (memoResults != null) { memoizeResult(failed); }
+
+	// Propagate failure and continuation past method boundary
+	if (failed) { setIsFailed(true); };
+	if (iter.isContinuation()) { setIsContinuation(); }
+
+	// Free method cache
+	if (failed || hasReturned) {
+		// Return method body to cache (aggressively reclaim)
+		MethodBodyCache cache = iter.getCache();
+		if (cache != null) {
+		    cache.addFree(iter);
+		}
+		iter = null;
+	}
+  }
+
+  /**
+   * Records the result of a memoized method body.
+   * Once the body fails or returns, memoizes all its results
+   * for its arguments.
+   */
+  private void memoizeResult (boolean failed) {
+	if ((! failed) && (funcResult != null) && (funcResult != FAIL)) {
+		if (memoResults.size() >= IconMemoTable.getMaxResults()) {
+			memoResults = null;	// Too many to memoize
+			return;
+		}
+		memoResults.add(funcResult.deref());
+	}
+	if (failed || hasReturned) {
+		MethodBodyCache cache = iter.getCache();
+		if (cache != null) {
+			cache.getMemoTable(iter).put(memoKey,
+				memoResults.toArray());
+		}
+		memoResults = null;
+		memoKey = null;
+	}
+  }
+
+  //==========================================================================
+  // Trampoline.
+  //==========================================================================
+
+  /**
+   * Begins nextAtom() when invoked from the explicit stack
+   * of an outer IconComposition, so that the method body
+   * can be stepped on the same stack instead of recursively.
+   * Does what nextAtom() does up to the point of stepping the body.
+   * @return the method body to be stepped in place,
+   *	or null if this iterator has already completed nextAtom().
+   */
+  IconComposition<T> trampolineBegin () {
+	if (hasLookahead || hasContinuationResult) {
+		nextAtom();
+		return null;
+	}
+	nextBegin();
+	if (useOnNextAdvice) { afterNextBegin(); }
+	if (isFailed) {
+		nextEndFinally();
+		if (useOnNextAdvice) { afterNextEnd(); }
+		return null;
+	}
+	if (isIterator && (! hasReturned) && iter.isComposition &&
+			(! iter.hasLookahead)) {
+		if (callEvent != null) { IconEvents.resumeCall(callEvent); }
+		return (IconComposition<T>) iter;
+	}
+	nextNoOperands();
+	nextEnd();
+	if (useOnNextAdvice) { afterNextEnd(); }
+	return null;
+  }
+
+  /**
+   * Ends nextAtom() after the method body returned by trampolineBegin()
+   * has been stepped in place.
+   */
+  void trampolineEnd () {
+	funcResult = iter.result;
+	afterBodyNext();
+	result = funcResult;
+	if (result == FAIL) { isFailed = true; };
+	nextEnd();
+	if (useOnNextAdvice) { afterNextEnd(); }
+  }
+
   public void afterNextEnd () {
     if (isFailed && isIterator && (iter != null)) {
+	if (callEvent != null) {
+		IconEvents.endCall(callEvent);
+		callEvent = null;
+	}
+	memoResults = null;
 	// Return method body to cache (aggressively reclaim)
 	MethodBodyCache cache = iter.getCache();
 	if (cache != null) {
-	    cache.addFree(iter.getNameInCache(), iter);
+	    cache.addFree(iter);
 	}
 	iter = null;
     }
@@ -85,20 +85,30 @@ public class IconIterator <T> implements IIconIterator <T> {
   //==========================================================================
   // Composition.  Only one of the following compositions can apply.
   //==========================================================================
-  boolean isConstant = false;   // if is constant iterator, with no operands
   IIconAtom<T> constantValue = null; // for constant iterator
 			// that returns value and never fails
 
   //====
-  // Limit modifiers that can be attached to any iterator
+  // Modifiers, set when the iterator is built and packed into one word.
+  // Limit modifiers can be attached to any iterator.
   //====
-  boolean isSingleton = false;	// limit 1, like bounded expression
-  boolean isBounded = false;    // always fails on next, like reduced singleton
-  boolean doNot = false;	// Flips fail and success
-  boolean isAlwaysRestart = false; // exists(), alternative to isBounded
-  boolean isAlwaysFail = false;    // fail without increasing nonempty count
-  boolean isAlwaysSucceed = false; // succeed always, unless guarded
-  boolean filterOnReturn = false; // filter result for return from method
+  int modifiers = 0;
+
+  static final int CONSTANT = 1;	// is constant iterator, with no operands
+  static final int SINGLETON = 1 << 1;	// limit 1, like bounded expression
+  static final int BOUNDED = 1 << 2;	// always fails on next, like reduced singleton
+  static final int NOT = 1 << 3;	// Flips fail and success
+  static final int ALWAYS_RESTART = 1 << 4; // exists(), alternative to isBounded
+  static final int ALWAYS_FAIL = 1 << 5;    // fail without increasing nonempty count
+  static final int ALWAYS_SUCCEED = 1 << 6; // succeed always, unless guarded
+  static final int FILTER_ON_RETURN = 1 << 7; // filter result for return from method
+
+  /**
+   * Returns if any of the given modifier bits are set.
+   */
+  final boolean hasModifier (int modifier) {
+	return (modifiers & modifier) != 0;
+  }
 
   //====
   // Iterator parent
@@ -112,12 +122,15 @@ public class IconIterator <T> implements IIconIterator <T> {
   IconIterator<T> y = null;  // if unary, will be null
   boolean inLeft = true;		// Popped from left child
   boolean isComposition = false;	// If is IIconComposition
+  boolean isInvocation = false;	// If is IconInvokeIterator
 
   //====
   // Cache for function body definition
   //====
   MethodBodyCache cache = null;
   String nameInCache = null; // uniqueified method name used in per-object cache
+  int slotInCache = -1;	    // slot of method body in cache, -1 if by name
+  IconMemoTable.Arguments memoKey = null; // arguments, if memoized
   VariadicFunction<T,T> unpack = null; // unpack args for variadic method
 
   //==========================================================================
@@ -181,14 +194,14 @@ public class IconIterator <T> implements IIconIterator <T> {
   public void nextBegin () {
 	// Restart if failed, first next(), or always restart and not suspended.
 	// 	If failed restart even if suspended, since do not resume on next
-	if (isFailed || (! haveDoneNext) || isAlwaysRestart) {
+	if (isFailed || (! haveDoneNext) || hasModifier(ALWAYS_RESTART)) {
 		restart();
 	}
 
 	result = null;
 
 	// Handle limit or singleton, i.e., bounded expression, unless suspended
-	if ((isSingleton || isBounded) && haveDoneNext) {
+	if (hasModifier(SINGLETON | BOUNDED) && haveDoneNext) {
 		// Bounded/singleton/limit and guard trumps handleFailOverrides
 		isFailed = true;
 		result = FAIL;
@@ -316,7 +329,7 @@ public class IconIterator <T> implements IIconIterator <T> {
 		isEmpty = false;
 	}
 	if (result != null) {
-		if (filterOnReturn) { result = result.onReturn(); }
+		if (hasModifier(FILTER_ON_RETURN)) { result = result.onReturn(); }
 		//====
 		// else if (filterOnNext) { result = result.onNext(); }
 		//====
@@ -346,20 +359,20 @@ if (isDebug) {
    * If isGuarded then ignores isAlwaysSucceed.
    */
   void handleFailOverrides (boolean isGuarded) {
-	    if (doNot) {
+	    if (hasModifier(NOT)) {
 		if (isFailed) { result = null; }
 		isFailed = ! isFailed;
 	    }
 	    // Guard trumps succeed -- if IsGuarded, use its value
-	    if (isAlwaysSucceed && (! isGuarded)) {
+	    if (hasModifier(ALWAYS_SUCCEED) && (! isGuarded)) {
 		if (isFailed) { result = null; }
 		isFailed = false;
 	    }
-	    if (isAlwaysFail) {
+	    if (hasModifier(ALWAYS_FAIL)) {
 		isFailed = true;	// restart on next()
 	    }
 	    // isBounded not allowed with return/suspend/break/continue
-	    if (isBounded && (! isAlwaysSucceed)) {
+	    if (hasModifier(BOUNDED) && (! hasModifier(ALWAYS_SUCCEED))) {
 		// preserve non-empty status for guard
 		if (! isFailed) {
 			count++;
@@ -378,7 +391,7 @@ if (isDebug) {
   }
 
   public IIconAtom<T> provideNext () {
-	if (! isConstant) { isFailed = true; }	// default is empty iterator
+	if (! hasModifier(CONSTANT)) { isFailed = true; }	// default is empty iterator
 	return constantValue;			// null if not constant iterator
   }
 
@@ -461,13 +474,13 @@ if (isDebug) {
 
   public IIconIterator<T> constant (T c) {
 	this.constantValue = IconValue.create(c);	// create().setIsKeep()
-	this.isConstant = true;
+	modifiers |= CONSTANT;
 	return this;
   }
 
   public IIconIterator<T> constantAtom (IIconAtom<T> c) {
 	this.constantValue = c;
-	this.isConstant = true;
+	modifiers |= CONSTANT;
 	return this;
   }
 
@@ -476,7 +489,7 @@ if (isDebug) {
   }
 
   public boolean isConstant () {
-	return isConstant;
+	return hasModifier(CONSTANT);
   }
 
   public IIconIterator<T> singleton (T c) {
@@ -496,42 +509,42 @@ if (isDebug) {
   //====
 
   public IIconIterator<T> singleton () {
-	this.isSingleton=true; return this; } // isBounded but non-empty
+	modifiers |= SINGLETON; return this; } // isBounded but non-empty
 
   public IIconIterator<T> bound () {
-	this.isBounded=true; this.isSingleton=true; return this; }
+	modifiers |= (BOUNDED | SINGLETON); return this; }
 
   public IIconIterator<T> exists () {     // exists() is same as alwaysRestart()
-	this.isAlwaysRestart=true; return this; }
+	modifiers |= ALWAYS_RESTART; return this; }
 
   public boolean isBounded () {
-	return isBounded; }
+	return hasModifier(BOUNDED); }
 
   public boolean isSingleton () {
-	return (isSingleton || isBounded); }
+	return hasModifier(SINGLETON | BOUNDED); }
 
   public IIconIterator<T> setIsSingleton (boolean b) {
-	this.isSingleton = b; return this; }
+	modifiers = (b) ? (modifiers | SINGLETON) : (modifiers & ~SINGLETON); return this; }
 
   //====
   // Force fail, succeed, or not.
   //====
 
   public IIconIterator<T> fail () {
-	this.isAlwaysFail = true; return this; }
+	modifiers |= ALWAYS_FAIL; return this; }
 
   public IIconIterator<T> succeed () {
-	this.isAlwaysSucceed = true; return this; } // if guarded use that
+	modifiers |= ALWAYS_SUCCEED; return this; } // if guarded use that
 
   public IIconIterator<T> not () {
-	this.doNot = true; return this; }
+	modifiers |= NOT; return this; }
 
   //====
   // Filter result for return from method or procedure
   //====
   public IIconIterator<T> filterOnReturn () {
 	// Wrap result as IconValue if not already
-	this.filterOnReturn = true;
+	modifiers |= FILTER_ON_RETURN;
 	return this;
   }
 
@@ -641,9 +654,17 @@ if (isDebug) {
   public IIconIterator<T> setCache (MethodBodyCache cache,
 		String name) {
 	this.cache = cache;
-	this.nameInCache = name; return this;
+	this.nameInCache = name;
+	this.slotInCache = -1; return this;
+  }
+  public IIconIterator<T> setCache (MethodBodyCache cache,
+		int slot, String name) {
+	this.cache = cache;
+	this.nameInCache = name;
+	this.slotInCache = slot; return this;
   }
   public String getNameInCache () { return nameInCache; }
+  public int getSlotInCache () { return slotInCache; }
 
   // Sets and invokes closure to unpack args from variadic method
   public IIconIterator<T> setUnpackClosure (VariadicFunction<T,T> unpack) {
@@ -653,6 +674,9 @@ if (isDebug) {
 
   public IIconIterator<T> unpackArgs (T... args) {
 	if (unpack != null) { unpack.apply(args); }
+	if ((cache != null) && cache.isMemoized(this)) {
+		memoKey = new IconMemoTable.Arguments(args);
+	}
 	return this;
   }
 
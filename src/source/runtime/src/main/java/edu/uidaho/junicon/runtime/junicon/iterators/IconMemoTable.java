@@ -0,0 +1,318 @@
+//========================================================================
+// Copyright (c) 2014 Orielle, LLC.  
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions
+// are met:
+//
+// 1. Redistributions of source code must retain the above copyright
+//    notice, this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+//    notice, this list of conditions and the following disclaimer in the
+//    documentation and/or other materials provided with the distribution.
+//
+// This software is provided by the copyright holders and contributors
+// "as is" and any express or implied warranties, including, but not
+// limited to, the implied warranties of merchantability and fitness for
+// a particular purpose are disclaimed. In no event shall the copyright
+// holder or contributors be liable for any direct, indirect, incidental,
+// special, exemplary, or consequential damages (including, but not
+// limited to, procurement of substitute goods or services; loss of use,
+// data, or profits; or business interruption) however caused and on any
+// theory of liability, whether in contract, strict liability, or tort
+// (including negligence or otherwise) arising in any way out of the use
+// of this software, even if advised of the possibility of such damage.
+//========================================================================
+package edu.uidaho.junicon.runtime.junicon.iterators;
+
+import static edu.uidaho.junicon.runtime.junicon.iterators.IIconAtom.FAIL;
+
+import java.util.Map;
+import java.util.LinkedHashMap;
+
+/**
+ * Memoized results of a pure method, for a given slot of a method body cache.
+ * Maps argument tuples to the sequence of results produced by the method,
+ * i.e., the single result of a function, or all the results of a
+ * finite generator.
+ * Only complete result sequences are cached, so that a generator that
+ * is abandoned before it fails, or that produces more than maxResults
+ * results, is never memoized.
+ * <P>
+ * Arguments match if they are the same under Icon's ===, i.e.,
+ * numbers and strings match by value and type,
+ * while structures and other objects match only if identical.
+ * Results are cached as values, so that a memoized method
+ * cannot return an assignable variable.
+ * <P>
+ * The table holds at most maxSize argument tuples,
+ * evicting the least recently used.
+ * The default size is given by the system property junicon.memoizeSize,
+ * or 1024, and the maximum results per tuple by junicon.memoizeResults,
+ * or 1024.
+ * Thread-safe.
+ *
+ * @author Peter Mills
+ */
+public class IconMemoTable {
+
+  private static int defaultSize = (int) IconNumber.stringToInteger(
+	System.getProperty("junicon.memoizeSize", "1024"), 1024);
+  private static int maxResults = (int) IconNumber.stringToInteger(
+	System.getProperty("junicon.memoizeResults", "1024"), 1024);
+
+  private final int maxSize;
+  private final LinkedHashMap<Arguments, Object[]> table;
+
+  // Statistics
+  private long hits = 0;
+  private long misses = 0;
+  private long evictions = 0;
+
+  //==========================================================================
+  // Constructors.
+  //==========================================================================
+
+  /**
+   * Creates a table with the default size.
+   */
+  public IconMemoTable () {
+	this(defaultSize);
+  }
+
+  /**
+   * Creates a table holding at most maxSize argument tuples.
+   */
+  public IconMemoTable (int maxSize) {
+	this.maxSize = Math.max(1, maxSize);
+	table = new LinkedHashMap<Arguments, Object[]>(16, 0.75f, true) {
+	  @Override protected boolean removeEldestEntry (
+			Map.Entry<Arguments, Object[]> eldest) {
+		if (size() <= IconMemoTable.this.maxSize) { return false; }
+		evictions++;
+		return true;
+	  }
+	};
+  }
+
+  //==========================================================================
+  // Configuration.
+  //==========================================================================
+
+  /**
+   * Sets the size of tables created afterwards.
+   */
+  public static void setDefaultSize (int size) {
+	defaultSize = size;
+  }
+
+  /**
+   * Gets the size of tables created by default.
+   */
+  public static int getDefaultSize () {
+	return defaultSize;
+  }
+
+  /**
+   * Sets the most results that will be cached for one argument tuple.
+   */
+  public static void setMaxResults (int size) {
+	maxResults = size;
+  }
+
+  /**
+   * Gets the most results that will be cached for one argument tuple.
+   */
+  public static int getMaxResults () {
+	return maxResults;
+  }
+
+  /**
+   * Gets the most argument tuples held by this table.
+   */
+  public int getMaxSize () {
+	return maxSize;
+  }
+
+  //==========================================================================
+  // Lookup and record.
+  //==========================================================================
+
+  /**
+   * Gets an iterator over the memoized results for the arguments,
+   * or null if none.
+   */
+  public IconIterator<?> get (Object[] args) {
+	Object[] results;
+	synchronized (this) {
+		results = table.get(new Arguments(args));
+		if (results == null) {
+			misses++;
+			return null;
+		}
+		hits++;
+	}
+	return new IconResults(results);
+  }
+
+  /**
+   * Records the complete results for the arguments.
+   */
+  public void put (Object[] args, Object[] results) {
+	put(new Arguments(args), results);
+  }
+
+  /**
+   * Records the complete results for the argument tuple,
+   * as captured when the method was invoked.
+   */
+  void put (Arguments key, Object[] results) {
+	if ((key == null) || (results == null) ||
+			(results.length > maxResults)) { return; }
+	synchronized (this) {
+		table.put(key, results);
+	}
+  }
+
+  //==========================================================================
+  // Statistics.
+  //==========================================================================
+
+  /**
+   * Number of lookups that found memoized results.
+   */
+  public synchronized long getHits () { return hits; }
+
+  /**
+   * Number of lookups that found no memoized results.
+   */
+  public synchronized long getMisses () { return misses; }
+
+  /**
+   * Number of argument tuples evicted as least recently used.
+   */
+  public synchronized long getEvictions () { return evictions; }
+
+  /**
+   * Number of argument tuples held.
+   */
+  public synchronized int size () { return table.size(); }
+
+  /**
+   * Removes all memoized results and resets the statistics.
+   */
+  public synchronized void clear () {
+	table.clear();
+	hits = 0;
+	misses = 0;
+	evictions = 0;
+  }
+
+  //==========================================================================
+  // Argument tuples.
+  //==========================================================================
+
+  /**
+   * Argument tuple, compared using ===.
+   * Dereferences its arguments when created, so that later
+   * assignments to variables passed as arguments do not change the key.
+   */
+  static final class Arguments {
+	private final Object[] args;
+	private final int hash;
+
+	Arguments (Object[] args) {
+		if (args == null) { args = IIconAtom.getEmptyArray(); }
+		this.args = args.clone();
+		int h = 1;
+		for (int i = 0; i < this.args.length; i++) {
+			this.args[i] = valueOf(this.args[i]);
+			h = (31 * h) + hashOf(this.args[i]);
+		}
+		hash = h;
+	}
+
+	@Override public int hashCode () {
+		return hash;
+	}
+
+	@Override public boolean equals (Object other) {
+		if (! (other instanceof Arguments)) { return false; }
+		Object[] others = ((Arguments) other).args;
+		if (args.length != others.length) { return false; }
+		for (int i = 0; i < args.length; i++) {
+			if (! isSame(args[i], others[i])) { return false; }
+		}
+		return true;
+	}
+
+	/**
+	 * Dereferences atoms, and widens small integers to Long
+	 * so that equal integers share a class.
+	 */
+	private static Object valueOf (Object x) {
+		while (x instanceof IIconAtom) {
+			Object value = ((IIconAtom) x).deref();
+			if (value == x) { break; }
+			x = value;
+		}
+		if ((x instanceof Integer) || (x instanceof Short) ||
+				(x instanceof Byte)) {
+			return Long.valueOf(((Number) x).longValue());
+		}
+		return x;
+	}
+
+	/**
+	 * Values with value semantics under ===.
+	 * Integers are kept as Long unless too large for a long,
+	 * so equal integers have the same class.
+	 */
+	private static boolean isScalar (Object x) {
+		return (x instanceof Number) || (x instanceof String) ||
+			(x instanceof Character) || (x instanceof Boolean);
+	}
+
+	private static int hashOf (Object x) {
+		if (x == null) { return 0; }
+		if (isScalar(x)) { return x.hashCode(); }
+		return System.identityHashCode(x);
+	}
+
+	private static boolean isSame (Object x, Object y) {
+		if (x == y) { return true; }
+		if ((x == null) || (y == null)) { return false; }
+		if (! isScalar(x)) { return false; }
+		return x.equals(y);
+	}
+  }
+
+  //==========================================================================
+  // Replay of memoized results.
+  //==========================================================================
+
+  /**
+   * Iterator over memoized results.
+   */
+  private static final class IconResults<T> extends IconIterator<T> {
+	private final Object[] results;
+	private int index = 0;
+
+	IconResults (Object[] results) {
+		this.results = results;
+	}
+
+	public void afterRestart () {
+		index = 0;
+	}
+
+	public IIconAtom<T> provideNext () {
+		if (index >= results.length) { return FAIL; }
+		return IconValue.create(results[index++]);
+	}
+  }
+}
+
+//==== END OF FILE
@@ -31,10 +31,8 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.List;
 
-import java.text.NumberFormat;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.regex.Pattern;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -52,6 +50,10 @@ import java.lang.ArithmeticException;
  * in converting strings to numbers, and in coercion of operator results.
  * If either operand is a BigInteger or BigDecimal,
  * it will coerce up to big number computations.
+ * With arbitrary precision integers, integers are kept as a Long
+ * whenever they fit, and operators use overflow-checked long arithmetic,
+ * promoting the result to a BigInteger only on overflow.
+ * Conversely, a BigInteger that fits in a long is demoted to a Long.
  * Index origin is used for index operations c[i], and for string operations.
  * <P>
  * Setters to drive runtime of Java are as follows.
@@ -259,12 +261,9 @@ public class IconNumber {
   //==========================================================================
   // Convert string to a small number.
   //==========================================================================
-  private static Pattern isIntegerPattern = Pattern.compile("-?\\d+");
-  private static NumberFormat numberFormatter = NumberFormat.getInstance();
-	//====
-	// A Number can be truncated to an integer using intValue().
-	// Alternatively one could use NumberFormat.setParseIntegerOnly().
-	//====
+  //====
+  // Strings are parsed by IconNumberFormat, which is thread-safe.
+  //====
 
   /**
    * Converts any number in string format into a small Number.
@@ -272,12 +271,7 @@ public class IconNumber {
    * @return null if the string is not a number, or if null input.
    */
   public static Number stringToNumber (CharSequence str) {
-    if (str == null) { return null; }
-    try {
-	return numberFormatter.parse(str.toString().trim());
-    } catch (java.text.ParseException e) {
-	return null;
-    }
+    return IconNumberFormat.parse(str, false, false);
   }
 
   /**
@@ -308,11 +302,7 @@ public class IconNumber {
     if (str == null) { return null; }
     if (str instanceof Number) { return (Number) str; }
     if (! (str instanceof CharSequence)) { return null; }
-    try {
-	return numberFormatter.parse(((CharSequence) str).toString().trim());
-    } catch (java.text.ParseException e) {
-	return null;
-    }
+    return IconNumberFormat.parse((CharSequence) str, false, false);
   }
 
   //==========================================================================
@@ -332,52 +322,32 @@ public class IconNumber {
     if (obj == null) { return null; }
     if (obj instanceof Number) { return (Number) obj; }
     if (! (obj instanceof CharSequence)) { return null; }
-    String str = ((CharSequence) obj).toString().trim();
-    boolean isInteger = isIntegerPattern.matcher(str).matches();
-    try {
-	if (isInteger) {
-	    if (isIntegerPrecision) {
-		return new BigInteger(str);
-	    }
-	    // return Long.parseLong(str);
-	    return numberFormatter.parse(str);
-	}
-	if (isRealPrecision) {
-	    return new BigDecimal(str);
-	}
-	// return Double.parseDouble(str);
-	return numberFormatter.parse(str);
-    } catch (NumberFormatException e) {
-	return null;
-    } catch (java.text.ParseException e) {
-	return null;
-    }
+    Number number = IconNumberFormat.parse((CharSequence) obj,
+	isIntegerPrecision, isRealPrecision);
+    if (number instanceof BigInteger) { return demote((BigInteger) number); }
+    return number;
   }
 
   /**
    * Creates a number in the given base.
-   * If isIntegerPrecision, creates a BigInteger; otherwise creates a Long.
+   * If isIntegerPrecision, creates a BigInteger if it does not fit in a long;
+   * otherwise creates a Long.
    * If radix < 0, assumes radix is in front of the string in the form: 16r3FF
    */
   public static Number toBigRadix (CharSequence chars, int radix) {
     if (chars == null) { return null; }
-    String str = chars.toString().trim().toLowerCase();
-    		// Radix: 2-36, Number: a-z, lower case.
-    try {
-	if (radix < 0) {
-	    int pos = str.indexOf('r');
-	    if (pos < 0) { return null; }
-	    String rad = str.substring(0,pos);
-	    str = str.substring(pos + 1);
-	    radix = Integer.parseInt(rad);
+    		// Radix: 2-36, Number: a-z, either case.
+    Number number;
+    if (radix < 0) {
+	number = IconNumberFormat.parse(chars, isIntegerPrecision, false);
+	if (! ((number instanceof Long) || (number instanceof BigInteger))) {
+	    return null;		// Not radix form, e.g., real
 	}
-	if (isIntegerPrecision) {
-	    return new BigInteger(str, radix);
-	}
-	return Long.parseLong(str, radix);
-    } catch (NumberFormatException e) {
-	return null;
+    } else {
+	number = IconNumberFormat.parseRadix(chars, radix, isIntegerPrecision);
     }
+    if (number instanceof BigInteger) { return demote((BigInteger) number); }
+    return number;
   }
 
   //==========================================================================
@@ -531,11 +501,11 @@ public class IconNumber {
 	if (r == null) { return null; }
 	if (r instanceof BigInteger) {
 	    if (isIntegerPrecision) {
-		return r;
+		return demote((BigInteger) r);
 	    }
 	} else if (r instanceof BigDecimal) {
 	    if (isIntegerPrecision) {
-		return ((BigDecimal) r).toBigInteger();
+		return demote(((BigDecimal) r).toBigInteger());
 	    }
 	}
 	return Long.valueOf(r.longValue());
@@ -559,27 +529,66 @@ public class IconNumber {
 	return Double.valueOf(r.doubleValue());
   }
   
+  //==========================================================================
+  // Promotion and demotion of integers.
+  //==========================================================================
+
+  /**
+   * Demotes a BigInteger to a Long if it fits in a long,
+   * so that any integer has a unique representation.
+   * @return Long, or the BigInteger if too large, or null if null input.
+   */
+  public static Number demote (BigInteger num) {
+	if ((num == null) || (num.bitLength() >= Long.SIZE)) { return num; }
+	return Long.valueOf(num.longValue());
+  }
+
+  /**
+   * Tests if a number is an integer, i.e., a Long, Integer, Short, Byte,
+   * or BigInteger.
+   */
+  public static boolean isInteger (Object num) {
+	return (num instanceof Long) || (num instanceof Integer)
+		|| (num instanceof BigInteger)
+		|| (num instanceof Short) || (num instanceof Byte);
+  }
+
+  /**
+   * Compares two integers, using long comparison unless either
+   * is a BigInteger.
+   */
+  public static int compareIntegers (Number x, Number y) {
+	if ((x instanceof BigInteger) || (y instanceof BigInteger)) {
+		return toBigInteger(x).compareTo(toBigInteger(y));
+	}
+	return Long.compare(x.longValue(), y.longValue());
+  }
+
+  /**
+   * Converts an integer to a BigInteger.
+   */
+  private static BigInteger toBigInteger (Number num) {
+	if (num instanceof BigInteger) { return (BigInteger) num; }
+	return BigInteger.valueOf(num.longValue());
+  }
+
   //==========================================================================
   // Literal number wrappers for insertion in source code.
   //==========================================================================
 
   /**
    * Converts a literal input number to an arbitrary precision value.
+   * Integers that fit in a long are kept as a Long.
    */
   public static Number create (int num) {
-	if (isIntegerPrecision) {
-		return BigInteger.valueOf(num);
-	}
 	return Long.valueOf(num);
   }
 
   /**
    * Converts a literal input number to an arbitrary precision value.
+   * Integers that fit in a long are kept as a Long.
    */
   public static Number create (long num) {
-	if (isIntegerPrecision) {
-		return BigInteger.valueOf(num);
-	}
 	return Long.valueOf(num);
   }
 
@@ -608,7 +617,7 @@ public class IconNumber {
    * Converts a literal input number to an arbitrary precision value.
    */
   public static Number create (BigInteger num) {
-	return num;
+	return demote(num);
   }
 
   /**
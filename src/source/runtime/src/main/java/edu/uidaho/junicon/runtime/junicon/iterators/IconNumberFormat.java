@@ -0,0 +1,316 @@
+//========================================================================
+// Copyright (c) 2012 Orielle, LLC.  
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions
+// are met:
+//
+// 1. Redistributions of source code must retain the above copyright
+//    notice, this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+//    notice, this list of conditions and the following disclaimer in the
+//    documentation and/or other materials provided with the distribution.
+//
+// This software is provided by the copyright holders and contributors
+// "as is" and any express or implied warranties, including, but not
+// limited to, the implied warranties of merchantability and fitness for
+// a particular purpose are disclaimed. In no event shall the copyright
+// holder or contributors be liable for any direct, indirect, incidental,
+// special, exemplary, or consequential damages (including, but not
+// limited to, procurement of substitute goods or services; loss of use,
+// data, or profits; or business interruption) however caused and on any
+// theory of liability, whether in contract, strict liability, or tort
+// (including negligence or otherwise) arising in any way out of the use
+// of this software, even if advised of the possibility of such damage.
+//========================================================================
+package edu.uidaho.junicon.runtime.junicon.iterators;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Parses and formats numbers as Icon literals,
+ * without regular expressions or java.text.NumberFormat.
+ * All methods are static and keep no state, so are thread-safe.
+ * <P>
+ * The parsed syntax is that of Icon numeric strings:
+ * optional surrounding whitespace and an optional sign, followed by
+ * an integer such as 42, a real such as 3.14, .5, 2., or 6.02e23,
+ * or a radix integer such as 16r1F, with a radix from 2 to 36.
+ * Integers are parsed directly into a long, and only promoted to a
+ * BigInteger on overflow.
+ * Reals of at most 15 significant digits and a small decimal exponent
+ * are converted exactly using a single multiply or divide by a power
+ * of ten, and other reals fall back to Double.parseDouble.
+ * <P>
+ * Reals are formatted as by Double.toString,
+ * with a fast path for values that have a short decimal form,
+ * i.e., as read from a data file, and integers as by toString.
+ *
+ * @author Peter Mills
+ */
+public class IconNumberFormat {
+
+  private static final int MAX_FAST_DIGITS = 15;	// Exact in a double
+  private static final double LOG10_2 = 0.30102999566398120;
+  private static final double[] POWERS_OF_TEN = {
+	1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+	1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+	1e21, 1e22 };
+
+  //==========================================================================
+  // Parsing.
+  //==========================================================================
+
+  /**
+   * Parses an Icon numeric string.
+   * Integers yield a Long, or if they do not fit, a BigInteger
+   * if isBigInteger, and otherwise a Double.
+   * Reals yield a BigDecimal if isBigDecimal, and otherwise a Double.
+   * @return null if not a number, or if null input.
+   */
+  public static Number parse (CharSequence str, boolean isBigInteger,
+		boolean isBigDecimal) {
+	if (str == null) { return null; }
+	int end = str.length();
+	int i = 0;
+	while ((i < end) && (str.charAt(i) <= ' ')) { i++; }	// As trim
+	while ((end > i) && (str.charAt(end - 1) <= ' ')) { end--; }
+	if (i == end) { return null; }
+	int start = i;
+	boolean isNegative = false;
+	char c = str.charAt(i);
+	if ((c == '-') || (c == '+')) {
+		isNegative = (c == '-');
+		if (++i == end) { return null; }
+	}
+
+	// Integer part
+	int digitsStart = i;
+	long mantissa = 0;
+	int significant = 0;		// Digits after leading zeros
+	boolean isOverflow = false;
+	for (; i < end; i++) {
+		int d = str.charAt(i) - '0';
+		if ((d < 0) || (d > 9)) { break; }
+		if ((significant > 0) || (d != 0)) { significant++; }
+		if (mantissa > (Long.MAX_VALUE - d) / 10) { isOverflow = true; }
+		mantissa = 10 * mantissa + d;
+	}
+	int intDigits = i - digitsStart;
+	if (i == end) {					// Integer
+		if (intDigits == 0) { return null; }
+		if (! isOverflow) { return isNegative ? -mantissa : mantissa; }
+		String digits = str.subSequence(start, end).toString();
+		if (isBigInteger) { return new BigInteger(digits); }
+		return Double.parseDouble(digits);
+	}
+	c = str.charAt(i);
+	if ((c == 'r') || (c == 'R')) {			// Radix
+		if (isOverflow || (intDigits == 0) || (intDigits > 2)) {
+			return null;
+		}
+		return parseRadix(str, i + 1, end, (int) mantissa, isNegative,
+			isBigInteger);
+	}
+
+	// Fraction and exponent
+	int fractionDigits = 0;
+	if (c == '.') {
+		for (i++; i < end; i++) {
+			int d = str.charAt(i) - '0';
+			if ((d < 0) || (d > 9)) { break; }
+			if ((significant > 0) || (d != 0)) { significant++; }
+			if (significant <= MAX_FAST_DIGITS) {
+				mantissa = 10 * mantissa + d;
+			}
+			fractionDigits++;
+		}
+		if (intDigits + fractionDigits == 0) { return null; }
+	} else if (intDigits == 0) {
+		return null;
+	}
+	int exponent = 0;
+	if ((i < end) && ((str.charAt(i) == 'e') || (str.charAt(i) == 'E'))) {
+		if (intDigits + fractionDigits == 0) { return null; }
+		if (++i == end) { return null; }
+		boolean isNegativeExponent = false;
+		c = str.charAt(i);
+		if ((c == '-') || (c == '+')) {
+			isNegativeExponent = (c == '-');
+			if (++i == end) { return null; }
+		}
+		for (; i < end; i++) {
+			int d = str.charAt(i) - '0';
+			if ((d < 0) || (d > 9)) { return null; }
+			if (exponent < 100000) { exponent = 10 * exponent + d; }
+		}
+		if (isNegativeExponent) { exponent = -exponent; }
+	}
+	if (i != end) { return null; }
+
+	if (isBigDecimal) {
+		return new BigDecimal(str.subSequence(start, end).toString());
+	}
+	int scale = exponent - fractionDigits;
+	if ((! isOverflow) && (significant <= MAX_FAST_DIGITS)
+			&& (scale >= -22) && (scale <= 22)) {
+		double value = (double) mantissa;	// Exact, below 2^53
+		value = (scale < 0) ? value / POWERS_OF_TEN[-scale]
+				: value * POWERS_OF_TEN[scale];
+		return isNegative ? -value : value;
+	}
+	return Double.parseDouble(str.subSequence(start, end).toString());
+  }
+
+  /**
+   * Parses an integer in the given radix, with optional surrounding
+   * whitespace and sign.
+   * Yields a Long, or if it does not fit, a BigInteger if isBigInteger.
+   * @return null if not a number in the radix, or if null input.
+   */
+  public static Number parseRadix (CharSequence str, int radix,
+		boolean isBigInteger) {
+	if (str == null) { return null; }
+	int end = str.length();
+	int i = 0;
+	while ((i < end) && (str.charAt(i) <= ' ')) { i++; }
+	while ((end > i) && (str.charAt(end - 1) <= ' ')) { end--; }
+	boolean isNegative = false;
+	if ((i < end) && ((str.charAt(i) == '-') || (str.charAt(i) == '+'))) {
+		isNegative = (str.charAt(i) == '-');
+		i++;
+	}
+	return parseRadix(str, i, end, radix, isNegative, isBigInteger);
+  }
+
+  /**
+   * Parses the digits of a radix integer, from str[i:end].
+   */
+  private static Number parseRadix (CharSequence str, int i, int end,
+		int radix, boolean isNegative, boolean isBigInteger) {
+	if ((radix < Character.MIN_RADIX) || (radix > Character.MAX_RADIX)
+			|| (i == end)) {
+		return null;
+	}
+	int digitsStart = i;
+	long value = 0;
+	boolean isOverflow = false;
+	long limit = Long.MAX_VALUE / radix;
+	for (; i < end; i++) {
+		int d = Character.digit(str.charAt(i), radix);
+		if (d < 0) { return null; }
+		if ((value > limit) || (radix * value > Long.MAX_VALUE - d)) {
+			isOverflow = true;
+		}
+		value = radix * value + d;
+	}
+	if (! isOverflow) { return isNegative ? -value : value; }
+	if (! isBigInteger) { return null; }
+	BigInteger big = new BigInteger(str.subSequence(digitsStart, end)
+		.toString(), radix);
+	return isNegative ? big.negate() : big;
+  }
+
+  //==========================================================================
+  // Formatting.
+  //==========================================================================
+
+  /**
+   * Formats a number for write or image.
+   * Reals are formatted as by Double.toString,
+   * and other numbers as by toString.
+   */
+  public static String format (Number number) {
+	if (number instanceof Double) {
+		return format(number.doubleValue());
+	}
+	if (number instanceof Long) {
+		return Long.toString(number.longValue());
+	}
+	return number.toString();
+  }
+
+  /**
+   * Formats a real as by Double.toString.
+   * Values of magnitude from 10^-7 up to 10^7 that are the nearest double
+   * to a decimal of at most 15 significant digits, i.e., most values
+   * that are read from text, are formatted directly from those digits.
+   * As the decimals of that length are further apart than doubles,
+   * the first that rounds to the value is the shortest.
+   */
+  public static String format (double value) {
+	double magnitude = Math.abs(value);
+	if ((magnitude >= 1e-7) && (magnitude < 1e7)) {
+		// Start below the first scale with a digit, as 2m > 2^-(e+2)
+		int start = Math.max(1, (int) Math.floor(
+			-(Math.getExponent(magnitude) + 2) * LOG10_2));
+		for (int scale = start; scale < POWERS_OF_TEN.length; scale++) {
+			double scaled = magnitude * POWERS_OF_TEN[scale];
+			if (scaled >= 1e15) { break; }
+			long digits = Math.round(scaled);
+			if (digits / POWERS_OF_TEN[scale] == magnitude) {
+				if (magnitude >= 1e-3) {
+					return formatDecimal(value < 0, digits, scale);
+				}
+				return formatScientific(value < 0, digits, scale);
+			}
+		}
+	}
+	return Double.toString(value);
+  }
+
+  /**
+   * Formats digits * 10^-scale, without trailing zeros in the fraction
+   * except for one after the point.
+   */
+  private static String formatDecimal (boolean isNegative, long digits,
+		int scale) {
+	while ((scale > 1) && (digits % 10 == 0)) {
+		digits /= 10;
+		scale--;
+	}
+	char[] text = new char[24];
+	int pos = text.length;
+	for (int i = 0; i < scale; i++) {
+		text[--pos] = (char) ('0' + (digits % 10));
+		digits /= 10;
+	}
+	text[--pos] = '.';
+	do {
+		text[--pos] = (char) ('0' + (digits % 10));
+		digits /= 10;
+	} while (digits != 0);
+	if (isNegative) { text[--pos] = '-'; }
+	return new String(text, pos, text.length - pos);
+  }
+
+  /**
+   * Formats digits * 10^-scale, for digits > 0, in scientific notation
+   * as d.dddE-n, with at least one digit after the point.
+   */
+  private static String formatScientific (boolean isNegative, long digits,
+		int scale) {
+	while (digits % 10 == 0) {
+		digits /= 10;
+		scale--;
+	}
+	char[] mantissa = new char[16];
+	int length = 0;
+	for (long rest = digits; rest != 0; rest /= 10) {
+		mantissa[length++] = (char) ('0' + (rest % 10));
+	}
+	int exponent = length - 1 - scale;
+	StringBuilder text = new StringBuilder(length + 8);
+	if (isNegative) { text.append('-'); }
+	text.append(mantissa[length - 1]).append('.');
+	if (length == 1) { text.append('0'); }
+	for (int i = length - 2; i >= 0; i--) { text.append(mantissa[i]); }
+	return text.append('E').append(exponent).toString();
+  }
+
+}
+
+//==== END OF FILE
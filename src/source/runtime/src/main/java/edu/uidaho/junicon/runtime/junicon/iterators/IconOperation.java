@@ -99,7 +99,7 @@ public class IconOperation <T> extends IconComposition <T> {
    */
   public IconOperation (BinaryOperator<IIconAtom<T>> op) {
 	product();
-	map(op);
+	map(IconInlineCache.forOperator(op));
   }
 
   /**
@@ -114,7 +114,7 @@ public class IconOperation <T> extends IconComposition <T> {
    */
   public IconOperation (BinaryOperator<IIconAtom<T>> op, IconIterator<T> x,
 		IconIterator<T> y) {
-	super(x,y); product(); map(op);
+	super(x,y); product(); map(IconInlineCache.forOperator(op));
   }
 
   /**
@@ -122,7 +122,7 @@ public class IconOperation <T> extends IconComposition <T> {
    */
   public IconOperation (BinaryOperator<IIconAtom<T>> op,
 		IconIterator<T>... rest) {
-	super(rest); product(); map(op);      // Left associative chain (x+y)+z
+	super(rest); product(); map(IconInlineCache.forOperator(op)); // Left associative chain (x+y)+z
   }
 
   /**
@@ -0,0 +1,196 @@
+//========================================================================
+// Copyright (c) 2015 Orielle, LLC.  
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions
+// are met:
+//
+// 1. Redistributions of source code must retain the above copyright
+//    notice, this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+//    notice, this list of conditions and the following disclaimer in the
+//    documentation and/or other materials provided with the distribution.
+//
+// This software is provided by the copyright holders and contributors
+// "as is" and any express or implied warranties, including, but not
+// limited to, the implied warranties of merchantability and fitness for
+// a particular purpose are disclaimed. In no event shall the copyright
+// holder or contributors be liable for any direct, indirect, incidental,
+// special, exemplary, or consequential damages (including, but not
+// limited to, procurement of substitute goods or services; loss of use,
+// data, or profits; or business interruption) however caused and on any
+// theory of liability, whether in contract, strict liability, or tort
+// (including negligence or otherwise) arising in any way out of the use
+// of this software, even if advised of the possibility of such damage.
+//========================================================================
+package edu.uidaho.junicon.runtime.junicon.iterators;
+
+import edu.uidaho.junicon.runtime.junicon.iterators.IIconAtom.IconTypes;
+
+import static edu.uidaho.junicon.runtime.junicon.iterators.IIconAtom.FAIL;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Singleton iterator for an arithmetic expression or comparison
+ * over local variables whose types the transform has inferred.
+ * The transform compiles the expression into primitive long or double
+ * arithmetic, together with a guard that tests the inferred types
+ * and the generic expression over operators.
+ * If the guard holds, evaluates the primitive expression,
+ * and otherwise, or if it overflows, evaluates the generic expression.
+ * The inferred types are only a prediction,
+ * for example a local is still &amp;null before its first assignment,
+ * so the guard keeps the result the same as the generic expression.
+ * <P>
+ * Integer arithmetic uses the exact methods of Math,
+ * so that overflow falls back to the generic operators,
+ * which promote to BigInteger if isIntegerPrecision.
+ * Real arithmetic is only compiled for +, -, and *,
+ * and falls back to the generic operators if isRealPrecision.
+ *
+ * @author Peter Mills
+ */
+public class IconTypedIterator <T> extends IconIterator <T> {
+
+  /**
+   * If compiled expressions use their primitive evaluation.
+   */
+  public static boolean isEnabled = true;
+
+  private BooleanSupplier guard;
+  private LongSupplier integer = null;
+  private DoubleSupplier real = null;
+  private BooleanSupplier test = null;
+  private IIconAtom<T> testResult = null;
+  private Supplier<IIconAtom<T>> generic;
+
+  //==========================================================================
+  // Constructors.
+  //==========================================================================
+
+  private IconTypedIterator (BooleanSupplier guard,
+		Supplier<IIconAtom<T>> generic) {
+	this.guard = guard;
+	this.generic = generic;
+	singleton();
+  }
+
+  /**
+   * Integer expression, evaluated as a long if the guard holds.
+   */
+  public static IconTypedIterator integer (BooleanSupplier guard,
+		LongSupplier integer, Supplier<IIconAtom> generic) {
+	IconTypedIterator iter = new IconTypedIterator(guard, generic);
+	iter.integer = integer;
+	return iter;
+  }
+
+  /**
+   * Real expression, evaluated as a double if the guard holds.
+   */
+  public static IconTypedIterator real (BooleanSupplier guard,
+		DoubleSupplier real, Supplier<IIconAtom> generic) {
+	IconTypedIterator iter = new IconTypedIterator(guard, generic);
+	iter.real = real;
+	return iter;
+  }
+
+  /**
+   * Comparison x op y, evaluated over longs if the guard holds.
+   * Returns y if the test holds, and otherwise fails.
+   */
+  public static IconTypedIterator test (BooleanSupplier guard,
+		BooleanSupplier test, IIconAtom y, Supplier<IIconAtom> generic) {
+	IconTypedIterator iter = new IconTypedIterator(guard, generic);
+	iter.test = test;
+	iter.testResult = y;
+	return iter;
+  }
+
+  //==========================================================================
+  // Guards.
+  //==========================================================================
+
+  /**
+   * Returns if the atom holds an integer that fits in a long.
+   */
+  public static boolean isInteger (IIconAtom atom) {
+	IconValue value = atom.getValue();
+	return (value.getType() == IconTypes.NUMBER) && value.isInteger();
+  }
+
+  /**
+   * Returns if the atom holds a real that fits in a double.
+   */
+  public static boolean isReal (IIconAtom atom) {
+	IconValue value = atom.getValue();
+	return (value.getType() == IconTypes.NUMBER) && value.isReal();
+  }
+
+  /**
+   * Returns if the atom holds an integer or real,
+   * for mixed real arithmetic.
+   */
+  public static boolean isNumeric (IIconAtom atom) {
+	IconValue value = atom.getValue();
+	return (value.getType() == IconTypes.NUMBER) &&
+		(value.isInteger() || value.isReal());
+  }
+
+  /**
+   * Returns if the atom holds a string.
+   */
+  public static boolean isString (IIconAtom atom) {
+	return atom.getValue().getType() == IconTypes.STRING;
+  }
+
+  //==========================================================================
+  // Exact arithmetic.
+  //==========================================================================
+
+  /**
+   * Divides two longs, truncating the remainder.
+   * Throws ArithmeticException on Long.MIN_VALUE / -1,
+   * as well as on divide by zero.
+   */
+  public static long divideExact (long x, long y) {
+	if ((y == -1) && (x == Long.MIN_VALUE)) {
+		throw new ArithmeticException("long overflow");
+	}
+	return x / y;
+  }
+
+  //==========================================================================
+  // Evaluation.
+  //==========================================================================
+
+  public IIconAtom<T> provideNext () {
+	if (isEnabled && ((real == null) || (! IconNumber.getIsRealPrecision()))
+			&& guard.getAsBoolean()) {
+		try {
+			if (integer != null) {
+				return (IIconAtom<T>) IconValueNumber.valueOf(
+					integer.getAsLong());
+			}
+			if (real != null) {
+				return (IIconAtom<T>) IconValue.create(
+					real.getAsDouble());
+			}
+			if (test.getAsBoolean()) { return testResult; }
+			return (IIconAtom<T>) FAIL;
+		} catch (ArithmeticException e) {
+			// Overflow or divide by zero, redone by generic operators
+		}
+	}
+	return generic.get();
+  }
+
+}
+
+//==== END OF FILE
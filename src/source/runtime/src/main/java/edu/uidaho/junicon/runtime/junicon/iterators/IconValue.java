@@ -62,6 +62,18 @@ public class IconValue <T> extends IconAtom <T> {
 
   public IconValue<T> getValue () { return this; }
 
+  /**
+   * Values are immutable unless overridden, so just returns this.
+   */
+  public IconValue<T> snapshot () { return this; }
+
+  /**
+   * Returns if get() would first build the value,
+   * e.g., a concatenated string, so that holders should defer get()
+   * until the value is used.
+   */
+  public boolean isDeferred () { return false; }
+
   /**
    * Gets if the value has been typed.
    * Deferred typing monotonically refines the type as to what type it is not.
@@ -265,6 +277,53 @@ public class IconValue <T> extends IconAtom <T> {
    */
   public BigDecimal getBigDecimal () { return null; }
 
+  //==========================================================================
+  // Type tags.
+  //==========================================================================
+  private static final ClassValue<IconTypes> typeTags =
+		new ClassValue<IconTypes>() {
+	protected IconTypes computeValue (Class<?> type) {
+		return typeOfClass(type);
+	}
+  };
+
+  /**
+   * Gets the type of an object from its class,
+   * i.e., STRING, NUMBER, LIST, SET, COLLECTION, MAP, GENERATOR, ITERATOR,
+   * ARRAY, or OTHER.
+   * The type is derived once for each class and then cached.
+   * @return type, or UNTYPED if null.
+   */
+  public static IconTypes typeOf (Object val) {
+	if (val == null) { return IconTypes.UNTYPED; }
+	return typeTags.get(val.getClass());
+  }
+
+  /**
+   * Derives the type for a class, in the order that an untyped value
+   * is tested: string, number, collection, map, iterator, and array.
+   */
+  private static IconTypes typeOfClass (Class<?> type) {
+	if (CharSequence.class.isAssignableFrom(type)) {
+		return IconTypes.STRING;
+	}
+	if (Number.class.isAssignableFrom(type)) { return IconTypes.NUMBER; }
+	if (Collection.class.isAssignableFrom(type)) {
+		if (List.class.isAssignableFrom(type)) { return IconTypes.LIST; }
+		if (Set.class.isAssignableFrom(type)) { return IconTypes.SET; }
+		return IconTypes.COLLECTION;
+	}
+	if (Map.class.isAssignableFrom(type)) { return IconTypes.MAP; }
+	if (Iterator.class.isAssignableFrom(type)) {
+		if (IIconIterator.class.isAssignableFrom(type)) {
+			return IconTypes.GENERATOR;
+		}
+		return IconTypes.ITERATOR;
+	}
+	if (Object[].class.isAssignableFrom(type)) { return IconTypes.ARRAY; }
+	return IconTypes.OTHER;
+  }
+
   //==========================================================================
   // Factory to create a value with a given type.
   //==========================================================================
@@ -277,13 +336,15 @@ public class IconValue <T> extends IconAtom <T> {
 	if (type == null) { return new IconValueUntyped(val); }
 	switch (type) {
 	    case STRING:
-		return new IconValueString((CharSequence) val);
+		return IconValueString.valueOf((CharSequence) val);
 	    case NUMBER:
-		return new IconValueNumber((Number) val);
+		return IconValueNumber.valueOf((Number) val);
 	    case LIST:
 		return new IconValueList<E>((List<E>) val);
             case SET:
 		return new IconValueSet<E>((Set<E>) val);
+            case COLLECTION:
+		return new IconValueCollection<E>((Collection<E>) val);
             case MAP:
 		return new IconValueMap<E,E>((Map<E,E>) val);
             case GENERATOR:
@@ -322,7 +383,7 @@ public class IconValue <T> extends IconAtom <T> {
    * Factory to create a string value.
    */
   public static IconValue create (CharSequence val) {
-	return new IconValueString(val);
+	return IconValueString.valueOf(val);
   }
 
   /**
@@ -336,21 +397,21 @@ public class IconValue <T> extends IconAtom <T> {
    * Factory to create a numeric value.
    */
   public static IconValue create (Number val) {
-	return new IconValueNumber(val);
+	return IconValueNumber.valueOf(val);
   }
 
   /**
    * Factory to create an integer value.
    */
   public static IconValue create (int val) {
-	return new IconValueNumber(val);
+	return IconValueNumber.valueOf(val);
   }
 
   /**
    * Factory to create an integer value.
    */
   public static IconValue create (long val) {
-	return new IconValueNumber(val);
+	return IconValueNumber.valueOf(val);
   }
 
   /**
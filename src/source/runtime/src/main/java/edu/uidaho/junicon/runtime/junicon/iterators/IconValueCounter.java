@@ -0,0 +1,179 @@
+//========================================================================
+// Copyright (c) 2015 Orielle, LLC.  
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions
+// are met:
+//
+// 1. Redistributions of source code must retain the above copyright
+//    notice, this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+//    notice, this list of conditions and the following disclaimer in the
+//    documentation and/or other materials provided with the distribution.
+//
+// This software is provided by the copyright holders and contributors
+// "as is" and any express or implied warranties, including, but not
+// limited to, the implied warranties of merchantability and fitness for
+// a particular purpose are disclaimed. In no event shall the copyright
+// holder or contributors be liable for any direct, indirect, incidental,
+// special, exemplary, or consequential damages (including, but not
+// limited to, procurement of substitute goods or services; loss of use,
+// data, or profits; or business interruption) however caused and on any
+// theory of liability, whether in contract, strict liability, or tort
+// (including negligence or otherwise) arising in any way out of the use
+// of this software, even if advised of the possibility of such damage.
+//========================================================================
+package edu.uidaho.junicon.runtime.junicon.iterators;
+
+import edu.uidaho.junicon.runtime.junicon.iterators.IIconAtom.IconTypes;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Mutable integer value that is reused across iterations.
+ * Range generators such as IconToIterator hand out the same counter
+ * on each step and just overwrite its primitive long,
+ * so that operators can consume it through getInteger() without
+ * allocating a new IconValueNumber and boxed Long on every iteration.
+ * <P>
+ * The counter reports the same number type as an IconValueNumber
+ * created from a long, i.e., INTEGER.
+ * Boxed forms are only created on demand, and are cached until the
+ * counter is next changed.
+ * <P>
+ * Since its value changes underneath any holder,
+ * the counter must not escape the iterator that produced it.
+ * Operators that take the generator directly as an operand
+ * read the counter in place, and IconIn binds it to a temporary as is,
+ * since only the producing iterator changes it and then rebinds it.
+ * A variable that holds its own value copies the integer into
+ * a counter it owns, see IconVar, so that assignment in
+ * every i := 1 to n does not allocate on each step.
+ * Only where a value escapes, i.e., on return, reduce,
+ * co-expression activation, or assignment to a global,
+ * is snapshot() used to obtain an immutable IconValueNumber.
+ *
+ * @author Peter Mills
+ */
+public class IconValueCounter extends IconValue <Number> {
+  private long value = 0;
+  private Number number = null;		// Boxed value, created on demand
+  private boolean isVariable = false;	// Owned by a variable, not iterator
+
+  //==========================================================================
+  // Constructors.
+  //==========================================================================
+  /**
+   * No-arg constructor.
+   */
+  public IconValueCounter () { }
+
+  /**
+   * Create counter with initial value.
+   */
+  public IconValueCounter (long value) {
+	this.value = value;
+  }
+
+  //==========================================================================
+  // Mutator used by the producing iterator.
+  //==========================================================================
+  /**
+   * Overwrites the counter value.
+   * Returns this for setter chaining.
+   */
+  public IconValueCounter setInteger (long value) {
+	this.value = value;
+	number = null;
+	return this;
+  }
+
+  /**
+   * Marks the counter as owned by a variable,
+   * which overwrites it on assignment.
+   * Returns this for setter chaining.
+   */
+  public IconValueCounter ownedByVariable () {
+	isVariable = true;
+	return this;
+  }
+
+  //==========================================================================
+  // Setter and getter.
+  //==========================================================================
+  public Number get () { return getNumber(); }
+
+  public void set (Number number) { }
+
+  //==========================================================================
+  // Filters.
+  //==========================================================================
+  /**
+   * Returns an immutable number with the current value.
+   */
+  public IconValue snapshot () {
+	return IconValue.create(value);
+  }
+
+  public IIconAtom<Number> onReturn () {
+	return snapshot();
+  }
+
+  /**
+   * Returns the atom for IconIn to bind to a temporary:
+   * the counter itself if owned by the iterator that produced it,
+   * which rebinds the temporary whenever it changes the counter,
+   * or a snapshot if owned by a variable.
+   */
+  public IconValue forBinding () {
+	if (isVariable) { return snapshot(); }
+	return this;
+  }
+
+  //==========================================================================
+  // Methods by type.
+  //==========================================================================
+  public IconTypes getType () { return IconTypes.NUMBER; }
+
+  public boolean isNumber () { return true; }
+
+  public Number getNumber () {
+	if (number == null) {
+		number = Long.valueOf(value);
+	}
+	return number;
+  }
+
+  public Object getObject () { return getNumber(); }
+
+  public boolean isAsString () { return true; }
+
+  public String getAsString () { return Long.toString(value); }
+
+  //==========================================================================
+  // Number methods.
+  //==========================================================================
+  public IconTypes getNumberType () { return IconTypes.INTEGER; }
+
+  public boolean isInteger () { return true; }
+
+  public long getInteger () { return value; }
+
+  public boolean isReal () { return false; }
+
+  public double getReal () { return (double) value; }
+
+  public boolean isBigInteger () { return false; }
+
+  public BigInteger getBigInteger () { return BigInteger.valueOf(value); }
+
+  public boolean isBigDecimal () { return false; }
+
+  public BigDecimal getBigDecimal () { return BigDecimal.valueOf(value); }
+
+}
+
+//==== END OF FILE
@@ -31,11 +31,20 @@ import edu.uidaho.junicon.runtime.junicon.iterators.IIconAtom.IconTypes;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.text.NumberFormat;
-import java.util.regex.Pattern;
 
 /**
  * Immutable number value.
+ * Integers are kept as a Long if they fit in a long, even if
+ * isIntegerPrecision is on, and otherwise as a BigInteger.
+ * The static add(), subtract(), multiply(), negate(), and divide() methods
+ * perform overflow-checked long arithmetic, which if isIntegerPrecision
+ * promotes to a BigInteger on overflow.
+ * <P>
+ * Small integers are shared from a preallocated cache by valueOf(),
+ * which the factories IconValue.create() use.
+ * The range of the cache is set by System properties
+ * junicon.integerCacheLow and junicon.integerCacheHigh,
+ * which default to -128 and 1024.
  *
  * @author Peter Mills
  */
@@ -51,12 +60,18 @@ public class IconValueNumber extends IconValue <Number> {
   private boolean haveTriedAsBigInteger = false;
   private boolean haveTriedAsBigDecimal = false;
 
-  private static Pattern isIntegerPattern = Pattern.compile("[+-]?\\d+");
-  private static NumberFormat numberFormatter = NumberFormat.getInstance();
-	//====
-	// A Number can be truncated to an integer using intValue().
-	// Alternatively one could use NumberFormat.setParseIntegerOnly().
-	//====
+  // Cache of small integers
+  private static final int cacheLow = (int) IconNumber.stringToInteger(
+	System.getProperty("junicon.integerCacheLow", "-128"), -128);
+  private static final int cacheHigh = (int) IconNumber.stringToInteger(
+	System.getProperty("junicon.integerCacheHigh", "1024"), 1024);
+  private static final IconValueNumber[] cache =
+	new IconValueNumber[Math.max(0, cacheHigh - cacheLow + 1)];
+  static {
+	for (int i = 0; i < cache.length; i++) {
+		cache[i] = new IconValueNumber((long) (cacheLow + i));
+	}
+  }
 
   //==========================================================================
   // Constructors.
@@ -70,6 +85,10 @@ public class IconValueNumber extends IconValue <Number> {
    * Create number of unknown type.
    */
   public IconValueNumber (Number number) {
+	if (number instanceof BigInteger) {
+		setBigInteger((BigInteger) number);
+		return;
+	}
 	this.number = number;
   }
 
@@ -84,16 +103,11 @@ public class IconValueNumber extends IconValue <Number> {
 
   /**
    * Create number of known type.
+   * Is kept as a Long, regardless of isIntegerPrecision.
    */
   public IconValueNumber (long number) {
-	if (IconNumber.getIsIntegerPrecision()) {
-		bigInteger = BigInteger.valueOf(number);
-		this.number = bigInteger;
-		this.numberType = IconTypes.BIGINTEGER;
-	} else {
-		this.number = Long.valueOf(number);
-		this.numberType = IconTypes.INTEGER;
-	}
+	this.number = Long.valueOf(number);
+	this.numberType = IconTypes.INTEGER;
   }
 
   /**
@@ -122,9 +136,7 @@ public class IconValueNumber extends IconValue <Number> {
    */
   public IconValueNumber (BigInteger number) {
 	if (number == null) { return; }
-	this.number = number;
-	this.numberType = IconTypes.BIGINTEGER;
-	bigInteger = number;
+	setBigInteger(number);
   }
 
   /**
@@ -143,15 +155,53 @@ public class IconValueNumber extends IconValue <Number> {
    */
   public IconValueNumber (Number number, IconTypes type) {
 	if (number == null) { return; }
+	if (type == IconTypes.BIGINTEGER) {
+		setBigInteger((BigInteger) number);
+		return;
+	}
 	this.number = number;
 	this.numberType = type;
-	if (type == IconTypes.BIGINTEGER) {
-		bigInteger = (BigInteger) number;
-	} else if (type == IconTypes.BIGDECIMAL) {
+	if (type == IconTypes.BIGDECIMAL) {
 		bigDecimal = (BigDecimal) number;
 	}
   }
 
+  /**
+   * Returns an integer value, shared from the cache if in range.
+   */
+  public static IconValueNumber valueOf (long number) {
+	if ((number >= cacheLow) && (number <= cacheHigh)) {
+		return cache[(int) (number - cacheLow)];
+	}
+	return new IconValueNumber(number);
+  }
+
+  /**
+   * Returns a number value, shared from the cache
+   * if it is a Long in range.
+   */
+  public static IconValueNumber valueOf (Number number) {
+	if (number instanceof Long) {
+		return valueOf(number.longValue());
+	}
+	return new IconValueNumber(number);
+  }
+
+  /**
+   * Sets the number from a BigInteger, demoted to a Long if it fits.
+   * Keeps the BigInteger for getBigInteger().
+   */
+  private void setBigInteger (BigInteger number) {
+	bigInteger = number;
+	if (number.bitLength() < Long.SIZE) {
+		this.number = Long.valueOf(number.longValue());
+		this.numberType = IconTypes.INTEGER;
+	} else {
+		this.number = number;
+		this.numberType = IconTypes.BIGINTEGER;
+	}
+  }
+
   //==========================================================================
   // Setter and getter.
   //==========================================================================
@@ -269,7 +319,7 @@ public class IconValueNumber extends IconValue <Number> {
 
   public String getAsString () {
     if (number == null) { return ""; }
-    return number.toString();
+    return IconNumberFormat.format(number);
   }
 
   /**
@@ -277,32 +327,24 @@ public class IconValueNumber extends IconValue <Number> {
    * Strings are converted to BigDecimal, or to BigInteger if integer format.
    * If isIntegerPrecision is off, instead converts integers to Long,
    * and if isRealPrecision is off, converts decimal numbers to Double.
+   * Integers are kept as a Long whenever they fit.
+   * Accepts Icon integer, real, and radix literals, e.g., 16r1F.
    * @return null if string is not a number, or if null input.
    */
   public static IconValueNumber toNumber (String str) {
-    if (str == null) { return null; }
-    str = str.trim();
-    boolean isInteger = isIntegerPattern.matcher(str).matches();
-    try {
-	if (isInteger) {
-	    if (IconNumber.getIsIntegerPrecision()) {
-		return new IconValueNumber(new BigInteger(str),
-			IconTypes.BIGINTEGER);
-	    }
-	    return new IconValueNumber(numberFormatter.parse(str),
-			IconTypes.INTEGER);
-	}
-	if (IconNumber.getIsRealPrecision()) {
-		return new IconValueNumber(new BigDecimal(str),
-			IconTypes.BIGDECIMAL);
-	}
-	return new IconValueNumber(numberFormatter.parse(str),
-			IconTypes.REAL);
-    } catch (NumberFormatException e) {
-	return null;
-    } catch (java.text.ParseException e) {
-	return null;
+    Number number = IconNumberFormat.parse(str,
+	IconNumber.getIsIntegerPrecision(), IconNumber.getIsRealPrecision());
+    if (number == null) { return null; }
+    if (number instanceof Long) {
+	return new IconValueNumber(number.longValue());
+    }
+    if (number instanceof BigInteger) {
+	return new IconValueNumber((BigInteger) number);
     }
+    if (number instanceof BigDecimal) {
+	return new IconValueNumber((BigDecimal) number);
+    }
+    return new IconValueNumber(number, IconTypes.REAL);
   }
 
   /**
@@ -381,6 +423,84 @@ public class IconValueNumber extends IconValue <Number> {
   // In Groovy, if either is Double or Float, sets both to that.
   //====
 
+  //==========================================================================
+  // Overflow-checked integer arithmetic.
+  //==========================================================================
+
+  /**
+   * Adds two integers.
+   * On overflow, promotes to a BigInteger if isIntegerPrecision,
+   * and otherwise wraps around.
+   */
+  public static IconValueNumber add (long x, long y) {
+	try {
+		return valueOf(Math.addExact(x, y));
+	} catch (ArithmeticException e) {
+		if (! IconNumber.getIsIntegerPrecision()) {
+			return valueOf(x + y);
+		}
+		return new IconValueNumber(
+			BigInteger.valueOf(x).add(BigInteger.valueOf(y)));
+	}
+  }
+
+  /**
+   * Subtracts two integers, promoting to a BigInteger on overflow
+   * if isIntegerPrecision.
+   */
+  public static IconValueNumber subtract (long x, long y) {
+	try {
+		return valueOf(Math.subtractExact(x, y));
+	} catch (ArithmeticException e) {
+		if (! IconNumber.getIsIntegerPrecision()) {
+			return valueOf(x - y);
+		}
+		return new IconValueNumber(
+			BigInteger.valueOf(x).subtract(BigInteger.valueOf(y)));
+	}
+  }
+
+  /**
+   * Multiplies two integers, promoting to a BigInteger on overflow
+   * if isIntegerPrecision.
+   */
+  public static IconValueNumber multiply (long x, long y) {
+	try {
+		return valueOf(Math.multiplyExact(x, y));
+	} catch (ArithmeticException e) {
+		if (! IconNumber.getIsIntegerPrecision()) {
+			return valueOf(x * y);
+		}
+		return new IconValueNumber(
+			BigInteger.valueOf(x).multiply(BigInteger.valueOf(y)));
+	}
+  }
+
+  /**
+   * Negates an integer, promoting to a BigInteger on overflow
+   * if isIntegerPrecision.
+   */
+  public static IconValueNumber negate (long x) {
+	try {
+		return valueOf(Math.negateExact(x));
+	} catch (ArithmeticException e) {
+		if (! IconNumber.getIsIntegerPrecision()) {
+			return valueOf(- x);
+		}
+		return new IconValueNumber(BigInteger.valueOf(x).negate());
+	}
+  }
+
+  /**
+   * Divides two integers, truncating the remainder.
+   * The only overflow is Long.MIN_VALUE / -1, which is negated.
+   * Throws ArithmeticException on divide by zero.
+   */
+  public static IconValueNumber divide (long x, long y) {
+	if (y == -1) { return negate(x); }
+	return valueOf(x / y);
+  }
+
 }
 
 //==== END OF FILE
@@ -36,28 +36,133 @@ import java.math.BigInteger;
 /**
  * Immutable string value.
  * Can be monotonically refined into number.
+ * The empty string and one-character Latin-1 strings are shared
+ * from a preallocated cache by valueOf(),
+ * which the factories IconValue.create() use.
+ * <P>
+ * Concatenation by concat() builds longer strings in an append-only buffer
+ * shared between the successive results, where each result is a prefix
+ * of the buffer.
+ * Concatenating onto the last result appends to the buffer,
+ * so that repeated concatenation such as s ||:= x is amortized O(1).
+ * Concatenating onto an earlier prefix copies it to a new buffer.
+ * Only the thread that created a buffer appends to it,
+ * so that co-expressions or Groovy threads that share a result
+ * copy it instead of racing on the buffer.
+ * The string itself is only built on first use, e.g., when indexed,
+ * scanned, compared, or dereferenced, so that
+ * == and === still compare strings by value.
  *
  * @author Peter Mills
  */
 public class IconValueString extends IconValue <String> {
-  String value = null;
+  volatile String value = null;
   private boolean haveTriedStringAsNumber = false;
   private IconValueNumber number = null;	// String converted to number
 
+  // Append-only buffer shared by concatenation, if any,
+  //	where this string is its prefix of the given length
+  private final StringBuilder shared;
+  private final int length;
+  private final Thread owner;		// Only thread that appends to buffer
+  private static final int MIN_SHARED_LENGTH = 64; // Shorter are copied
+
+  // Cache of empty and one-character strings
+  private static final IconValueString EMPTY_STRING = new IconValueString("");
+  private static final IconValueString[] cache = new IconValueString[256];
+  static {
+	EMPTY_STRING.isNumber();
+	for (int i = 0; i < cache.length; i++) {
+		cache[i] = new IconValueString(String.valueOf((char) i));
+		cache[i].isNumber();	// Convert before shared across threads
+	}
+  }
+
   //==========================================================================
   // Constructors.
   //==========================================================================
-  public IconValueString () { }
+  public IconValueString () {
+	shared = null;
+	length = 0;
+	owner = null;
+  }
 
   public IconValueString (CharSequence value) {
+	shared = null;
+	length = 0;
+	owner = null;
 	if (value == null) { return; }
 	this.value = value.toString();
   }
 
+  private IconValueString (StringBuilder shared, int length, Thread owner) {
+	this.shared = shared;
+	this.length = length;
+	this.owner = owner;
+  }
+
+  /**
+   * Returns a string value, shared from the cache
+   * if empty or one Latin-1 character.
+   */
+  public static IconValueString valueOf (CharSequence value) {
+	if (value != null) {
+		int length = value.length();
+		if (length == 0) { return EMPTY_STRING; }
+		if (length == 1) {
+			char c = value.charAt(0);
+			if (c < cache.length) { return cache[c]; }
+		}
+	}
+	return new IconValueString(value);
+  }
+
+  /**
+   * Concatenates strings, x || y.
+   * Appends onto the shared buffer of x if x is its last result
+   * and the buffer belongs to the current thread.
+   */
+  public static IconValueString concat (IconValue x, IconValue y) {
+	Thread current = Thread.currentThread();
+	if (x instanceof IconValueString) {
+		IconValueString xs = (IconValueString) x;
+		StringBuilder buffer = xs.shared;
+		if ((buffer != null) && (xs.owner == current)) {
+			String ystr = y.getAsString();
+			synchronized (buffer) {   // Against flatten in other threads
+			    if (buffer.length() == xs.length) {
+				buffer.append(ystr);
+				return new IconValueString(buffer,
+					buffer.length(), current);
+			    }
+			}
+		}
+	}
+	String xstr = x.getAsString();
+	String ystr = y.getAsString();
+	int size = xstr.length() + ystr.length();
+	if (size < MIN_SHARED_LENGTH) { return valueOf(xstr.concat(ystr)); }
+	StringBuilder buffer = new StringBuilder(2 * size);
+	buffer.append(xstr).append(ystr);
+	return new IconValueString(buffer, size, current);
+  }
+
+  /**
+   * Builds the string from the shared buffer on first use.
+   */
+  private String flatten () {
+	if ((value == null) && (shared != null)) {
+		synchronized (shared) {
+			value = shared.substring(0, length);
+		}
+	}
+	return value;
+  }
+
   //==========================================================================
   // Setter and getter.
   //==========================================================================
-  public String get () { return value; }
+  public String get () { return flatten(); }
 
   public void set (String value) { }
 
@@ -68,20 +173,25 @@ public class IconValueString extends IconValue <String> {
 
   public boolean isString () { return true; }
 
-  public String getString () { return value; }
+  public String getString () { return flatten(); }
 
   public boolean isAsString () { return true; }
 
-  public String getAsString () { return value; }
+  public String getAsString () { return flatten(); }
+
+  public Object getObject () { return flatten(); }
 
-  public Object getObject () { return value; }
+  /**
+   * Returns if the string is not yet built from its shared buffer.
+   */
+  public boolean isDeferred () { return (value == null) && (shared != null); }
 
   //==========================================================================
   // Delegated number.
   //==========================================================================
   public boolean isNumber () {
 	if (! haveTriedStringAsNumber) {
-		number = IconValueNumber.toNumber(value);
+		number = IconValueNumber.toNumber(flatten());
 		haveTriedStringAsNumber = true;
 	}
 	if (number == null) { return false; }
@@ -35,22 +35,18 @@ import java.math.BigDecimal;
 
 /**
  * Immutable untyped value.
- * Deferred type is later monotonically refined as to what type it is not.
+ * The type of the value is derived once on creation, as a tag
+ * looked up by class using IconValue.typeOf().
+ * Type tests then just compare the tag, while the typed value
+ * that getters delegate to is only created on demand.
  *
  * @author Peter Mills
  */
 public class IconValueUntyped extends IconValue <Object> {
   Object value = null;
 
-  boolean isTyped = false;
+  IconTypes tag = IconTypes.UNTYPED;	// Type from class of value
   IconValue typedValue = null;		// If has been typed, is non-null
-  boolean haveTriedAsString = false;
-  boolean haveTriedAsNumber = false;
-  boolean haveTriedAsCollection = false; // Includes list, set
-  boolean haveTriedAsMap = false;
-  boolean haveTriedAsIterator = false;	// Includes Java Iterator, IconIterator
-  boolean haveTriedAsArray = false;
-  // boolean haveTriedAsOther = false;	// Not needed, isOther if nothing else
 
   //==========================================================================
   // Constructors.
@@ -61,31 +57,39 @@ public class IconValueUntyped extends IconValue <Object> {
   public IconValueUntyped () {
 	value = EMPTY_VALUE;
 	typedValue = EMPTY_VALUE;
-	isTyped = true;
   }
 
   /**
    * Constructor for immutable value of unknown type.
-   * Type will be refined on demand.
+   * Typed value will be created on demand.
    */
   public IconValueUntyped (Object value) {
 	this.value = value;
 	if (value == null) {		// Set type for constant values.
-		value = EMPTY_VALUE;
 		typedValue = EMPTY_VALUE;
-		isTyped = true;
 	} else if (value == FAIL) {
 		typedValue = FAIL;
-		isTyped = true;
+	} else {
+		tag = typeOf(value);
 	}
   }
 
+  /**
+   * Gets the typed value, creating it if needed.
+   */
+  private IconValue typed () {
+	if (typedValue == null) {
+		typedValue = createTyped(value, tag);
+	}
+	return typedValue;
+  }
+
   //==========================================================================
   // Setter and getter.
   // Delegate to typedValue if exists.
   //==========================================================================
   public Object get () {
-	if (isTyped) { return (Object) typedValue.get(); }
+	if (typedValue != null) { return (Object) typedValue.get(); }
 	return value;
   }
 
@@ -98,290 +102,171 @@ public class IconValueUntyped extends IconValue <Object> {
   public void setValue (IconValue atom) { }
 
   public IconValue getValue () {
-	if (isTyped) { return typedValue; }
+	if (typedValue != null) { return typedValue; }
 	return this;
   }
 
-  public boolean isTyped () { return isTyped; }
+  public boolean isTyped () { return (typedValue != null); }
 
   public IconTypes getType () {
-	if (isTyped) { return typedValue.getType(); }
-	return IconTypes.UNTYPED;
+	if (typedValue != null) { return typedValue.getType(); }
+	return tag;
   }
 
   //==========================================================================
   // Methods by type.
-  // Delegate to typedValue if exists.
-  // Otherwise, if haven't yet tried, test for given type.
+  // Test the type tag, and delegate getters to the typed value.
   //==========================================================================
-  public boolean isString () {
-	if (isTyped) { return typedValue.isString(); }
-	if (! haveTriedAsString) {
-	    if (value instanceof CharSequence) {
-		typedValue = new IconValueString((CharSequence) value);
-		isTyped = true;
-	    }
-	    haveTriedAsString = true;
-	}
-	return isTyped;
-  }
+  public boolean isString () { return (tag == IconTypes.STRING); }
 
   public String getString () {
-	if (isTyped) { return typedValue.getString(); }
+	if (tag == IconTypes.STRING) { return typed().getString(); }
 	return null;
   }
 
   public boolean isNumber () {
-	if (isTyped) { return typedValue.isNumber(); }
-	if (! haveTriedAsNumber) {
-	    if (value instanceof Number) {
-		typedValue =  new IconValueNumber((Number) value);
-		isTyped = true;
-	    } else if (! haveTriedAsString) {
-		if (value instanceof CharSequence) {
-		    typedValue = new IconValueString((CharSequence) value);
-		    isTyped = true;
-		}
-		haveTriedAsString = true;
-	    }
-	    haveTriedAsNumber = true;
-	}
-	if (isTyped) { return typedValue.isNumber(); }	// In case string
+	if (tag == IconTypes.NUMBER) { return true; }
+	if (tag == IconTypes.STRING) { return typed().isNumber(); }
 	return false;
   }
 
   public Number getNumber () {
-	if (isTyped) { return typedValue.getNumber(); }
+	if ((tag == IconTypes.NUMBER) || (tag == IconTypes.STRING)) {
+		return typed().getNumber();
+	}
 	return null;
   }
 
   public boolean isAsString () {
-	if (isTyped) { return typedValue.isAsString(); }
-	if (! haveTriedAsString) {
-	    if (value instanceof CharSequence) {
-		typedValue = new IconValueString((CharSequence) value);
-		isTyped = true;
-	    }
-	    haveTriedAsString = true;
-	}
-	if (! isTyped) {
-	  if (! haveTriedAsNumber) {
-	    if (value instanceof Number) {
-		typedValue =  new IconValueNumber((Number) value);
-		isTyped = true;
-	    }
-	    haveTriedAsNumber = true;
-	  }
+	if ((tag == IconTypes.STRING) || (tag == IconTypes.NUMBER)) {
+		return typed().isAsString();
 	}
-	return isTyped;
+	return false;
   }
 
   public String getAsString () {
-	if (isTyped) { return typedValue.getAsString(); }
+	if ((tag == IconTypes.STRING) || (tag == IconTypes.NUMBER)) {
+		return typed().getAsString();
+	}
 	return null;
   }
 
   public boolean isCollection () {
-	if (isTyped) { return typedValue.isCollection(); }
-	if (! haveTriedAsCollection) {
-	    if (value instanceof Collection) {
-		if (value instanceof List) {
-		    typedValue = new IconValueList((List) value);
-		} else if (value instanceof Set) {
-		    typedValue = new IconValueSet((Set) value);
-		} else {
-		    typedValue = new IconValueCollection((Collection) value);
-		}
-		isTyped = true;
-	    }
-	    haveTriedAsCollection = true;
-	}
-	return isTyped;
+	return (tag == IconTypes.LIST) || (tag == IconTypes.SET)
+		|| (tag == IconTypes.COLLECTION);
   }
 
   public Collection getCollection () {
-	if (isTyped) { return typedValue.getCollection(); }
+	if (isCollection()) { return typed().getCollection(); }
 	return null;
   }
 
-  public boolean isList () {
-	if ((! isTyped) && (! haveTriedAsCollection)) {
-		isCollection();
-	}
-	if (isTyped) { return typedValue.isList(); }
-	return false;
-  }
+  public boolean isList () { return (tag == IconTypes.LIST); }
 
   public List getList () {
-	if (isTyped) { return typedValue.getList(); }
+	if (tag == IconTypes.LIST) { return typed().getList(); }
 	return null;
   }
 
-  public boolean isSet () {
-	if ((! isTyped) && (! haveTriedAsCollection)) {
-		isCollection();
-	}
-	if (isTyped) { return typedValue.isSet(); }
-	return false;
-  }
+  public boolean isSet () { return (tag == IconTypes.SET); }
 
   public Set getSet () {
-	if (isTyped) { return typedValue.getSet(); }
+	if (tag == IconTypes.SET) { return typed().getSet(); }
 	return null;
   }
 
-  public boolean isMap () {
-	if (isTyped) { return typedValue.isMap(); }
-	if (! haveTriedAsMap) {
-	    if (value instanceof Map) {
-		typedValue = new IconValueMap((Map) value);
-		isTyped = true;
-	    }
-	    haveTriedAsMap = true;
-	}
-	return isTyped;
-  }
+  public boolean isMap () { return (tag == IconTypes.MAP); }
 
   public Map getMap () {
-	if (isTyped) { return typedValue.getMap(); }
+	if (tag == IconTypes.MAP) { return typed().getMap(); }
 	return null;
   }
 
   public boolean isIterator () {
-	if (isTyped) { return typedValue.isIterator(); }
-	if (! haveTriedAsIterator) {
-	    if (value instanceof Iterator) {
-		if (value instanceof IIconIterator) {
-		    typedValue = new IconValueGenerator((IIconIterator) value);
-		} else {
-		    typedValue = new IconValueJavaIterator((Iterator) value);
-		}
-		isTyped = true;
-	    }
-	    haveTriedAsIterator = true;
-	}
-	return isTyped;
+	return (tag == IconTypes.ITERATOR) || (tag == IconTypes.GENERATOR);
   }
 
   public Iterator getIterator () {
-	if (isTyped) { return typedValue.getIterator(); }
+	if (isIterator()) { return typed().getIterator(); }
 	return null;
   }
 
-  public boolean isGenerator () {
-	if ((! isTyped) && (! haveTriedAsIterator)) {
-		isIterator();
-	}
-	if (isTyped) { return typedValue.isGenerator(); }
-	return false;
-  }
+  public boolean isGenerator () { return (tag == IconTypes.GENERATOR); }
 
   public IIconIterator getGenerator () {
-	if (isTyped) { return typedValue.getGenerator(); }
+	if (tag == IconTypes.GENERATOR) { return typed().getGenerator(); }
 	return null;
   }
 
-  public boolean isArray () {
-	if (isTyped) { return typedValue.isArray(); }
-	if (! haveTriedAsArray) {
-	    if (value instanceof Object[]) {
-		typedValue = new IconValueArray((Object[]) value);
-		isTyped = true;
-	    }
-	    haveTriedAsArray = true;
-	}
-	return isTyped;
-  }
+  public boolean isArray () { return (tag == IconTypes.ARRAY); }
 
   public Object[] getArray () {
-	if (isTyped) { return typedValue.getArray(); }
+	if (tag == IconTypes.ARRAY) { return typed().getArray(); }
 	return null;
   }
 
-  public boolean isOther () {
-	if (isTyped) { return typedValue.isOther(); }
-	if (! haveTriedAsString) {
-		if (isString()) { return false; }
-	}
-	if (! haveTriedAsNumber) {
-		if (isNumber()) { return false; }
-	}
-	if (! haveTriedAsCollection) {
-		if (isCollection()) { return false; }
-	}
-	if (! haveTriedAsMap) {
-		if (isMap()) { return false; }
-	}
-	if (! haveTriedAsIterator) {
-		if (isIterator()) { return false; }
-	}
-	if (! haveTriedAsArray) {
-		if (isArray()) { return false; }
-	}
-	//====
-	// How to test for function: instanceof Callable || VariadicFunction
-	//====
-	typedValue = new IconValueOther(value);
-	isTyped = true;
-	return true;
-  }
+  public boolean isOther () { return (tag == IconTypes.OTHER); }
 
   public Object getOther () {
-	if (isTyped) { return typedValue.getOther(); }
+	if (typedValue != null) { return typedValue.getOther(); }
 	return value;
   }
 
   public Object getObject () {
-	if (isTyped) { return typedValue.getObject(); }
+	if (typedValue != null) { return typedValue.getObject(); }
 	return value;
   }
 
   //==========================================================================
   // Number methods.
-  // Delegate to typedValue if exists.
+  // Delegate to typed value if is a number or string.
   //==========================================================================
+  private boolean isNumeric () {
+	return (tag == IconTypes.NUMBER) || (tag == IconTypes.STRING);
+  }
+
   public IconTypes getNumberType () {
-	if (isTyped) { return typedValue.getNumberType(); }
+	if (isNumeric()) { return typed().getNumberType(); }
 	return IconTypes.UNTYPED;
   }
 
   public boolean isInteger () {
-	if (isTyped) { return typedValue.isInteger(); }
+	if (isNumeric()) { return typed().isInteger(); }
 	return false;
   }
 
   public long getInteger () {
-	if (isTyped) { return typedValue.getInteger(); }
+	if (isNumeric()) { return typed().getInteger(); }
 	return 0;
   }
 
   public boolean isReal () {
-	if (isTyped) { return typedValue.isReal(); }
+	if (isNumeric()) { return typed().isReal(); }
 	return false;
   }
 
   public double getReal () {
-	if (isTyped) { return typedValue.getReal(); }
+	if (isNumeric()) { return typed().getReal(); }
 	return 0;
   }
 
   public boolean isBigInteger () {
-	if (isTyped) { return typedValue.isBigInteger(); }
+	if (isNumeric()) { return typed().isBigInteger(); }
 	return false;
   }
 
   public BigInteger getBigInteger () {
-	if (isTyped) { return typedValue.getBigInteger(); }
+	if (isNumeric()) { return typed().getBigInteger(); }
 	return null;
   }
 
   public boolean isBigDecimal () {
-	if (isTyped) { return typedValue.isBigDecimal(); }
+	if (isNumeric()) { return typed().isBigDecimal(); }
 	return false;
   }
 
   public BigDecimal getBigDecimal () {
-	if (isTyped) { return typedValue.getBigDecimal(); }
+	if (isNumeric()) { return typed().getBigDecimal(); }
 	return null;
   }
 
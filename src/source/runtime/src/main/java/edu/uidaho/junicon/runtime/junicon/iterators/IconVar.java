@@ -38,6 +38,13 @@ import java.util.function.Consumer;
  * instead of providing a reference to the variable.
  * Need isLocal flag since Icon procedure return
  * does not dereference unless it is a declared method local or parameter.
+ * A variable that holds its own value keeps a concatenated string value
+ * as is, and builds its string on first use, see getHeld(),
+ * so that s ||:= x does not copy s.
+ * A plain variable is always set to the built string.
+ * Similarly, a variable that holds its own value copies
+ * an integer from a range counter into a counter of its own,
+ * so that every i := 1 to n does not allocate on each step.
  * <P>
  * USAGE for x : new IconVar({->x}, {y->x=y})
  *
@@ -49,6 +56,8 @@ public class IconVar <T> extends IconAtom <T> {
   protected boolean isHolder = true;	// Holds own value, setter/getter==null
   protected T value = null;
   protected IconValue<T> valueAtom = null;
+  protected boolean isDeferred = false;	// value not yet got from valueAtom
+  private IconValueCounter counter = null;	// Own copy of a range counter
   boolean isLocal = false;		// Do not keep reify on return
   IconTypes type = null;		// Immutable variable of known type
 
@@ -102,7 +111,7 @@ public class IconVar <T> extends IconAtom <T> {
   // Setter and getter.
   //==========================================================================
   public T get () {
-	if (isHolder) { return value; };
+	if (isHolder) { return getHeld(); };
 	try {
 	    return getter.call();
 	} catch (Exception e) {
@@ -110,8 +119,22 @@ public class IconVar <T> extends IconAtom <T> {
 	}
   }
 
+  /**
+   * Gets the value held by the variable if isHolder,
+   * building the string of a concatenated string value on first use.
+   * Subclasses that override get() must use this for the held value.
+   */
+  protected T getHeld () {
+	if (isDeferred) {
+		value = valueAtom.get();
+		isDeferred = false;
+	}
+	return value;
+  }
+
   public void set (T val) {
 	valueAtom = null;	// Void previous cached value
+	isDeferred = false;
 	if (isHolder) {
 		value = val;
 	} else if (setter != null) {
@@ -124,12 +147,26 @@ public class IconVar <T> extends IconAtom <T> {
   //==========================================================================
   public void setValue (IIconAtom<T> atom) {
 	if (isHolder) {  // Optimization if isHolder
+		isDeferred = false;
 		if (atom == null) {
 			valueAtom = null;
 			value = null; 
 		} else {
 			valueAtom = atom.getValue();
 			if (valueAtom == null) { value = null;
+			} else if (valueAtom instanceof IconValueCounter) {
+				// Copy a reused counter into our own,
+				//	and box only on first use
+				if (counter == null) {
+					counter = new IconValueCounter().ownedByVariable();
+				}
+				counter.setInteger(valueAtom.getInteger());
+				valueAtom = (IconValue<T>) (IconValue) counter;
+				value = null;
+				isDeferred = true;
+			} else if (valueAtom.isDeferred()) {
+				value = null;	// Build string on first use
+				isDeferred = true;
 			} else { value = valueAtom.get(); }
 		}
 	} else {  // Must keep in sync with plain variable
@@ -137,10 +174,17 @@ public class IconVar <T> extends IconAtom <T> {
 			valueAtom = null;
 			set(null);
 		} else {
-			valueAtom = atom.getValue();
-			if (valueAtom == null) { set(null);
-			} else { set(valueAtom.get()); }
-
+			IconValue<T> newValue = atom.getValue();
+			if (newValue == null) { set(null);
+			} else {
+				set(newValue.get());
+				// Keep the value, with its shared buffer
+				//	if a concatenated string, for getValue(),
+				//	but not a reused counter
+				if (! (newValue instanceof IconValueCounter)) {
+					valueAtom = newValue;
+				}
+			}
 		}
 	}
   }
@@ -148,32 +192,27 @@ public class IconVar <T> extends IconAtom <T> {
   public IconValue getValue () {
 	if (isHolder) {
 		if (valueAtom == null) {
-			if (value == null) { valueAtom = EMPTY_VALUE;
-			} else {
-			   if (type != null) {
-				valueAtom = IconValue.createTyped(value, type);
-			   } else {
-				valueAtom = IconValue.create(value);
-			   }
-			}
+			valueAtom = createValue(value);
 		}
 	} else {	// Must keep in sync with plain variable
 		value = get();
 		if ((valueAtom == null) || (valueAtom.get() != value)) {
 			// valueAtom is unset or changed
-			if (value == null) { valueAtom = EMPTY_VALUE;
-			} else {
-			    if (type != null) {
-				valueAtom = IconValue.createTyped(value, type);
-			    } else {
-				valueAtom = IconValue.create(value);
-			    }
-			}
+			valueAtom = createValue(value);
 		}
 	}
 	return valueAtom;
   }
 
+  /**
+   * Creates the value for the variable, using the known type if set.
+   */
+  private IconValue<T> createValue (T value) {
+	if (value == null) { return EMPTY_VALUE; }
+	if (type != null) { return IconValue.createTyped(value, type); }
+	return IconValue.create(value);
+  }
+
   //==========================================================================
   // Filters.
   //==========================================================================
@@ -183,7 +222,7 @@ public class IconVar <T> extends IconAtom <T> {
   }
 
   public IIconAtom<T> onReturn () {
-	if (isLocal) { return getValue(); }
+	if (isLocal) { return getValue().snapshot(); }
 	return this;
   }
   //====
@@ -27,13 +27,9 @@
 //========================================================================
 package edu.uidaho.junicon.runtime.junicon.iterators;
 
-import java.util.Iterator;
-import java.util.Collection;
 import java.util.Map;
-import java.util.List;
-import java.util.HashMap;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
 
 //============================================================================
 // Method body cache.
@@ -52,41 +48,354 @@ import java.util.Arrays;
  * <PRE>
  *   class foo {
  *       def cache = new MethodBodyCache();
- *       def f = {x,y -> locals; return cache_uniq.getFree("f") ?: 
- *          new IconIterator(init;body;fail).setCache(cache, "f"); }
+ *       def f = {x,y -> locals; return cache_uniq.getFree(0) ?: 
+ *          new IconIterator(init;body;fail).setCache(cache, 0, "f"); }
  *       // IconInvokeIterator will add back to cache upon return
  *   }
  * </PRE>
  * The transforms will uniqueify both the cache name and the method string
- * if necessary in order to prevent ambiguity or conflict.
+ * if necessary in order to prevent ambiguity or conflict,
+ * and assign each method body a small integer slot at translation time.
+ * <P>
+ * The cache is a per-thread array of stacks indexed by slot,
+ * so that getting and freeing a body is an array access
+ * rather than a hash lookup.
+ * Each stack retains at most maxDepth free bodies;
+ * bodies freed beyond that depth are dropped and counted as evictions.
+ * The maximum depth defaults to the system property
+ * junicon.methodCacheDepth, or 1024.
+ * <P>
+ * Older translations, or translations made without transform support,
+ * identify bodies by name instead of by slot.
+ * Each name is resolved on first use to an index in a separate range,
+ * so that named bodies never share a stack or memo table with
+ * translated slots, even if a cache mixes the two.
+ * Slots are never negative; a negative slot is rejected.
+ * <P>
+ * The cache also holds the memoized results of pure methods,
+ * marked by the directive @{@literal <}memoize{@literal >}:
+ * <PRE>
+ *   def f = {x,y -> locals; return cache_uniq.getMemoized(0, args) ?:
+ *          cache_uniq.getFree(0) ?: ... }
+ * </PRE>
+ * The first lookup marks the slot as memoized, so that later
+ * invocations of its bodies record their results,
+ * see IconMemoTable.
  *
  * @author Peter Mills
  */
 public class MethodBodyCache {
+
+  // Maximum retained depth for each slot's stack
+  private static int maxDepth = (int) IconNumber.stringToInteger(
+	System.getProperty("junicon.methodCacheDepth", "1024"), 1024);
+
+  // Indexes of bodies identified by name, separate from translated slots
+  private final Map<String, Integer> names =
+	new ConcurrentHashMap<String, Integer>();
+  private int nextName = 0;
+
+  // Memoized results by slot or by name, shared between threads
+  private volatile IconMemoTable[] memos = null;
+  private final Map<String, IconMemoTable> namedMemos =
+	new ConcurrentHashMap<String, IconMemoTable>();
+
   // Threadlocal cache of method bodies
-  private final ThreadLocal<HashMap<String, List<IconIterator<?>>>>
-    threadCache = new ThreadLocal() {
-     @Override protected HashMap<String, List<IconIterator<?>>> initialValue() {
-	return new HashMap<String, List<IconIterator<?>>> ();
+  private final ThreadLocal<Pool> threadCache = new ThreadLocal<Pool>() {
+     @Override protected Pool initialValue() {
+	return new Pool();
      }
   };
 
+  /**
+   * Per-thread stacks of free bodies, for translated slots and for
+   * named bodies, with statistics.
+   */
+  private static class Pool {
+	Stacks slots = new Stacks();
+	Stacks named = new Stacks();
+	long hits = 0;
+	long misses = 0;
+	long evictions = 0;
+  }
+
+  /**
+   * Array of stacks of free bodies, indexed by slot.
+   */
+  private static class Stacks {
+	IconIterator<?>[][] stacks = new IconIterator<?>[8][];
+	int[] depths = new int[8];
+
+	/**
+	 * Pops a free body from the slot, or returns null if none.
+	 */
+	IconIterator<?> pop (int slot) {
+		if ((slot >= depths.length) || (depths[slot] == 0)) {
+			return null;
+		}
+		IconIterator<?>[] stack = stacks[slot];
+		int depth = --depths[slot];
+		IconIterator<?> body = stack[depth];
+		stack[depth] = null;
+		return body;
+	}
+
+	/**
+	 * Pushes a free body onto the slot.
+	 * Returns false if the slot already retains the maximum depth.
+	 */
+	boolean push (int slot, IconIterator<?> body) {
+		if (slot >= depths.length) {
+			int size = Math.max(slot + 1, depths.length * 2);
+			stacks = Arrays.copyOf(stacks, size);
+			depths = Arrays.copyOf(depths, size);
+		}
+		int depth = depths[slot];
+		if (depth >= maxDepth) { return false; }
+		IconIterator<?>[] stack = stacks[slot];
+		if (stack == null) {
+			stack = new IconIterator<?>[Math.min(4, maxDepth)];
+			stacks[slot] = stack;
+		} else if (depth >= stack.length) {
+			stack = Arrays.copyOf(stack,
+				(int) Math.min((long) stack.length * 2, maxDepth));
+			stacks[slot] = stack;
+		}
+		stack[depth] = body;
+		depths[slot] = depth + 1;
+		return true;
+	}
+  }
+
   public MethodBodyCache () { }
 
+  //==========================================================================
+  // Configuration.
+  //==========================================================================
+
+  /**
+   * Sets the maximum number of free bodies retained per slot.
+   */
+  public static void setMaxDepth (int depth) {
+	maxDepth = Math.max(0, depth);
+  }
+
+  /**
+   * Gets the maximum number of free bodies retained per slot.
+   */
+  public static int getMaxDepth () {
+	return maxDepth;
+  }
+
+  //==========================================================================
+  // Slot resolution.
+  //==========================================================================
+
+  /**
+   * Resolves a method body name to its index among named bodies.
+   * The index is not a translated slot.
+   */
+  private int nameIndex (String name) {
+	Integer index = names.get(name);
+	if (index != null) { return index; }
+	synchronized (names) {
+		index = names.get(name);
+		if (index == null) {
+			index = nextName++;
+			names.put(name, index);
+		}
+	}
+	return index;
+  }
+
+  /**
+   * Rejects a negative slot, which the transforms never assign.
+   */
+  private static void checkSlot (int slot) {
+	if (slot < 0) {
+	    throw new IllegalArgumentException(
+		"Method body cache slot is negative: " + slot);
+	}
+  }
+
+  //==========================================================================
+  // Get and free bodies.
+  //==========================================================================
+
+  /**
+   * Pops a free body from the given slot, or returns null if none.
+   */
+  public IconIterator<?> getFree (int slot) {
+	checkSlot(slot);
+	return counted(threadCache.get(), true, slot);
+  }
+
+  /**
+   * Pushes a free body onto the given slot,
+   * unless the slot already retains the maximum depth.
+   */
+  public void addFree (int slot, IconIterator<?> body) {
+	checkSlot(slot);
+	Pool pool = threadCache.get();
+	if (! pool.slots.push(slot, body)) { pool.evictions++; }
+  }
+
+  /**
+   * Pops a free body with the given name, or returns null if none.
+   */
   public IconIterator<?> getFree (String name) {
-	HashMap<String, List<IconIterator<?>>> cache = threadCache.get();
-	List<IconIterator<?>> stack = cache.get(name);
-	if ((stack == null) || stack.isEmpty()) { return null; }
-	return stack.remove(stack.size()-1);	// pop from end
+	return counted(threadCache.get(), false, nameIndex(name));
   }
+
+  /**
+   * Pushes a free body with the given name.
+   */
   public void addFree (String name, IconIterator<?> body) {
-	HashMap<String, List<IconIterator<?>>> cache = threadCache.get();
-	List<IconIterator<?>> stack = cache.get(name);
-	if (stack == null) {
-		stack = new ArrayList<IconIterator<?>>();
-		cache.put(name, stack);
+	Pool pool = threadCache.get();
+	if (! pool.named.push(nameIndex(name), body)) { pool.evictions++; }
+  }
+
+  /**
+   * Pushes a free body under its slot, or its name if it has no slot,
+   * as set by setCache().
+   */
+  public void addFree (IconIterator<?> body) {
+	if (body == null) { return; }
+	if (body.getSlotInCache() >= 0) {
+		addFree(body.getSlotInCache(), body);
+	} else if (body.getNameInCache() != null) {
+		addFree(body.getNameInCache(), body);
+	}
+  }
+
+  /**
+   * Pops from translated or named stacks, and counts the hit or miss.
+   */
+  private static IconIterator<?> counted (Pool pool, boolean isSlot,
+		int index) {
+	IconIterator<?> body = isSlot ? pool.slots.pop(index)
+				: pool.named.pop(index);
+	if (body == null) {
+		pool.misses++;
+	} else {
+		pool.hits++;
+	}
+	return body;
+  }
+
+  //==========================================================================
+  // Memoization.
+  //==========================================================================
+
+  /**
+   * Gets an iterator over the memoized results of the slot's method
+   * for the given arguments, or null if not yet memoized.
+   * Marks the slot as memoized.
+   */
+  public IconIterator<?> getMemoized (int slot, Object[] args) {
+	return getMemoTable(slot).get(args);
+  }
+
+  /**
+   * Gets an iterator over the memoized results of the named method
+   * for the given arguments, or null if not yet memoized.
+   * Marks the name as memoized.
+   */
+  public IconIterator<?> getMemoized (String name, Object[] args) {
+	return getMemoTable(name).get(args);
+  }
+
+  /**
+   * Returns if the slot is memoized.
+   */
+  public boolean isMemoized (int slot) {
+	IconMemoTable[] tables = memos;
+	return (tables != null) && (slot >= 0) && (slot < tables.length)
+		&& (tables[slot] != null);
+  }
+
+  /**
+   * Returns if the body's slot, or its name if it has no slot, is memoized.
+   */
+  public boolean isMemoized (IconIterator<?> body) {
+	if (body.getSlotInCache() >= 0) {
+		return isMemoized(body.getSlotInCache());
 	}
-	stack.add(body);
+	return (body.getNameInCache() != null)
+		&& namedMemos.containsKey(body.getNameInCache());
+  }
+
+  /**
+   * Gets the memo table for the slot, creating it if needed.
+   */
+  public IconMemoTable getMemoTable (int slot) {
+	checkSlot(slot);
+	IconMemoTable[] tables = memos;
+	if ((tables != null) && (slot < tables.length)
+			&& (tables[slot] != null)) {
+		return tables[slot];
+	}
+	synchronized (names) {
+		tables = memos;
+		if (tables == null) {
+			tables = new IconMemoTable[slot + 1];
+		} else if (slot >= tables.length) {
+			tables = Arrays.copyOf(tables, slot + 1);
+		} else if (tables[slot] != null) {
+			return tables[slot];
+		} else {
+			tables = tables.clone();
+		}
+		tables[slot] = new IconMemoTable();
+		memos = tables;
+		return tables[slot];
+	}
+  }
+
+  /**
+   * Gets the memo table for the named method, creating it if needed.
+   */
+  public IconMemoTable getMemoTable (String name) {
+	return namedMemos.computeIfAbsent(name, (key) -> new IconMemoTable());
+  }
+
+  /**
+   * Gets the memo table for the body's slot, or its name if it has no slot.
+   */
+  public IconMemoTable getMemoTable (IconIterator<?> body) {
+	if (body.getSlotInCache() >= 0) {
+		return getMemoTable(body.getSlotInCache());
+	}
+	return getMemoTable(body.getNameInCache());
+  }
+
+  //==========================================================================
+  // Statistics for the current thread.
+  //==========================================================================
+
+  /**
+   * Number of times getFree returned a cached body.
+   */
+  public long getHits () { return threadCache.get().hits; }
+
+  /**
+   * Number of times getFree found no cached body.
+   */
+  public long getMisses () { return threadCache.get().misses; }
+
+  /**
+   * Number of freed bodies dropped because their slot was full.
+   */
+  public long getEvictions () { return threadCache.get().evictions; }
+
+  /**
+   * Resets the statistics for the current thread.
+   */
+  public void resetStatistics () {
+	Pool pool = threadCache.get();
+	pool.hits = 0;
+	pool.misses = 0;
+	pool.evictions = 0;
   }
 }
 
@@ -0,0 +1,417 @@
+//========================================================================
+// Copyright (c) 2014 Orielle, LLC.  
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions
+// are met:
+//
+// 1. Redistributions of source code must retain the above copyright
+//    notice, this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+//    notice, this list of conditions and the following disclaimer in the
+//    documentation and/or other materials provided with the distribution.
+//
+// This software is provided by the copyright holders and contributors
+// "as is" and any express or implied warranties, including, but not
+// limited to, the implied warranties of merchantability and fitness for
+// a particular purpose are disclaimed. In no event shall the copyright
+// holder or contributors be liable for any direct, indirect, incidental,
+// special, exemplary, or consequential damages (including, but not
+// limited to, procurement of substitute goods or services; loss of use,
+// data, or profits; or business interruption) however caused and on any
+// theory of liability, whether in contract, strict liability, or tort
+// (including negligence or otherwise) arising in any way out of the use
+// of this software, even if advised of the possibility of such damage.
+//========================================================================
+package edu.uidaho.junicon.runtime.junicon.operators;
+
+import edu.uidaho.junicon.runtime.junicon.iterators.IIconAtom;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable character set.
+ * Latin-1 characters are held in a 256-bit set of four longs,
+ * so that membership is a single bit test and
+ * union, intersection, difference, and complement are word-parallel.
+ * Wider characters are held as a sorted array of disjoint ranges.
+ * <P>
+ * A character set is also a set of one-character strings,
+ * iterated in collating order,
+ * so that it can be used wherever a set is expected.
+ * It is immutable, and so cannot be added to or removed from.
+ * Complement is with respect to {@literal &}cset, i.e., Latin-1.
+ *
+ * @author Peter Mills
+ */
+public final class IconCset extends AbstractSet<String> {
+
+  private static final int LATIN1 = 256;	// Size of bit set
+  private static final int[] NO_RANGES = {};
+
+  private final long[] bits;	// Latin-1 members, 4 words
+  private final int[] ranges;	// Wider members as inclusive [lo,hi] pairs
+  private final int size;
+  private final int hash;
+
+  // One-character strings, for iteration
+  private static final String[] chars = new String[LATIN1];
+  static {
+	for (int i = 0; i < chars.length; i++) {
+		chars[i] = String.valueOf((char) i);
+	}
+  }
+
+  /**
+   * Empty character set.
+   */
+  public static final IconCset EMPTY = new IconCset(new long[4], NO_RANGES);
+
+  /**
+   * {@literal &}cset, the 256 Latin-1 characters.
+   */
+  public static final IconCset ALL = new IconCset(
+	new long[] { -1L, -1L, -1L, -1L }, NO_RANGES);
+
+  /**
+   * {@literal &}digits.
+   */
+  public static final IconCset DIGITS = valueOf("0123456789");
+
+  //==========================================================================
+  // Constructors.
+  //==========================================================================
+
+  private IconCset (long[] bits, int[] ranges) {
+	this.bits = bits;
+	this.ranges = ranges;
+	int n = 0;
+	int h = 0;
+	for (int w = 0; w < 4; w++) {
+		long word = bits[w];
+		n += Long.bitCount(word);
+		while (word != 0) {	// String hash of one char is the char
+			h += (w << 6) + Long.numberOfTrailingZeros(word);
+			word &= word - 1;
+		}
+	}
+	for (int i = 0; i < ranges.length; i += 2) {
+		int lo = ranges[i];
+		int hi = ranges[i+1];
+		n += hi - lo + 1;
+		h += (int) (((long) lo + hi) * (hi - lo + 1) / 2);
+	}
+	size = n;
+	hash = h;
+  }
+
+  //==========================================================================
+  // Factory methods.
+  //==========================================================================
+
+  /**
+   * Creates a character set from the characters of a string.
+   */
+  public static IconCset valueOf (CharSequence str) {
+	if (str == null) { return null; }
+	long[] bits = new long[4];
+	int length = str.length();
+	int[] wide = null;
+	int wideCount = 0;
+	for (int i = 0; i < length; i++) {
+		char c = str.charAt(i);
+		if (c < LATIN1) {
+			bits[c >>> 6] |= 1L << c;
+		} else {
+			if (wide == null) { wide = new int[length - i]; }
+			wide[wideCount++] = c;
+		}
+	}
+	if (wide == null) { return new IconCset(bits, NO_RANGES); }
+	return new IconCset(bits, toRanges(wide, wideCount));
+  }
+
+  /**
+   * Converts a character set, string,
+   * or collection of one-character strings into a character set.
+   * Dereferences atoms.
+   * Returns null if not convertible.
+   */
+  public static IconCset valueOf (Object obj) {
+	if (obj instanceof IIconAtom) { obj = ((IIconAtom) obj).deref(); }
+	if (obj instanceof IconCset) { return (IconCset) obj; }
+	if (obj instanceof CharSequence) { return valueOf((CharSequence) obj); }
+	if (obj instanceof Collection) {
+		StringBuilder str = new StringBuilder();
+		for (Object x : (Collection) obj) {
+			if (! ((x instanceof CharSequence) &&
+					(((CharSequence) x).length() == 1))) {
+				return null;
+			}
+			str.append(((CharSequence) x).charAt(0));
+		}
+		return valueOf(str);
+	}
+	return null;
+  }
+
+  /**
+   * Sorts characters into disjoint inclusive ranges.
+   */
+  private static int[] toRanges (int[] wide, int count) {
+	Arrays.sort(wide, 0, count);
+	int[] ranges = new int[2 * count];
+	int n = 0;
+	for (int i = 0; i < count; i++) {
+		int c = wide[i];
+		if ((n > 0) && (c <= ranges[n-1] + 1)) {
+			ranges[n-1] = Math.max(ranges[n-1], c);
+		} else {
+			ranges[n++] = c;
+			ranges[n++] = c;
+		}
+	}
+	return Arrays.copyOf(ranges, n);
+  }
+
+  //==========================================================================
+  // Membership.
+  //==========================================================================
+
+  /**
+   * Returns if the character is a member.
+   */
+  public boolean contains (char c) {
+	if (c < LATIN1) { return (bits[c >>> 6] & (1L << c)) != 0; }
+	return containsWide(c);
+  }
+
+  private boolean containsWide (int c) {
+	int lo = 0;
+	int hi = (ranges.length >>> 1) - 1;
+	while (lo <= hi) {		// Binary search of ranges
+		int mid = (lo + hi) >>> 1;
+		if (c < ranges[2*mid]) { hi = mid - 1;
+		} else if (c > ranges[2*mid + 1]) { lo = mid + 1;
+		} else { return true; }
+	}
+	return false;
+  }
+
+  /**
+   * Returns if the object is a one-character string
+   * or character in this set.
+   */
+  @Override public boolean contains (Object o) {
+	if (o instanceof CharSequence) {
+		CharSequence s = (CharSequence) o;
+		return (s.length() == 1) && contains(s.charAt(0));
+	}
+	if (o instanceof Character) { return contains(((Character) o).charValue()); }
+	return false;
+  }
+
+  /**
+   * Returns the index of the first character of s[from:to]
+   * that is a member, or -1 if none.
+   * Indexes are zero-based, and to is exclusive.
+   */
+  public int indexIn (CharSequence s, int from, int to) {
+	for (int i = from; i < to; i++) {
+		if (contains(s.charAt(i))) { return i; }
+	}
+	return -1;
+  }
+
+  /**
+   * Returns the index after the longest prefix of s[from:to]
+   * whose characters are all members, i.e., from if none.
+   * Indexes are zero-based, and to is exclusive.
+   */
+  public int spanIn (CharSequence s, int from, int to) {
+	int i = from;
+	while ((i < to) && contains(s.charAt(i))) { i++; }
+	return i;
+  }
+
+  //==========================================================================
+  // Set operations.
+  //==========================================================================
+
+  /**
+   * c1 ++ c2.
+   */
+  public IconCset union (IconCset other) {
+	long[] result = new long[4];
+	for (int w = 0; w < 4; w++) { result[w] = bits[w] | other.bits[w]; }
+	return new IconCset(result, unionRanges(ranges, other.ranges));
+  }
+
+  /**
+   * c1 ** c2.
+   */
+  public IconCset intersection (IconCset other) {
+	long[] result = new long[4];
+	for (int w = 0; w < 4; w++) { result[w] = bits[w] & other.bits[w]; }
+	return new IconCset(result, intersectRanges(ranges, other.ranges));
+  }
+
+  /**
+   * c1 -- c2.
+   */
+  public IconCset difference (IconCset other) {
+	long[] result = new long[4];
+	for (int w = 0; w < 4; w++) { result[w] = bits[w] & ~other.bits[w]; }
+	int[] wide = ranges;
+	if ((ranges.length > 0) && (other.ranges.length > 0)) {
+		wide = intersectRanges(ranges, complementRanges(other.ranges));
+	}
+	return new IconCset(result, wide);
+  }
+
+  /**
+   * ~c, the complement with respect to {@literal &}cset.
+   */
+  public IconCset complement () {
+	long[] result = new long[4];
+	for (int w = 0; w < 4; w++) { result[w] = ~bits[w]; }
+	return new IconCset(result, NO_RANGES);
+  }
+
+  private static int[] unionRanges (int[] a, int[] b) {
+	if (b.length == 0) { return a; }
+	if (a.length == 0) { return b; }
+	int[] result = new int[a.length + b.length];
+	int n = 0, i = 0, j = 0;
+	while ((i < a.length) || (j < b.length)) {
+		int lo, hi;
+		if ((j >= b.length) || ((i < a.length) && (a[i] <= b[j]))) {
+			lo = a[i]; hi = a[i+1]; i += 2;
+		} else {
+			lo = b[j]; hi = b[j+1]; j += 2;
+		}
+		if ((n > 0) && (lo <= result[n-1] + 1)) {
+			result[n-1] = Math.max(result[n-1], hi);
+		} else {
+			result[n++] = lo;
+			result[n++] = hi;
+		}
+	}
+	return Arrays.copyOf(result, n);
+  }
+
+  private static int[] intersectRanges (int[] a, int[] b) {
+	if ((a.length == 0) || (b.length == 0)) { return NO_RANGES; }
+	int[] result = new int[a.length + b.length];
+	int n = 0, i = 0, j = 0;
+	while ((i < a.length) && (j < b.length)) {
+		int lo = Math.max(a[i], b[j]);
+		int hi = Math.min(a[i+1], b[j+1]);
+		if (lo <= hi) {
+			result[n++] = lo;
+			result[n++] = hi;
+		}
+		if (a[i+1] < b[j+1]) { i += 2; } else { j += 2; }
+	}
+	return Arrays.copyOf(result, n);
+  }
+
+  /**
+   * Complement of ranges over the characters wider than Latin-1.
+   */
+  private static int[] complementRanges (int[] a) {
+	int[] result = new int[a.length + 2];
+	int n = 0;
+	int next = LATIN1;
+	for (int i = 0; i < a.length; i += 2) {
+		if (a[i] > next) {
+			result[n++] = next;
+			result[n++] = a[i] - 1;
+		}
+		next = a[i+1] + 1;
+	}
+	if (next <= Character.MAX_VALUE) {
+		result[n++] = next;
+		result[n++] = Character.MAX_VALUE;
+	}
+	return Arrays.copyOf(result, n);
+  }
+
+  //==========================================================================
+  // Set methods.
+  //==========================================================================
+
+  @Override public int size () {
+	return size;
+  }
+
+  @Override public boolean isEmpty () {
+	return size == 0;
+  }
+
+  /**
+   * Iterates over the members as one-character strings,
+   * in collating order.
+   */
+  @Override public Iterator<String> iterator () {
+	return new Iterator<String>() {
+	    int next = advance(0);
+
+	    private int advance (int c) {
+		while (c < LATIN1) {
+			long word = bits[c >>> 6] & (-1L << c);
+			if (word != 0) {
+				return (c & ~63) + Long.numberOfTrailingZeros(word);
+			}
+			c = (c & ~63) + 64;
+		}
+		for (int i = 0; i < ranges.length; i += 2) {
+			if (c <= ranges[i+1]) { return Math.max(c, ranges[i]); }
+		}
+		return -1;
+	    }
+
+	    public boolean hasNext () {
+		return next >= 0;
+	    }
+
+	    public String next () {
+		if (next < 0) { throw new NoSuchElementException(); }
+		int c = next;
+		next = advance(c + 1);
+		return (c < LATIN1) ? chars[c] : String.valueOf((char) c);
+	    }
+	};
+  }
+
+  /**
+   * Gets the members as a string, in collating order.
+   */
+  public String getString () {
+	StringBuilder str = new StringBuilder(size);
+	for (String c : this) { str.append(c); }
+	return str.toString();
+  }
+
+  @Override public int hashCode () {
+	return hash;
+  }
+
+  @Override public boolean equals (Object other) {
+	if (other == this) { return true; }
+	if (other instanceof IconCset) {
+		IconCset cset = (IconCset) other;
+		return (size == cset.size) && Arrays.equals(bits, cset.bits)
+			&& Arrays.equals(ranges, cset.ranges);
+	}
+	return super.equals(other);
+  }
+}
+
+//==== END OF FILE
@@ -56,9 +56,6 @@ import java.io.RandomAccessFile;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
-import java.util.regex.Pattern;
-import java.util.regex.Matcher;
-
 /**
  * Defines the built-in Icon functions.
  * The built-in functions are exposed as method references
@@ -334,7 +331,7 @@ public class IconFunctions {
 	    }
 	    if (args.length > 1) { value = args[1]; }
 	}
-	ArrayList ls = new ArrayList();
+	IconList ls = new IconList();
 	for (int i=0; i<size; i++) {
 		ls.add(value);
 	}
@@ -392,6 +389,7 @@ public class IconFunctions {
       
       Object last = null;
       for (int i = 0; i < count; i++) {
+          if (x.isEmpty()) { return FAIL; }
           last = x.remove(x.size() - 1);
       }
       return last;
@@ -405,6 +403,7 @@ public class IconFunctions {
 	if (!(args[0] instanceof List)) { return args[0]; }
 	List x = (List) args[0];
         if (x.isEmpty()) { return FAIL; }
+	if (x instanceof IconList) { return ((IconList) x).removeFirst(); }
 	return x.remove(0);
   }
 
@@ -415,6 +414,12 @@ public class IconFunctions {
 	if ((args == null) || (args.length == 0)) { return FAIL; }
 	if (!(args[0] instanceof List)) { return args[0]; }
 	List x = (List) args[0];
+	if (x instanceof IconList) {	// Push each onto front, keeping order
+		for (int i = args.length - 1; i > 0; i--) {
+			((IconList) x).addFirst(args[i]);
+		}
+		return x;
+	}
 	x.addAll(0, Arrays.asList(args).subList(1,args.length));
 	return x;
   }
@@ -479,15 +484,11 @@ public class IconFunctions {
       if ((args == null) || (args.length == 0)) { return FAIL; }
       
       if (args[0] instanceof List) {
-          List l = new ArrayList((List) args[0]);
-          l.sort(new UniconComparator());
-          return l;
+          return IconSort.sort((List) args[0]);
       }
       
       if (args[0] instanceof Set) {
-          List l = new ArrayList((Set) args[0]);
-          l.sort(new UniconComparator());
-          return l;
+          return IconSort.sort((Set) args[0]);
       }
       
       if (args[0] instanceof Map) {
@@ -504,39 +505,10 @@ public class IconFunctions {
               }
           }
           
-          Comparator c = new UniconComparator();
-          
-          ArrayList<List> l = new ArrayList<>();
-          for (Map.Entry<Object, Object> e : (Set<Map.Entry>)t.entrySet()) {
-              List tl = new ArrayList();
-              tl.add(e.getKey());
-              tl.add(e.getValue());
-              l.add(tl);
-          }
-          
-          if (i % 2 == 0) {
-              l.sort((List o1, List o2) -> c.compare(o1.get(0), o2.get(0)));
-          } else {
-              l.sort((List o1, List o2) -> c.compare(o1.get(1), o2.get(1)));
-          }
-          
-          if (i == 1 || i == 2) {
-              return l;
-          }
-          
-          if (i == 3 || i == 4) {
-              List flat = new ArrayList();
-              for (List e : l) {
-                  flat.add(e.get(0));
-                  flat.add(e.get(1));
-              }
-              return flat;
-          }
+          return IconSort.sort(t, (i % 2 == 0), (i == 3 || i == 4));
       }
       
-      List l = IconField.objectAsList(args[0]);
-      l.sort(new UniconComparator());
-      return l;
+      return IconSort.sort(IconField.objectAsValues(args[0]));
   }
   
   static class UniconComparator implements Comparator<Object> {
@@ -556,8 +528,13 @@ public class IconFunctions {
               }
           }
           
-          if (o1 instanceof Integer || o1 instanceof BigInteger) return -1;
-          else if (o2 instanceof Integer || o2 instanceof BigInteger) return 1;
+          boolean isInteger1 = IconNumber.isInteger(o1);
+          boolean isInteger2 = IconNumber.isInteger(o2);
+          if (isInteger1 && isInteger2) {
+              return IconNumber.compareIntegers((Number) o1, (Number) o2);
+          }
+          if (isInteger1) return -1;
+          else if (isInteger2) return 1;
           
           if (o1 instanceof Number) return -1;
           else if (o2 instanceof Number) return 1;
@@ -565,8 +542,8 @@ public class IconFunctions {
           if (o1 instanceof CharSequence) return -1;
           else if (o2 instanceof CharSequence) return 1;
           
-          // TODO: to properly handle csets here, we need to distinguish between
-          // regular sets and csets (i.e., need to use a different class entirely)
+          if (o1 instanceof IconCset) return -1;
+          else if (o2 instanceof IconCset) return 1;
           
           // TODO: window object tests should go here
           
@@ -609,51 +586,21 @@ public class IconFunctions {
       }
       
       if (args[0] instanceof List) {
-          ((List) args[0]).sort(new SortFComparator(index));
+          IconSort.sortByField((List) args[0], index);
           return args[0];
       }
       
       if (args[0] instanceof Set) {
           List l = new ArrayList((Set) args[0]);
-          l.sort(new SortFComparator(index));
+          IconSort.sortByField(l, index);
           return l;
       }
       
-      List l = IconField.objectAsList(args[0]);
-      l.sort(new SortFComparator(index));
+      List l = IconField.objectAsValues(args[0]);
+      IconSort.sortByField(l, index);
       return l;
   }
   
-  static class SortFComparator implements Comparator<Object> {
-      private final int index;
-      private final UniconComparator basis;
-      
-      public SortFComparator(int i) {
-          index = i;
-          basis = new UniconComparator();
-      }
-      
-      @Override
-      public int compare(Object o1, Object o2) {
-          List o1l, o2l;
-          if (o1 instanceof List) { o1l = (List) o1; }
-          else if (o1 instanceof Set) { o1l = new ArrayList((Set) o1); }
-          else { o1l = IconField.objectAsList(o1); }
-          
-          if (o2 instanceof List) { o2l = (List) o2; }
-          else if (o2 instanceof Set) { o2l = new ArrayList((Set) o2); }
-          else { o2l = IconField.objectAsList(o2); }
-          
-          if (o1l.size() < Math.abs(index)) return -1;
-          if (o2l.size() < Math.abs(index)) return 1;
-          
-          if (index < 0) {
-              return basis.compare(o1l.get(o1l.size() + index), o2l.get(o2l.size() + index));
-          }
-          return basis.compare(o1l.get(index-1), o2l.get(index-1));
-      }
-  }
-
   /**
    * table(k,v,...,default)
    * table(k,v,...)
@@ -673,8 +620,8 @@ public class IconFunctions {
 
   /**
    * Numerically sorts a list.
-   * Sorts as BigInteger, if IconNumber.getIsIntegerPrecision();
-   * otherwise sorts as Long.
+   * Sorts as integers, if IconNumber.getIsIntegerPrecision(),
+   * where each is a Long or BigInteger; otherwise sorts as Long.
    * @return Sorted list
    */
   public static Object sortn (Object... args) {
@@ -684,18 +631,15 @@ public class IconFunctions {
 	}
 	try {
 	  if (IconNumber.getIsIntegerPrecision()) {
-		List<BigInteger> c = new ArrayList((List) args[0]);
-		c.sort(null);
-		return c;
+		Comparator<Number> order = IconNumber::compareIntegers;
+		return IconSort.sort((List) args[0], order);
 		//====
 		// List<BigInteger> c = (List) args[0];
 		// return c.stream().sorted((x,y) -> x.compareTo(y))
 		// .collect(Collectors.toList()));
 		//====
 	  } else {
-		List<Long> c = new ArrayList((List) args[0]);
-		c.sort(null);
-		return c;
+		return IconSort.sort((List) args[0], null);
 	  }
 	} catch (ClassCastException e) {
 		return FAIL;
@@ -820,6 +764,9 @@ public class IconFunctions {
    */
   public static Object string (Object... args) {
       if ((args == null) || (args.length < 1)) { return FAIL; }
+      if (args[0] instanceof Number) {
+          return IconNumberFormat.format((Number) args[0]);
+      }
       return args[0].toString();
   }
   
@@ -839,7 +786,7 @@ public class IconFunctions {
       }
       
       if (r instanceof BigInteger) {
-          return ((BigInteger) r).abs();
+          return IconNumber.demote(((BigInteger) r).abs());
       }
       if (r instanceof BigDecimal) {
           return ((BigDecimal) r).abs();
@@ -847,6 +794,9 @@ public class IconFunctions {
       if ((r instanceof Float) || (r instanceof Double)) {
 	  return Math.abs(r.doubleValue());
       }
+      if (r.longValue() == Long.MIN_VALUE) {
+	  return IconValueNumber.negate(r.longValue()).get();
+      }
       return Math.abs(r.longValue());
   }
   
@@ -967,9 +917,9 @@ public class IconFunctions {
             throw new RuntimeException("Error code 101: not integer");
 	}
         if (isBig == IconNumber.BIGINTEGER) {
-		return ((BigInteger) xn).and((BigInteger)yn);
+		return IconNumber.demote(((BigInteger) xn).and((BigInteger)yn));
         }
-	return xn.intValue() & yn.intValue();
+	return xn.longValue() & yn.longValue();
   }
   
   /**
@@ -986,9 +936,9 @@ public class IconFunctions {
           throw new RuntimeException("Error code 101: not integer");
       }
       if (xn instanceof BigInteger) {
-          return ((BigInteger) xn).not();
+          return IconNumber.demote(((BigInteger) xn).not());
       }
-      return ~xn.intValue();
+      return ~xn.longValue();
   }
   
   /**
@@ -1008,9 +958,9 @@ public class IconFunctions {
             throw new RuntimeException("Error code 101: not integer");
 	}
         if (isBig == IconNumber.BIGINTEGER) {
-		return ((BigInteger) xn).or((BigInteger)yn);
+		return IconNumber.demote(((BigInteger) xn).or((BigInteger)yn));
         }
-	return xn.intValue() | yn.intValue();
+	return xn.longValue() | yn.longValue();
   }
 
   /**
@@ -1034,15 +984,21 @@ public class IconFunctions {
 	// Most common case will be BigDecimal or BigInteger
 	if (xn instanceof BigInteger) {
 	    if (shift >= 0) {
-		return ((BigInteger) xn).shiftLeft(shift);
+		return IconNumber.demote(((BigInteger) xn).shiftLeft(shift));
 	    }
-	    return ((BigInteger) xn).shiftRight(-shift);
+	    return IconNumber.demote(((BigInteger) xn).shiftRight(-shift));
 	}
 	if (xn instanceof BigDecimal) {
 		throw new RuntimeException("Error code 101: not integer");
 	}
 	// Let Java throw error on other non-integer arguments
 	if (shift >= 0) {
+		// Promote if bits would be shifted out
+		if (IconNumber.getIsIntegerPrecision() && ((shift >= Long.SIZE)
+		    || (((xn.longValue() << shift) >> shift) != xn.longValue()))) {
+			return IconNumber.demote(
+			    BigInteger.valueOf(xn.longValue()).shiftLeft(shift));
+		}
 		return xn.longValue() << shift;
 	}
 	return xn.longValue() >> (-shift);
@@ -1065,9 +1021,9 @@ public class IconFunctions {
             throw new RuntimeException("Error code 101: not integer");
 	}
         if (isBig == IconNumber.BIGINTEGER) {
-		return ((BigInteger) xn).xor((BigInteger)yn);
+		return IconNumber.demote(((BigInteger) xn).xor((BigInteger)yn));
         }
-	return xn.intValue() ^ yn.intValue();
+	return xn.longValue() ^ yn.longValue();
   }
   
   /**
@@ -1164,11 +1120,9 @@ public class IconFunctions {
    */
   public static Object bal (Object... args) {
       // default arguments
-      Set<String> c1 = IconKeywords.cset;
-      Set<String> c2 = new LinkedHashSet<>();
-      c2.add("(");
-      Set<String> c3 = new LinkedHashSet<>();
-      c3.add(")");
+      IconCset c1 = IconKeywords.cset;
+      IconCset c2 = OPEN_PAREN;
+      IconCset c3 = CLOSE_PAREN;
       String s = (String)IconKeywords.subject.get();
       int i1 = ((Number)IconKeywords.pos.get()).intValue();
       int i2 = 0;
@@ -1180,14 +1134,18 @@ public class IconFunctions {
       int cnext = 0, inext = 0;
       for (Object o: args) {
           if (o instanceof Set) {
+              IconCset c = IconCset.valueOf(o);
+              if (c == null) {
+                  throw new RuntimeException("Error code 104: not cset");
+              }
               if (cnext == 0) {
-                  c1 = (Set<String>)o;
+                  c1 = c;
                   cnext += 1;
               } else if (cnext == 1) {
-                  c2 = (Set<String>)o;
+                  c2 = c;
                   cnext += 1;
               } else {
-                  c3 = (Set<String>)o;
+                  c3 = c;
               }
           }
           else if (o instanceof CharSequence) {
@@ -1210,7 +1168,7 @@ public class IconFunctions {
       int count = 0;
       List<Integer> results = new ArrayList<>();
       while (i1 < i2) {
-          String c = s.substring(i1-1, i1);
+          char c = s.charAt(i1-1);
           if (count == 0 && c1.contains(c)) {
               results.add(i1);
           }
@@ -1223,6 +1181,9 @@ public class IconFunctions {
       }
       return new IconPromote(results).setListAsValue();
   }
+
+  private static final IconCset OPEN_PAREN = IconCset.valueOf("(");
+  private static final IconCset CLOSE_PAREN = IconCset.valueOf(")");
   
   /**
    * Produces a single character string whose internal representation is i.
@@ -1313,11 +1274,12 @@ public class IconFunctions {
       }
       
       String s = args[0].toString();
-      String result = "";
+      StringBuilder result = new StringBuilder(
+          (int) Math.min(Integer.MAX_VALUE, (long) s.length() * r.intValue()));
       for (int i = 0; i < r.intValue(); i++) {
-          result = result.concat(s);
+          result.append(s);
       }
-      return result;
+      return result.toString();
   }
   
   /**
@@ -1359,14 +1321,13 @@ public class IconFunctions {
       }
       
       int side = -1;
-      String cset = " ";
+      IconCset cset = SPACE;
       if (args.length > 1) {
           Number r = IconNumber.toNumber(args[1]);
           if (args[1] instanceof Set) {
-              cset = "";
-              Set<String> l = (Set) args[1];
-              for (String s : l) {
-                  cset = cset.concat(s);
+              cset = IconCset.valueOf(args[1]);
+              if (cset == null) {
+                  throw new RuntimeException("Error code 104: not cset");
               }
           } else if (r != null) {
               side = r.intValue();
@@ -1387,7 +1348,7 @@ public class IconFunctions {
       int length = input.length();
       int iter = 0;
       if (side > -1) {
-          while (iter != length && cset.indexOf(input.charAt(iter)) != -1) {
+          while (iter != length && cset.contains(input.charAt(iter))) {
               iter += 1;
           }
       }
@@ -1397,13 +1358,15 @@ public class IconFunctions {
       iter = length-1;
       
       if (side < 1) {
-          while (iter != 0 && cset.indexOf(input.charAt(iter)) != -1) {
+          while (iter != 0 && cset.contains(input.charAt(iter))) {
               iter -= 1;
           }
       }
       
       return input.substring(0, iter+1);
   }
+
+  private static final IconCset SPACE = IconCset.valueOf(" ");
   
   private static enum PadType { LEFT, CENTER, RIGHT }
   
@@ -1575,6 +1538,7 @@ public class IconFunctions {
 	if ((args == null) || (args.length < 1) || (args[0] == null)) {
 		return FAIL; }
 	String str = null;
+	IconCset cset = null;
 	String subj = null;
 	int from = 1;
 	int to = 0;
@@ -1601,12 +1565,9 @@ public class IconFunctions {
 	  // Arguments are (str, subj=&subject, from=1 if subj else pos, to=0)
 	  if ((ftype == StringFtype.UPTO) || (ftype == StringFtype.MANY) ||
 			(ftype == StringFtype.ANY)) {
-		// Character set to string
-		if (args[0] instanceof CharSequence) {
-			str = args[0].toString(); 
-		} else if (args[0] instanceof Set) {
-			str = ((Set<String>) args[0]).stream().map(Object::toString).collect(Collectors.joining());
-		} else { return FAIL; }
+		// String or set of characters to character set
+		cset = IconSearch.toCset(args[0]);
+		if (cset == null) { return FAIL; }
 	  } else {	// FIND or MATCH
 		if (! (args[0] instanceof CharSequence)) { return FAIL; }
 		str = args[0].toString();
@@ -1620,7 +1581,7 @@ public class IconFunctions {
 			if (fromNumber == null) { return FAIL; }
 			from = fromNumber.intValue();
 			if (args.length > 3) {
-			    Number toNumber = IconNumber.toNumber(args[2]);
+			    Number toNumber = IconNumber.toNumber(args[3]);
 			    if (toNumber == null) { return FAIL; }
 			    to = toNumber.intValue();
 			}
@@ -1633,7 +1594,7 @@ public class IconFunctions {
 
 	// Convert string positions in subject[from:to] to use Java indexes
 	int[] endUpdate = {-1};
-	int origin = IconScan.getScanEnv().getOrigin();
+	int origin = env.getOrigin();
 		// int origin = IconNumber.getIndexOrigin();
 	endUpdate[0] = to;
 	int begin = IconIndex.adjustSlice(from, endUpdate, subj.length(),
@@ -1644,79 +1605,77 @@ public class IconFunctions {
 		// throw new IndexOutOfBoundsException(
 		//	"Index out of bounds " + begin + " : " + end);
 	}
-	String target = subj.substring(begin, end);  // end is exclusive of last
+	String subject = subj;	// Effectively final; end is exclusive of last
 
-	// Perform string function
+	// Perform string function on subject[begin:end], without copying
 	switch (ftype) {
-	  case FIND: {	// Generate pos of str in target, offset by origin
+	  case FIND: {	// Generate pos of str in subject, offset by origin
 		String text = str;	// Effectively final
 		return new IconIterator() {
-		  Matcher matcher;
+		  int next;
 		  public void afterRestart () {
-			matcher = Pattern.compile(
-				Pattern.quote(text)).matcher(target);
+			next = begin;
 		  }
 		  public IIconAtom provideNext () {
-			if (! matcher.find()) {
+			int found = IconSearch.find(text, subject, next, end);
+			if (found < 0) {
 				return FAIL;
 			}
-			return IconValue.create(
-				matcher.start() + begin + origin );
+			next = found + Math.max(text.length(), 1);
+			return IconValue.create( found + origin );
 		  }
 		};
 		}
 
-	  case MATCH: {	// Test if s begins target, return position beyond it
-		if (target.startsWith(str)) {
+	  case MATCH: {	// Test if s begins subject[begin:end], return pos beyond
+		if (IconSearch.startsWith(str, subject, begin, end)) {
 			return Long.valueOf(str.length() + begin + origin);
 		}
 		return FAIL;
 		}
 
-	  case UPTO: {	// Generate pos of any char of str in target
-		String text = str;	// Effectively final
+	  case UPTO: {	// Generate pos of any char of cset in subject
+		IconCset chars = cset;	// Effectively final
 		return new IconIterator() {
-		  Matcher matcher;
+		  int next;
 		  public void afterRestart () {
-			matcher = Pattern.compile("[" +
-				Pattern.quote(text) + "]").matcher(target);
+			next = begin;
 		  }
 		  public IIconAtom provideNext () {
-			if (! matcher.find()) {
+			int found = chars.indexIn(subject, next, end);
+			if (found < 0) {
 				return FAIL;
 			}
-			return IconValue.create(
-				matcher.start() + begin + origin );
+			next = found + 1;
+			return IconValue.create( found + origin );
 		  }
 		};
 		}
 
-	  case MANY: {	// Pos after longest initial seq of chars from str
-		Matcher matcher = Pattern.compile("[" +
-			Pattern.quote(str) + "]+").matcher(target);
-		if (matcher.lookingAt()) {	// end() index is exclusive
-			return Long.valueOf(matcher.end() + begin + origin);
+	  case MANY: {	// Pos after longest initial seq of chars from cset
+		int span = cset.spanIn(subject, begin, end);
+		if (span > begin) {		// span index is exclusive
+			return Long.valueOf(span + origin);
 		}
 		return FAIL;
 		}
 
-	  case ANY: {	// First pos of any char of str in target
-		Matcher matcher = Pattern.compile("[" +
-			Pattern.quote(str) + "]").matcher(target);
-		if (matcher.find()) {
-			return Long.valueOf(matcher.end() + begin + origin);
+	  case ANY: {	// First pos of any char of cset in subject
+		int found = cset.indexIn(subject, begin, end);
+		if (found >= 0) {
+			return Long.valueOf(found + 1 + origin);
 		}
 		return FAIL;
 		}
 
 	  case MOVE: {	// Produces substring at &pos of length len.
 		env.setPos(to);
-		return target;
+		return subject.substring(begin, end);
 		}
 
 	  case TAB: {	// Produces substring from &pos to "to".
 		env.setPos(to);
-		return target;
+		return subject.substring(begin, end);
 		}
 
 	  default: return FAIL;
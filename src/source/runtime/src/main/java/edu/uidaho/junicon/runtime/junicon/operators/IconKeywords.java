@@ -37,10 +37,6 @@ import java.util.Map;
 import java.util.List;
 import java.util.HashMap;
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
-
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
@@ -202,16 +198,12 @@ public class IconKeywords {
   /**
    * &amp;digits
    */
-  public static LinkedHashSet digits =
-	new LinkedHashSet(IconList.createList(
-		"0","1","2","3","4","5","6","7","8","9"));
+  public static IconCset digits = IconCset.DIGITS;
 
   /**
    * {@literal &}cset set of 256 characters.
    */
-  public static LinkedHashSet<String> cset =
-	new LinkedHashSet(IntStream.range(0,256).mapToObj(
-	(int x) -> String.valueOf((char) x)).collect(Collectors.toSet()));
+  public static IconCset cset = IconCset.ALL;
 
   /**
    * Alias for standard input: &amp;input
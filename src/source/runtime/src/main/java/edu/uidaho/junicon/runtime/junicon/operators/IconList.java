@@ -27,39 +27,82 @@
 //========================================================================
 package edu.uidaho.junicon.runtime.junicon.operators;
 
+import edu.uidaho.junicon.runtime.junicon.iterators.IIconNumericList;
+import edu.uidaho.junicon.runtime.junicon.iterators.IIconAtom.IconTypes;
+
 import java.util.List;
 import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.LinkedHashMap;
 import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.io.Serializable;
 
 /**
  * Icon list.
+ * Implemented as a growable circular buffer, so that
+ * indexing is O(1), and adding or removing at either end,
+ * i.e., push, pop, get, put, and pull, is amortized O(1).
+ * Inserting or removing in the middle shifts the shorter side.
+ * <P>
+ * While all elements are Long, or all are Double, the buffer is kept
+ * as a long[] or double[], so that numeric lists hold no boxed elements.
+ * Storing any other value widens the buffer to an Object[],
+ * which it then remains until the list is emptied.
+ * Primitive elements can be accessed without boxing by
+ * getLong, getDouble, setLong, and setDouble,
+ * after checking getElementType.
  *
  * @author Peter Mills
  */
-public class IconList <V> extends ArrayList <V> {
+public class IconList <V> extends AbstractList <V>
+		implements IIconNumericList <V>, RandomAccess, Cloneable,
+		Serializable {
+
+  private static final int MIN_CAPACITY = 8;	// Power of 2
+
+  // Kinds of buffer
+  private static final byte OBJECTS = 0;
+  private static final byte LONGS = 1;
+  private static final byte DOUBLES = 2;
+
+  private byte kind = OBJECTS;
+  private Object[] elements = null;	// Circular buffer, if OBJECTS
+  private long[] longs = null;		// Circular buffer, if LONGS
+  private double[] doubles = null;	// Circular buffer, if DOUBLES
+  private int capacity = 0;	// Buffer length, a power of 2
+  private int head = 0;		// Index of first element
+  private int size = 0;
 
   /**
    * No-arg constructor.
    */
-  public IconList () { super(); }
+  public IconList () {
+	allocate(OBJECTS, MIN_CAPACITY);
+  }
 
   /**
    * Create List from collection literal of the form: [x,y,z].
    */
   public IconList (V... args) {
-	if (args == null) { return; };
-	addAll(Arrays.asList(args));
+	if (args == null) { allocate(OBJECTS, MIN_CAPACITY); return; };
+	allocate(kindOf(args), capacityFor(args.length));
+	if (kind == OBJECTS) {
+		System.arraycopy(args, 0, elements, 0, args.length);
+	} else {
+		for (int i = 0; i < args.length; i++) { store(i, args[i]); }
+	}
+	size = args.length;
   }
 
   /**
    * Create List from collection literal of the form: [x,y,z].
    */
   public static <T> List<T> createList (T... args) {
-	if (args == null) { return new ArrayList<T>(); };
-	return new ArrayList<T>(Arrays.asList(args));
+	return new IconList<T>(args);
   }
 
   /**
@@ -81,6 +124,419 @@ public class IconList <V> extends ArrayList <V> {
 	return (T[]) ((Collection) list).toArray();
   }
 
+  //==========================================================================
+  // Deque operations.
+  //==========================================================================
+
+  /**
+   * Adds to the front of the list, i.e., push.
+   */
+  public void addFirst (V x) {
+	if (size == 0) { specialize(x); }
+	if (size == capacity) { grow(size + 1); }
+	int first = (head - 1) & (capacity - 1);
+	store(first, x);		// May widen, so store before moving head
+	head = first;
+	size++;
+	modCount++;
+  }
+
+  /**
+   * Adds to the end of the list, i.e., put.
+   */
+  public void addLast (V x) {
+	if (size == 0) { specialize(x); }
+	if (size == capacity) { grow(size + 1); }
+	store((head + size) & (capacity - 1), x);
+	size++;
+	modCount++;
+  }
+
+  /**
+   * Removes from the front of the list, i.e., pop or get.
+   */
+  public V removeFirst () {
+	if (size == 0) { throw new NoSuchElementException(); }
+	V x = load(head);
+	release(head);
+	head = (head + 1) & (capacity - 1);
+	size--;
+	modCount++;
+	return x;
+  }
+
+  /**
+   * Removes from the end of the list, i.e., pull.
+   */
+  public V removeLast () {
+	if (size == 0) { throw new NoSuchElementException(); }
+	int last = (head + size - 1) & (capacity - 1);
+	V x = load(last);
+	release(last);
+	size--;
+	modCount++;
+	return x;
+  }
+
+  //==========================================================================
+  // List operations.
+  //==========================================================================
+
+  public int size () {
+	return size;
+  }
+
+  public V get (int index) {
+	checkIndex(index, size);
+	return load((head + index) & (capacity - 1));
+  }
+
+  public V set (int index, V x) {
+	checkIndex(index, size);
+	int i = (head + index) & (capacity - 1);
+	V old = load(i);
+	store(i, x);
+	return old;
+  }
+
+  public boolean add (V x) {
+	addLast(x);
+	return true;
+  }
+
+  public void add (int index, V x) {
+	if (index == size) { addLast(x); return; }
+	if (index == 0) { addFirst(x); return; }
+	checkIndex(index, size + 1);
+	openGap(index, 1);
+	store((head + index) & (capacity - 1), x);
+  }
+
+  public V remove (int index) {
+	checkIndex(index, size);
+	if (index == 0) { return removeFirst(); }
+	if (index == size - 1) { return removeLast(); }
+	V x = get(index);
+	closeGap(index, index + 1);
+	return x;
+  }
+
+  public boolean addAll (Collection<? extends V> c) {
+	return addAll(size, c);
+  }
+
+  public boolean addAll (int index, Collection<? extends V> c) {
+	checkIndex(index, size + 1);
+	Object[] added = c.toArray();
+	int count = added.length;
+	if (count == 0) { return false; }
+	byte addedKind = kindOf(added);
+	if (addedKind != kind) {
+		if (size == 0) {
+			allocate(addedKind, capacity);
+			head = 0;
+		} else if (kind != OBJECTS) { widen(); }
+	}
+	openGap(index, count);
+	int mask = capacity - 1;
+	for (int i = 0; i < count; i++) {
+		store((head + index + i) & mask, (V) added[i]);
+	}
+	return true;
+  }
+
+  public void clear () {
+	if (kind == OBJECTS) { Arrays.fill(elements, null); }
+	head = 0;
+	size = 0;
+	modCount++;
+  }
+
+  protected void removeRange (int from, int to) {
+	if (from >= to) { return; }
+	closeGap(from, to);
+  }
+
+  public Object[] toArray () {
+	Object[] result = new Object[size];
+	if (kind == OBJECTS) {
+		int first = Math.min(size, capacity - head);
+		System.arraycopy(elements, head, result, 0, first);
+		System.arraycopy(elements, 0, result, first, size - first);
+		return result;
+	}
+	int mask = capacity - 1;
+	for (int i = 0; i < size; i++) {
+		result[i] = load((head + i) & mask);
+	}
+	return result;
+  }
+
+  public IconList<V> clone () {
+	try {
+		IconList<V> copy = (IconList<V>) super.clone();
+		if (elements != null) { copy.elements = elements.clone(); }
+		if (longs != null) { copy.longs = longs.clone(); }
+		if (doubles != null) { copy.doubles = doubles.clone(); }
+		copy.modCount = 0;
+		return copy;
+	} catch (CloneNotSupportedException e) {
+		throw new InternalError(e);
+	}
+  }
+
+  //==========================================================================
+  // Primitive element access.
+  //==========================================================================
+
+  /**
+   * Gets the type shared by all elements:
+   * INTEGER if all are Long, REAL if all are Double, or else UNTYPED.
+   * An empty list may report any type.
+   */
+  public IconTypes getElementType () {
+	switch (kind) {
+	  case LONGS: return IconTypes.INTEGER;
+	  case DOUBLES: return IconTypes.REAL;
+	  default: return IconTypes.UNTYPED;
+	}
+  }
+
+  /**
+   * Gets an element as a long.
+   * Unboxed if the element type is INTEGER.
+   */
+  public long getLong (int index) {
+	checkIndex(index, size);
+	if (kind == LONGS) { return longs[(head + index) & (capacity - 1)]; }
+	return ((Number) get(index)).longValue();
+  }
+
+  /**
+   * Gets an element as a double.
+   * Unboxed if the element type is REAL.
+   */
+  public double getDouble (int index) {
+	checkIndex(index, size);
+	if (kind == DOUBLES) {
+		return doubles[(head + index) & (capacity - 1)];
+	}
+	return ((Number) get(index)).doubleValue();
+  }
+
+  /**
+   * Sets an element to a Long.
+   * Unboxed if the element type is INTEGER.
+   */
+  public void setLong (int index, long x) {
+	checkIndex(index, size);
+	if (kind == LONGS) {
+		longs[(head + index) & (capacity - 1)] = x;
+		return;
+	}
+	set(index, (V) Long.valueOf(x));
+  }
+
+  /**
+   * Sets an element to a Double.
+   * Unboxed if the element type is REAL.
+   */
+  public void setDouble (int index, double x) {
+	checkIndex(index, size);
+	if (kind == DOUBLES) {
+		doubles[(head + index) & (capacity - 1)] = x;
+		return;
+	}
+	set(index, (V) Double.valueOf(x));
+  }
+
+  //==========================================================================
+  // Buffer slots.
+  //==========================================================================
+
+  /**
+   * Kind of buffer that can hold the value.
+   */
+  private static byte kindOf (Object x) {
+	if (x instanceof Long) { return LONGS; }
+	if (x instanceof Double) { return DOUBLES; }
+	return OBJECTS;
+  }
+
+  /**
+   * Kind of buffer that can hold all the values.
+   */
+  private static byte kindOf (Object[] values) {
+	if (values.length == 0) { return OBJECTS; }
+	byte k = kindOf(values[0]);
+	for (int i = 1; (i < values.length) && (k != OBJECTS); i++) {
+		if (kindOf(values[i]) != k) { return OBJECTS; }
+	}
+	return k;
+  }
+
+  private V load (int slot) {
+	switch (kind) {
+	  case LONGS: return (V) Long.valueOf(longs[slot]);
+	  case DOUBLES: return (V) Double.valueOf(doubles[slot]);
+	  default: return (V) elements[slot];
+	}
+  }
+
+  /**
+   * Stores into a slot, widening the buffer if the value does not fit.
+   */
+  private void store (int slot, V x) {
+	switch (kind) {
+	  case LONGS:
+		if (x instanceof Long) { longs[slot] = (Long) x; return; }
+		break;
+	  case DOUBLES:
+		if (x instanceof Double) { doubles[slot] = (Double) x; return; }
+		break;
+	  default:
+		elements[slot] = x;
+		return;
+	}
+	widen();
+	elements[slot] = x;
+  }
+
+  /**
+   * Clears a vacated slot, so that it does not hold a reference.
+   */
+  private void release (int slot) {
+	if (kind == OBJECTS) { elements[slot] = null; }
+  }
+
+  private void move (int to, int from) {
+	switch (kind) {
+	  case LONGS: longs[to] = longs[from]; break;
+	  case DOUBLES: doubles[to] = doubles[from]; break;
+	  default: elements[to] = elements[from]; break;
+	}
+  }
+
+  //==========================================================================
+  // Buffer management.
+  //==========================================================================
+
+  private static int capacityFor (int count) {
+	int capacity = MIN_CAPACITY;
+	while (capacity < count) { capacity <<= 1; }
+	return capacity;
+  }
+
+  private static void checkIndex (int index, int bound) {
+	if ((index < 0) || (index >= bound)) {
+		throw new IndexOutOfBoundsException("Index: " + index);
+	}
+  }
+
+  /**
+   * Replaces the buffer with an empty one of the given kind.
+   */
+  private void allocate (byte kind, int capacity) {
+	this.kind = kind;
+	this.capacity = capacity;
+	elements = (kind == OBJECTS) ? new Object[capacity] : null;
+	longs = (kind == LONGS) ? new long[capacity] : null;
+	doubles = (kind == DOUBLES) ? new double[capacity] : null;
+  }
+
+  private Object buffer () {
+	switch (kind) {
+	  case LONGS: return longs;
+	  case DOUBLES: return doubles;
+	  default: return elements;
+	}
+  }
+
+  /**
+   * Picks the buffer for the first element added to an empty list.
+   */
+  private void specialize (V x) {
+	byte k = kindOf(x);
+	if (k == kind) { return; }
+	allocate(k, capacity);
+	head = 0;
+  }
+
+  /**
+   * Boxes the elements into an Object[] buffer.
+   */
+  private void widen () {
+	Object[] widened = new Object[capacity];
+	int mask = capacity - 1;
+	for (int i = 0; i < size; i++) {
+		int slot = (head + i) & mask;
+		widened[slot] = load(slot);
+	}
+	kind = OBJECTS;
+	elements = widened;
+	longs = null;
+	doubles = null;
+  }
+
+  /**
+   * Grows to hold at least count elements, unwrapped from head 0.
+   */
+  private void grow (int count) {
+	Object old = buffer();
+	int first = Math.min(size, capacity - head);
+	allocate(kind, capacityFor(Math.max(count, 2 * capacity)));
+	Object grown = buffer();
+	System.arraycopy(old, head, grown, 0, first);
+	System.arraycopy(old, 0, grown, first, size - first);
+	head = 0;
+  }
+
+  /**
+   * Opens count slots before index, shifting the shorter side.
+   */
+  private void openGap (int index, int count) {
+	if (size + count > capacity) { grow(size + count); }
+	int mask = capacity - 1;
+	if (index < size - index) {		// Shift front back
+		head = (head - count) & mask;
+		for (int i = 0; i < index; i++) {
+			move((head + i) & mask, (head + i + count) & mask);
+		}
+	} else {				// Shift back forward
+		for (int i = size - 1; i >= index; i--) {
+			move((head + i + count) & mask, (head + i) & mask);
+		}
+	}
+	size += count;
+	modCount++;
+  }
+
+  /**
+   * Removes elements from index from to to, shifting the shorter side.
+   */
+  private void closeGap (int from, int to) {
+	int count = to - from;
+	int mask = capacity - 1;
+	if (from < size - to) {			// Shift front forward
+		for (int i = from - 1; i >= 0; i--) {
+			move((head + i + count) & mask, (head + i) & mask);
+		}
+		for (int i = 0; i < count; i++) {
+			release((head + i) & mask);
+		}
+		head = (head + count) & mask;
+	} else {				// Shift back back
+		for (int i = to; i < size; i++) {
+			move((head + i - count) & mask, (head + i) & mask);
+		}
+		for (int i = size - count; i < size; i++) {
+			release((head + i) & mask);
+		}
+	}
+	size -= count;
+	modCount++;
+  }
+
 }
 
 //==== END OF FILE
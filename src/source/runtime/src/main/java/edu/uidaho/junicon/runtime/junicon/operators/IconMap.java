@@ -32,23 +32,77 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.LinkedHashMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.AbstractCollection;
+import java.util.Set;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.NoSuchElementException;
+import java.util.ConcurrentModificationException;
+import java.math.BigInteger;
+import java.io.Serializable;
 
 /**
  * Icon table.
  * Like map, but if key not found return default, i.e. table[undefined]=default
+ * <P>
+ * Numeric keys are canonicalized, so that the same Icon integer
+ * is the same key whether it arrives as an Integer, Long, or
+ * BigInteger that fits in a long. Float keys are widened to Double.
+ * Keys are returned in canonical form.
+ * <P>
+ * Implemented using open addressing, with linear probing into an index
+ * of entry positions, each tagged with its key's hash so that probing
+ * only touches keys whose hash matches.
+ * For integer keys that fit in an int the hash is one to one,
+ * so that probing need not touch the keys at all.
+ * Entries are kept in dense arrays in insertion order,
+ * which is the order of iteration, as for a LinkedHashMap.
+ * While all keys are integers the keys are kept as a long[],
+ * so that integer-keyed tables hold no boxed keys or entry nodes.
+ * Any other key widens the keys to an Object[].
+ * Removed entries leave holes that are compacted when the arrays fill.
  *
  * @author Peter Mills
  */
-public class IconMap <V> extends LinkedHashMap <V,V> {
+public class IconMap <V> extends AbstractMap <V,V>
+		implements Cloneable, Serializable {
+
+  private static final int MIN_CAPACITY = 8;	// Power of 2
+
+  // Value of a removed entry, i.e., a hole
+  private static final Object REMOVED = new Removed();
+
   private V undefined = null;
 
-  public IconMap () { super(); }
+  // Entries in insertion order, up to count
+  private long[] longKeys = null;	// Keys, while all are integers
+  private Object[] keys = null;		// Keys, once any is not an integer
+  private Object[] values = null;
+  private int count = 0;		// Entries used, including holes
+  private int size = 0;			// Live entries
+
+  // Open addressing index: hash in high word, entry position + 1 in low,
+  // or 0 if empty. Length is twice the entry capacity.
+  // The home slot of a hash is its top bits, i.e., hash >>> shift.
+  private long[] index = null;
+  private int shift = 0;
+  private boolean intKeys = true;	// All integer keys fit in an int
+
+  private transient int modCount = 0;
+
+  public IconMap () {
+	allocate(MIN_CAPACITY, false);
+  }
 
   /**
    * Create Map from collection literal of the form: [key, value, ...]
    * Keys without values are mapped to null.
    */
   public IconMap (V... args) {
+	allocate(capacityFor((args == null) ? 0 : args.length / 2), false);
 	addMap(this, args);
   }
 
@@ -56,11 +110,6 @@ public class IconMap <V> extends LinkedHashMap <V,V> {
 
   public V getDefault () { return undefined; }
 
-  public V get (Object x) {
-	if (! containsKey(x)) { return undefined; }
-	return super.get(x);
-  }
-
   /**
    * Create Map from collection literal of the form: [key, value, ...]
    * Keys without values are mapped to null.
@@ -86,6 +135,387 @@ public class IconMap <V> extends LinkedHashMap <V,V> {
 	}
   }
 
+  //==========================================================================
+  // Key canonicalization.
+  //==========================================================================
+
+  /**
+   * Canonical form of a key.
+   * Integers that fit in a long become Long, and Float becomes Double.
+   */
+  public static Object canonicalKey (Object key) {
+	if (key instanceof Long) { return key; }
+	if ((key instanceof Integer) || (key instanceof Short) ||
+			(key instanceof Byte)) {
+		return Long.valueOf(((Number) key).longValue());
+	}
+	if ((key instanceof BigInteger) &&
+			(((BigInteger) key).bitLength() < 64)) {
+		return Long.valueOf(((BigInteger) key).longValue());
+	}
+	if (key instanceof Float) {
+		return Double.valueOf(((Float) key).doubleValue());
+	}
+	return key;
+  }
+
+  //==========================================================================
+  // Map operations.
+  //==========================================================================
+
+  public int size () {
+	return size;
+  }
+
+  public boolean containsKey (Object key) {
+	return find(key) >= 0;
+  }
+
+  /**
+   * Gets the value for the key, or the default if the key is absent.
+   */
+  public V get (Object key) {
+	int i = find(key);
+	if (i < 0) { return undefined; }
+	return (V) values[i];
+  }
+
+  public V put (V key, V value) {
+	int i = find(key);
+	if (i >= 0) {
+		V old = (V) values[i];
+		values[i] = value;
+		return old;
+	}
+	Object k = canonicalKey(key);
+	if ((longKeys != null) && (! (k instanceof Long))) { widen(); }
+	if (count == values.length) { makeRoom(); }
+	i = count++;
+	if (longKeys != null) {
+		long n = (Long) k;
+		longKeys[i] = n;
+		if (n != (int) n) { intKeys = false; }
+	} else {
+		keys[i] = k;
+	}
+	values[i] = value;
+	size++;
+	modCount++;
+	insert(i, hash(k));
+	return null;
+  }
+
+  public V remove (Object key) {
+	int i = find(key);
+	if (i < 0) { return null; }
+	V old = (V) values[i];
+	removeAt(i);
+	return old;
+  }
+
+  public void clear () {
+	allocate(MIN_CAPACITY, false);
+	intKeys = true;
+	count = 0;
+	size = 0;
+	modCount++;
+  }
+
+  public Set<V> keySet () {
+	return new KeySet();
+  }
+
+  public Collection<V> values () {
+	return new Values();
+  }
+
+  public Set<Map.Entry<V,V>> entrySet () {
+	return new EntrySet();
+  }
+
+  public IconMap<V> clone () {
+	try {
+		IconMap<V> copy = (IconMap<V>) super.clone();
+		if (longKeys != null) { copy.longKeys = longKeys.clone(); }
+		if (keys != null) { copy.keys = keys.clone(); }
+		copy.values = values.clone();
+		copy.index = index.clone();
+		copy.modCount = 0;
+		return copy;
+	} catch (CloneNotSupportedException e) {
+		throw new InternalError(e);
+	}
+  }
+
+  //==========================================================================
+  // Open addressing.
+  //==========================================================================
+
+  private static int capacityFor (int count) {
+	int capacity = MIN_CAPACITY;
+	while (capacity < count) { capacity <<= 1; }
+	return capacity;
+  }
+
+  /**
+   * Hash of an integer key, that is one to one for keys that fit
+   * in an int, since the high word then folds to 0.
+   */
+  private static int hash (long key) {
+	int high = (int) (key >>> 32);
+	return ((int) key ^ ((high + (high >>> 31)) * 0x9E3779B9))
+		* 0x9E3779B9;
+  }
+
+  private static int hash (Object key) {
+	if (key instanceof Long) { return hash(((Long) key).longValue()); }
+	if (key == null) { return 0; }
+	return key.hashCode() * 0x9E3779B9;
+  }
+
+  private int hashAt (int i) {
+	if (longKeys != null) { return hash(longKeys[i]); }
+	return hash(keys[i]);
+  }
+
+  private static boolean isIntegral (Object key) {
+	return (key instanceof Long) || (key instanceof Integer) ||
+		(key instanceof Short) || (key instanceof Byte);
+  }
+
+  private V keyAt (int i) {
+	if (longKeys != null) { return (V) Long.valueOf(longKeys[i]); }
+	return (V) keys[i];
+  }
+
+  /**
+   * Finds the entry position for a key, or -1 if absent.
+   * Integer keys are looked up without boxing.
+   */
+  private int find (Object key) {
+	if (isIntegral(key)) { return find(((Number) key).longValue()); }
+	key = canonicalKey(key);
+	if (key instanceof Long) { return find(((Long) key).longValue()); }
+	if (longKeys != null) { return -1; }
+	int h = hash(key);
+	int mask = index.length - 1;
+	for (int slot = h >>> shift; ; slot = (slot + 1) & mask) {
+		long e = index[slot];
+		if (e == 0) { return -1; }
+		int i = (int) e - 1;
+		if (((int) (e >>> 32) == h) && Objects.equals(keys[i], key)) {
+			return i;
+		}
+	}
+  }
+
+  private int find (long key) {
+	int h = hash(key);
+	int mask = index.length - 1;
+	boolean isUnique = intKeys && (key == (int) key);  // Hash is key
+	for (int slot = h >>> shift; ; slot = (slot + 1) & mask) {
+		long e = index[slot];
+		if (e == 0) { return -1; }
+		if ((int) (e >>> 32) != h) { continue; }
+		int i = (int) e - 1;
+		if (longKeys != null) {
+			if (isUnique || (longKeys[i] == key)) { return i; }
+		} else if ((keys[i] instanceof Long) &&
+				(((Long) keys[i]).longValue() == key)) {
+			return i;
+		}
+	}
+  }
+
+  /**
+   * Adds an entry position to the index.
+   */
+  private void insert (int i, int hash) {
+	int mask = index.length - 1;
+	int slot = hash >>> shift;
+	while (index[slot] != 0) { slot = (slot + 1) & mask; }
+	index[slot] = ((long) hash << 32) | (i + 1);
+  }
+
+  /**
+   * Removes an entry, leaving a hole in insertion order.
+   * Closes the gap in its probe sequence by shifting later slots back,
+   * so that the index needs no tombstones.
+   */
+  private void removeAt (int i) {
+	int mask = index.length - 1;
+	int slot = hashAt(i) >>> shift;
+	while ((int) index[slot] != i + 1) { slot = (slot + 1) & mask; }
+	for (int next = (slot + 1) & mask; index[next] != 0;
+			next = (next + 1) & mask) {
+		int home = (int) (index[next] >>> 32) >>> shift;
+		// Move back unless home lies cyclically in (slot, next]
+		if (((next - home) & mask) >= ((next - slot) & mask)) {
+			index[slot] = index[next];
+			slot = next;
+		}
+	}
+	index[slot] = 0;
+	if (keys != null) { keys[i] = null; }
+	values[i] = REMOVED;
+	size--;
+	modCount++;
+  }
+
+  /**
+   * Makes room for another entry when the entry arrays are full,
+   * by compacting holes if at least a quarter are holes,
+   * or else by doubling the capacity.
+   */
+  private void makeRoom () {
+	int capacity = values.length;
+	if (size > capacity - (capacity >> 2)) { capacity <<= 1; }
+	long[] oldLongKeys = longKeys;
+	Object[] oldKeys = keys;
+	Object[] oldValues = values;
+	int oldCount = count;
+	allocate(capacity, (keys != null));
+	count = 0;
+	for (int i = 0; i < oldCount; i++) {
+		if (oldValues[i] == REMOVED) { continue; }
+		if (oldLongKeys != null) {
+			longKeys[count] = oldLongKeys[i];
+		} else {
+			keys[count] = oldKeys[i];
+		}
+		values[count] = oldValues[i];
+		insert(count, hashAt(count));
+		count++;
+	}
+	modCount++;
+  }
+
+  /**
+   * Boxes the integer keys into an Object[], and rebuilds the index.
+   */
+  private void widen () {
+	keys = new Object[values.length];
+	for (int i = 0; i < count; i++) {
+		if (values[i] != REMOVED) { keys[i] = Long.valueOf(longKeys[i]); }
+	}
+	longKeys = null;
+	Arrays.fill(index, 0);
+	for (int i = 0; i < count; i++) {
+		if (values[i] != REMOVED) { insert(i, hash(keys[i])); }
+	}
+  }
+
+  /**
+   * Allocates empty entry arrays and index.
+   */
+  private void allocate (int capacity, boolean hasObjectKeys) {
+	longKeys = hasObjectKeys ? null : new long[capacity];
+	keys = hasObjectKeys ? new Object[capacity] : null;
+	values = new Object[capacity];
+	index = new long[capacity * 2];
+	shift = Integer.numberOfLeadingZeros(index.length) + 1;
+  }
+
+  //==========================================================================
+  // Views.
+  //==========================================================================
+
+  /**
+   * Iterates over live entry positions in insertion order.
+   */
+  private abstract class Cursor <E> implements Iterator <E> {
+	int next = 0;		// Next position to examine
+	int last = -1;		// Position last returned
+	int expectedModCount = modCount;
+
+	public boolean hasNext () {
+		while ((next < count) && (values[next] == REMOVED)) { next++; }
+		return next < count;
+	}
+
+	int nextPosition () {
+		if (modCount != expectedModCount) {
+			throw new ConcurrentModificationException();
+		}
+		if (! hasNext()) { throw new NoSuchElementException(); }
+		last = next++;
+		return last;
+	}
+
+	public void remove () {
+		if (last < 0) { throw new IllegalStateException(); }
+		if (modCount != expectedModCount) {
+			throw new ConcurrentModificationException();
+		}
+		removeAt(last);
+		last = -1;
+		expectedModCount = modCount;
+	}
+  }
+
+  private final class KeySet extends AbstractSet<V> {
+	public int size () { return size; }
+	public boolean contains (Object key) { return containsKey(key); }
+	public boolean remove (Object key) {
+		int i = find(key);
+		if (i < 0) { return false; }
+		removeAt(i);
+		return true;
+	}
+	public void clear () { IconMap.this.clear(); }
+	public Iterator<V> iterator () {
+		return new Cursor<V>() {
+			public V next () { return keyAt(nextPosition()); }
+		};
+	}
+  }
+
+  private final class Values extends AbstractCollection<V> {
+	public int size () { return size; }
+	public void clear () { IconMap.this.clear(); }
+	public Iterator<V> iterator () {
+		return new Cursor<V>() {
+			public V next () { return (V) values[nextPosition()]; }
+		};
+	}
+  }
+
+  private final class EntrySet extends AbstractSet<Map.Entry<V,V>> {
+	public int size () { return size; }
+	public void clear () { IconMap.this.clear(); }
+	public Iterator<Map.Entry<V,V>> iterator () {
+		return new Cursor<Map.Entry<V,V>>() {
+			public Map.Entry<V,V> next () {
+				return new Entry(nextPosition());
+			}
+		};
+	}
+  }
+
+  /**
+   * Entry that writes through to the table.
+   */
+  private final class Entry extends AbstractMap.SimpleEntry<V,V> {
+	private final int position;
+
+	Entry (int position) {
+		super(keyAt(position), (V) values[position]);
+		this.position = position;
+	}
+
+	public V setValue (V value) {
+		if (values[position] != REMOVED) { values[position] = value; }
+		return super.setValue(value);
+	}
+  }
+
+  /**
+   * Marker for removed entries, that stays unique when deserialized.
+   */
+  private static final class Removed implements Serializable {
+	private Object readResolve () { return REMOVED; }
+  }
+
 }
 
 //==== END OF FILE
@@ -48,6 +48,7 @@ import java.math.BigInteger;
 import java.util.function.BinaryOperator;
 import java.util.function.UnaryOperator;
 import java.util.function.BiFunction;
+import java.util.function.IntPredicate;
 
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
@@ -146,7 +147,7 @@ public class IconOperators {
 	if (align == IconTypes.REAL) {
 		return IconValue.create( x.getReal() + y.getReal() );
 	}
-	return IconValue.create( x.getInteger() + y.getInteger() );
+	return IconValueNumber.add(x.getInteger(), y.getInteger());
     });
 
   public static UnaryOperator<IIconAtom> plusUnary = memorize("+",
@@ -184,7 +185,7 @@ public class IconOperators {
 	if (align == IconTypes.REAL) {
 		return IconValue.create( x.getReal() - y.getReal() );
 	}
-	return IconValue.create( x.getInteger() - y.getInteger() );
+	return IconValueNumber.subtract(x.getInteger(), y.getInteger());
     });
 
   public static UnaryOperator<IIconAtom> minusUnary = memorize("-",
@@ -203,7 +204,7 @@ public class IconOperators {
 	if (x.isReal()) {
 		return IconValue.create( - x.getReal() );
 	}
-	return IconValue.create( - x.getInteger() );
+	return IconValueNumber.negate(x.getInteger());
     });
 
   /**
@@ -234,11 +235,7 @@ public class IconOperators {
 		return IconValue.create( x.getReal() / y.getReal() );
 	}
 	// Integer divide
-	if (IconNumber.getIsIntegerPrecision()) {
-		return IconValue.create(
-			(x.getBigInteger()).divide(y.getBigInteger()) );
-	}
-	return IconValue.create( x.getInteger() / y.getInteger() );
+	return IconValueNumber.divide(x.getInteger(), y.getInteger());
     });
 
   /**
@@ -265,7 +262,7 @@ public class IconOperators {
 	if (align == IconTypes.REAL) {
 		return IconValue.create( x.getReal() * y.getReal() );
 	}
-	return IconValue.create( x.getInteger() * y.getInteger() );
+	return IconValueNumber.multiply(x.getInteger(), y.getInteger());
     });
 
   /**
@@ -276,24 +273,33 @@ public class IconOperators {
 	if (xatom == null) { return FAIL; }
 	IconValue x = xatom.getValue();
 	int size = 0;
-	if (x.isString()) {
+	switch (x.getType()) {
+	    case STRING:
 		size = (x.getString()).length();
-	} else if (x.isNumber()) {
+		break;
+	    case NUMBER:
 		size = 0;	// (x.getNumber()).size();
-	} else if (x.isCollection()) {
+		break;
+	    case LIST: case SET: case COLLECTION:
 		size = (x.getCollection()).size();
-	} else if (x.isMap()) {
+		break;
+	    case MAP:
 		size = (x.getMap()).size();
-	} else if (x.isGenerator()) {		// or IconCoExpression
+		break;
+	    case GENERATOR:			// or IconCoExpression
 		size = (x.getGenerator()).getCount();
-	} else if (x.isIterator()) {
+		break;
+	    case ITERATOR:
 		size = 0;			// Unsupported
-	} else if (x.isArray()) {
+		break;
+	    case ARRAY:
 		size = (x.getArray()).length;
-	} else { // If not Map, Collection, CharSequence, then is class/record.
+		break;
+	    default: // If not Map, Collection, CharSequence, is class/record.
 	    	List names = IconField.objectAsNames(x.getObject());
 	    	if (names == null) { size = 0;
 		} else { size = names.size(); }
+		break;
 	}
 	return IconValue.create(size);
     });
@@ -332,6 +338,8 @@ public class IconOperators {
 
   /**
    * x^y numeric power of.
+   * An integer power outside the int range is handled by hugePowerOf(),
+   * rather than being truncated to an int.
    */
   public static BinaryOperator<IIconAtom> powerOf = memorize("^",
     (IIconAtom xatom, IIconAtom yatom) -> {
@@ -342,11 +350,17 @@ public class IconOperators {
 	    throw new RuntimeException("Error code 102: not number");
 	}
 
+	// Integer power outside the int range
+	if ((y.isInteger() || y.isBigInteger()) && (! isIntRange(y))) {
+		return hugePowerOf(x, y);
+	}
+
 	// Integer power
 	if (y.isInteger() || y.isBigInteger()) {
 		int power = y.getNumber().intValue();
 		if (power >= 0) {
-		  if (IconNumber.getIsIntegerPrecision() && x.isBigInteger()) {
+		  if (IconNumber.getIsIntegerPrecision()
+				&& (x.isInteger() || x.isBigInteger())) {
 		    return IconValue.create( (x.getBigInteger()).pow(power) );
 		  }
 		  if (IconNumber.getIsRealPrecision() && x.isBigDecimal()) {
@@ -518,6 +532,77 @@ public class IconOperators {
 		xatom, yatom);
     });
 
+  //==========================================================================
+  // Kernels for inline caches.
+  // Specialized by aligned numeric type, and applied by an IconOperation
+  // when the operand types match those last seen at that call site.
+  // Integer kernels take longs, so that integers are not boxed.
+  // Must behave as the generic operators above for numeric operands.
+  //==========================================================================
+  static {
+	IconInlineCache.register(plus,
+	    (x, y, xatom, yatom) -> IconValueNumber.add(x, y),
+	    (x, y, xatom, yatom) -> IconValue.create(
+		x.doubleValue() + y.doubleValue()),
+	    (x, y, xatom, yatom) -> IconValue.create(
+		IconInlineCache.toBigInteger(x).add(
+		IconInlineCache.toBigInteger(y))),
+	    (x, y, xatom, yatom) -> IconValue.create(
+		IconInlineCache.toBigDecimal(x).add(
+		IconInlineCache.toBigDecimal(y))));
+	IconInlineCache.register(minus,
+	    (x, y, xatom, yatom) -> IconValueNumber.subtract(x, y),
+	    (x, y, xatom, yatom) -> IconValue.create(
+		x.doubleValue() - y.doubleValue()),
+	    (x, y, xatom, yatom) -> IconValue.create(
+		IconInlineCache.toBigInteger(x).subtract(
+		IconInlineCache.toBigInteger(y))),
+	    (x, y, xatom, yatom) -> IconValue.create(
+		IconInlineCache.toBigDecimal(x).subtract(
+		IconInlineCache.toBigDecimal(y))));
+	IconInlineCache.register(times,
+	    (x, y, xatom, yatom) -> IconValueNumber.multiply(x, y),
+	    (x, y, xatom, yatom) -> IconValue.create(
+		x.doubleValue() * y.doubleValue()),
+	    (x, y, xatom, yatom) -> IconValue.create(
+		IconInlineCache.toBigInteger(x).multiply(
+		IconInlineCache.toBigInteger(y))),
+	    (x, y, xatom, yatom) -> IconValue.create(
+		IconInlineCache.toBigDecimal(x).multiply(
+		IconInlineCache.toBigDecimal(y))));
+
+	registerComparison(greaterThan, (cmp) -> cmp > 0);
+	registerComparison(greaterThanOrEquals, (cmp) -> cmp >= 0);
+	registerComparison(lessThan, (cmp) -> cmp < 0);
+	registerComparison(lessThanOrEquals, (cmp) -> cmp <= 0);
+	registerComparison(sameNumberAs, (cmp) -> cmp == 0);
+	registerComparison(notSameNumberAs, (cmp) -> cmp != 0);
+  }
+
+  /**
+   * Registers kernels for a numeric comparison,
+   * given a test over the result of numberCompareTo().
+   * As for the generic comparison, returns the second argument if true.
+   */
+  private static void registerComparison (BinaryOperator<IIconAtom> op,
+		IntPredicate test) {
+	IconInlineCache.register(op,
+	    (x, y, xatom, yatom) -> IconOperator.handleBoolean(
+		test.test(Long.compare(x, y)),
+		xatom, yatom),
+	    (x, y, xatom, yatom) -> IconOperator.handleBoolean(
+		test.test(realCompareTo(x.doubleValue(), y.doubleValue())),
+		xatom, yatom),
+	    (x, y, xatom, yatom) -> IconOperator.handleBoolean(
+		test.test(IconInlineCache.toBigInteger(x).compareTo(
+			IconInlineCache.toBigInteger(y))),
+		xatom, yatom),
+	    (x, y, xatom, yatom) -> IconOperator.handleBoolean(
+		test.test(IconInlineCache.toBigDecimal(x).compareTo(
+			IconInlineCache.toBigDecimal(y))),
+		xatom, yatom));
+  }
+
   //==========================================================================
   // Null test, and dereference.
   //==========================================================================
@@ -573,44 +658,47 @@ public class IconOperators {
     (IIconAtom xatom) -> {
 	if (xatom == null) { return FAIL; }
 	IconValue x = xatom.getValue();
-	if (x.isCollection()) {
+	switch (x.getType()) {
+	    case LIST: case SET: case COLLECTION: {
 		int size = x.getCollection().size();
 		return new IconIndex().origin(0).setIndex(x,
 			randomNumber.nextInt(size));
-	}
-	if (x.isString()) {
+	    }
+	    case STRING: {
 		int size = x.getString().length();
 		return new IconIndex().origin(0).setIndex(xatom,
 			randomNumber.nextInt(size));
-	}
-	if (x.isMap()) {
+	    }
+	    case MAP: {
 		List names = new ArrayList<Object>(x.getMap().keySet());
 		if ((names == null) || (names.size() == 0)) { return FAIL; }
 		Object fieldName = 
 		    names.get(randomNumber.nextInt(names.size()));
 		return new IconIndex().setMapIndex(x, fieldName);
-	}
-	if (x.isNumber()) {
+	    }
+	    case NUMBER: {
 		int num = x.getNumber().intValue();
 		if (num == 0) {
 		  return IconValue.create(randomNumber.nextDouble());
 		}
 		return IconValue.create(1 + randomNumber.nextInt(num));
-	}
-	if (x.isArray()) {
+	    }
+	    case ARRAY: {
 		int size = x.getArray().length;
 		return new IconIndex().origin(0).setIndex(xatom,
 			randomNumber.nextInt(size));
-	}
-	if (x.isOther()) {
+	    }
+	    case OTHER: {
 		// Return random field of object
 		List<String> names = IconField.objectAsNames(x.getObject());
 		if ((names == null) || (names.size() == 0)) { return FAIL; }
 		String fieldName = 
 			names.get(randomNumber.nextInt(names.size()));
 		return new IconField(x, fieldName);
+	    }
+	    default:
+		return EMPTY_VALUE;
 	}
-	return EMPTY_VALUE;
     };
 
   //==== Use IconScan instead
@@ -815,6 +903,10 @@ public class IconOperators {
 	if ((xatom == null) || (yatom == null)) { return FAIL; }
 	IconValue x = xatom.getValue();
 	IconValue y = yatom.getValue();
+	if (isCsets(x, y)) {
+		return IconValue.create(
+			((IconCset) x.getObject()).union((IconCset) y.getObject()) );
+	}
 	if ((! x.isSet()) || (! y.isSet())) {
 		return FAIL;
 	}
@@ -831,6 +923,10 @@ public class IconOperators {
 	if ((xatom == null) || (yatom == null)) { return FAIL; }
 	IconValue x = xatom.getValue();
 	IconValue y = yatom.getValue();
+	if (isCsets(x, y)) {
+		return IconValue.create(
+			((IconCset) x.getObject()).difference((IconCset) y.getObject()) );
+	}
 	if ((! x.isSet()) || (! y.isSet())) {
 		return FAIL;
 	}
@@ -847,6 +943,10 @@ public class IconOperators {
 	if ((xatom == null) || (yatom == null)) { return FAIL; }
 	IconValue x = xatom.getValue();
 	IconValue y = yatom.getValue();
+	if (isCsets(x, y)) {
+		return IconValue.create(
+			((IconCset) x.getObject()).intersection((IconCset) y.getObject()) );
+	}
 	if ((! x.isSet()) || (! y.isSet())) {
 		return FAIL;
 	}
@@ -863,6 +963,9 @@ public class IconOperators {
     (IIconAtom xatom) -> {
 	if (xatom == null) { return FAIL; }
 	IconValue x = xatom.getValue();
+	if (x.getObject() instanceof IconCset) {
+		return IconValue.create( ((IconCset) x.getObject()).complement() );
+	}
 	if (! x.isSet()) {
 		return FAIL;
 	}
@@ -871,6 +974,16 @@ public class IconOperators {
 	return IconValue.create( result );
     });
 
+  /**
+   * Returns if both operands of a set operation are character sets,
+   * which then use the bit-set operations of IconCset.
+   * Otherwise the operands are treated as general sets.
+   */
+  private static boolean isCsets (IconValue x, IconValue y) {
+	return (x.getObject() instanceof IconCset)
+		&& (y.getObject() instanceof IconCset);
+  }
+
   //==========================================================================
   // Concatenation operations.
   //==========================================================================
@@ -886,7 +999,7 @@ public class IconOperators {
 	if ((! x.isAsString()) || (! y.isAsString())) {	// return FAIL;
 	    throw new RuntimeException("Error code 103: not string");
 	}
-	return IconValue.create( x.getAsString() + y.getAsString() );
+	return IconValueString.concat(x, y);
     });
 
   /**
@@ -937,12 +1050,7 @@ public class IconOperators {
 		return (x.getBigDecimal()).compareTo(y.getBigDecimal());
 	}
 	if (align == IconTypes.REAL) {
-		if (x.getReal() == y.getReal()) {
-			return 0;
-		} else if (x.getReal() < y.getReal()) {
-			return -1;
-		}
-		return 1;
+		return realCompareTo(x.getReal(), y.getReal());
 	}
 	if (x.getInteger() == y.getInteger()) {
 		return 0;
@@ -952,6 +1060,67 @@ public class IconOperators {
 	return 1;
   }
 
+  /**
+   * Returns if an integer value fits in an int.
+   */
+  private static boolean isIntRange (IconValue y) {
+	if (y.isBigInteger()) { return (y.getBigInteger().bitLength() < 32); }
+	long value = y.getInteger();
+	return (value == (int) value);
+  }
+
+  /**
+   * Integer power x^y, where y is outside the int range.
+   * As for powers in the int range, a non-negative power of an integer
+   * or of an arbitrary precision real is exact.
+   * That is only representable for x of 0, 1, or -1,
+   * and otherwise is an overflow.
+   * Any other power is real.
+   */
+  private static IconValue hugePowerOf (IconValue x, IconValue y) {
+	BigInteger power = y.getBigInteger();
+	if (power.signum() >= 0) {
+	  if (IconNumber.getIsIntegerPrecision()
+			&& (x.isInteger() || x.isBigInteger())) {
+	    BigInteger base = x.getBigInteger();
+	    if ((base.signum() == 0) || base.equals(BigInteger.ONE)) {
+		return IconValue.create( base );
+	    }
+	    if (base.equals(BigInteger.ONE.negate())) {
+		return IconValue.create( power.testBit(0) ? base : BigInteger.ONE );
+	    }
+	    throw new RuntimeException("Error code 203: integer overflow");
+	  }
+	  if (IconNumber.getIsRealPrecision() && x.isBigDecimal()) {
+	    BigDecimal base = x.getBigDecimal();
+	    if ((base.signum() == 0) || (base.compareTo(BigDecimal.ONE) == 0)) {
+		return IconValue.create( base );
+	    }
+	    if (base.compareTo(BigDecimal.ONE.negate()) == 0) {
+		return IconValue.create( power.testBit(0) ? base : BigDecimal.ONE );
+	    }
+	    throw new RuntimeException("Error code 204: real overflow");
+	  }
+	}
+	return IconValue.create( Math.pow(x.getReal(), y.getReal()) );
+  }
+
+  /**
+   * Compare two reals.
+   * Returns -1 if x<y, 0 if x=y, and otherwise 1,
+   * so that if either x or y is NaN the result is 1.
+   * A comparison involving NaN thus succeeds for &gt;, &gt;=, and ~=,
+   * and fails for &lt;, &lt;=, and =, whatever the order of the operands.
+   */
+  private static int realCompareTo (double x, double y) {
+	if (x == y) {
+		return 0;
+	} else if (x < y) {
+		return -1;
+	}
+	return 1;
+  }
+
   /**
    * Compare two strings, using x.compareTo(y).
    * Null strings are lexically less than or equal to other strings.
@@ -988,6 +1157,10 @@ public class IconOperators {
 	Object y = yatom.deref();
 	if (x == y) { return true; }
 	if ((x == null) || (y == null)) { return false; }
+	if ((x.getClass() != y.getClass()) && IconNumber.isInteger(x)
+			&& IconNumber.isInteger(y)) {
+		return IconNumber.compareIntegers((Number) x, (Number) y) == 0;
+	}
 	return x.equals(y);
   }
 
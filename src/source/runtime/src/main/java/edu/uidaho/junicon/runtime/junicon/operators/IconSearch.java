@@ -0,0 +1,171 @@
+//========================================================================
+// Copyright (c) 2014 Orielle, LLC.  
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions
+// are met:
+//
+// 1. Redistributions of source code must retain the above copyright
+//    notice, this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+//    notice, this list of conditions and the following disclaimer in the
+//    documentation and/or other materials provided with the distribution.
+//
+// This software is provided by the copyright holders and contributors
+// "as is" and any express or implied warranties, including, but not
+// limited to, the implied warranties of merchantability and fitness for
+// a particular purpose are disclaimed. In no event shall the copyright
+// holder or contributors be liable for any direct, indirect, incidental,
+// special, exemplary, or consequential damages (including, but not
+// limited to, procurement of substitute goods or services; loss of use,
+// data, or profits; or business interruption) however caused and on any
+// theory of liability, whether in contract, strict liability, or tort
+// (including negligence or otherwise) arising in any way out of the use
+// of this software, even if advised of the possibility of such damage.
+//========================================================================
+package edu.uidaho.junicon.runtime.junicon.operators;
+
+import java.util.Arrays;
+
+/**
+ * Search kernels for string scanning.
+ * Searches work directly on the subject within index bounds,
+ * without copying a substring or compiling a regular expression.
+ * Indexes are zero-based, and the upper bound is exclusive.
+ * <P>
+ * Substring search uses String.indexOf for short patterns,
+ * and Boyer-Moore-Horspool for longer ones.
+ * The skip table for a pattern, and the character set for a string
+ * used as a cset, are kept in small direct-mapped caches,
+ * so that a scanning loop that reuses the same pattern
+ * does not rebuild them.
+ * Cache entries are immutable, so the caches are shared between threads
+ * without locking.
+ *
+ * @author Peter Mills
+ */
+public class IconSearch {
+
+  private static final int CACHE_SIZE = 64;		// Power of 2
+  private static final int MIN_SKIP_LENGTH = 4;	// Shorter uses indexOf
+
+  private static final Finder[] finders = new Finder[CACHE_SIZE];
+  private static final CsetEntry[] csets = new CsetEntry[CACHE_SIZE];
+
+  //==========================================================================
+  // Substring search.
+  //==========================================================================
+
+  /**
+   * Returns the index of the first occurrence of pattern in s[from:to],
+   * or -1 if none.
+   */
+  public static int find (String pattern, CharSequence s, int from, int to) {
+	int m = pattern.length();
+	if ((m < MIN_SKIP_LENGTH) && (s instanceof String)) {
+		int found = ((String) s).indexOf(pattern, from);
+		return ((found >= 0) && (found + m <= to)) ? found : -1;
+	}
+	return getFinder(pattern).find(s, from, to);
+  }
+
+  /**
+   * Returns if s[from:to] begins with the pattern.
+   */
+  public static boolean startsWith (String pattern, CharSequence s,
+		int from, int to) {
+	int m = pattern.length();
+	if (m > to - from) { return false; }
+	if (s instanceof String) {
+		return ((String) s).startsWith(pattern, from);
+	}
+	for (int i = 0; i < m; i++) {
+		if (s.charAt(from + i) != pattern.charAt(i)) { return false; }
+	}
+	return true;
+  }
+
+  private static Finder getFinder (String pattern) {
+	int slot = pattern.hashCode() & (CACHE_SIZE - 1);
+	Finder finder = finders[slot];
+	if ((finder == null) || (! finder.pattern.equals(pattern))) {
+		finder = new Finder(pattern);
+		finders[slot] = finder;
+	}
+	return finder;
+  }
+
+  /**
+   * Boyer-Moore-Horspool search for a pattern,
+   * with its skip table indexed by the low byte of each character.
+   */
+  private static final class Finder {
+	final String pattern;
+	final int[] skip = new int[256];
+
+	Finder (String pattern) {
+		this.pattern = pattern;
+		int m = pattern.length();
+		Arrays.fill(skip, Math.max(m, 1));
+		for (int i = 0; i < m - 1; i++) {
+			skip[pattern.charAt(i) & 0xFF] = m - 1 - i;
+		}
+	}
+
+	int find (CharSequence s, int from, int to) {
+		int m = pattern.length();
+		if (m == 0) { return (from <= to) ? from : -1; }
+		char last = pattern.charAt(m - 1);
+		int i = from;
+		while (i <= to - m) {
+			char c = s.charAt(i + m - 1);
+			if (c == last) {
+				int j = m - 2;
+				while ((j >= 0) && (s.charAt(i + j) == pattern.charAt(j))) {
+					j--;
+				}
+				if (j < 0) { return i; }
+			}
+			i += skip[c & 0xFF];
+		}
+		return -1;
+	}
+  }
+
+  //==========================================================================
+  // Character set conversion.
+  //==========================================================================
+
+  /**
+   * Converts a character set, string,
+   * or set of one-character strings into a character set,
+   * reusing the character set last built for a string.
+   * Returns null if not convertible.
+   */
+  public static IconCset toCset (Object obj) {
+	if (obj instanceof IconCset) { return (IconCset) obj; }
+	if (! (obj instanceof CharSequence)) { return IconCset.valueOf(obj); }
+	String str = obj.toString();
+	int slot = str.hashCode() & (CACHE_SIZE - 1);
+	CsetEntry entry = csets[slot];
+	if ((entry == null) || (! entry.str.equals(str))) {
+		entry = new CsetEntry(str, IconCset.valueOf(str));
+		csets[slot] = entry;
+	}
+	return entry.cset;
+  }
+
+  private static final class CsetEntry {
+	final String str;
+	final IconCset cset;
+
+	CsetEntry (String str, IconCset cset) {
+		this.str = str;
+		this.cset = cset;
+	}
+  }
+}
+
+//==== END OF FILE
@@ -88,10 +88,10 @@ public class IconSet <V> extends LinkedHashSet <V> {
   /**
    * Factory method to
    * convert single quote string to set of its characters as singleton strings.
+   * Returns an immutable character set, see IconCset.
    */
   public static Set<String> createCset (CharSequence str) {
-	if (str == null) { return null; }
-	return new LinkedHashSet(IconIndex.stringToList(str.toString()));
+	return IconCset.valueOf(str);
   }
 
 }
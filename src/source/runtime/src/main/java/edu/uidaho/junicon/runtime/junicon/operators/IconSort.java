@@ -0,0 +1,652 @@
+//========================================================================
+// Copyright (c) 2014 Orielle, LLC.  
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions
+// are met:
+//
+// 1. Redistributions of source code must retain the above copyright
+//    notice, this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+//    notice, this list of conditions and the following disclaimer in the
+//    documentation and/or other materials provided with the distribution.
+//
+// This software is provided by the copyright holders and contributors
+// "as is" and any express or implied warranties, including, but not
+// limited to, the implied warranties of merchantability and fitness for
+// a particular purpose are disclaimed. In no event shall the copyright
+// holder or contributors be liable for any direct, indirect, incidental,
+// special, exemplary, or consequential damages (including, but not
+// limited to, procurement of substitute goods or services; loss of use,
+// data, or profits; or business interruption) however caused and on any
+// theory of liability, whether in contract, strict liability, or tort
+// (including negligence or otherwise) arising in any way out of the use
+// of this software, even if advised of the possibility of such damage.
+//========================================================================
+package edu.uidaho.junicon.runtime.junicon.operators;
+
+import edu.uidaho.junicon.runtime.junicon.iterators.*;
+import edu.uidaho.junicon.runtime.junicon.constructs.IconCoExpression;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.io.Reader;
+import java.io.Writer;
+import java.io.RandomAccessFile;
+
+/**
+ * Sorting kernels for sort and sortf.
+ * Values are ordered as by UniconComparator, i.e., first by type:
+ * null, integer, real, string, cset, file, co-expression, list, set,
+ * table, and other, and then within each type.
+ * <P>
+ * Rather than running the type tests of the comparator on every
+ * comparison, values are partitioned by type once, and then
+ * each run of a single type is sorted on its own.
+ * Runs of Long or Double are sorted as a long[] or double[], and
+ * runs of any other single Comparable class by their natural order.
+ * Only mixed runs, e.g., Long and BigInteger, use the comparator.
+ * <P>
+ * The comparator is not a total order for every mix of values:
+ * it orders two values of different real classes, e.g., Double and
+ * BigDecimal, or two values of one class that is not Comparable,
+ * e.g., two lists, records, or csets, each before the other.
+ * The order it gives then depends on which comparisons the sort makes,
+ * so such values are instead sorted all together with the comparator,
+ * exactly as List.sort does, rather than by type.
+ * Runs of a single type are thus sorted on their own only if integers,
+ * or of one Comparable class, or alone of their type.
+ * Runs longer than the parallel threshold are sorted using
+ * Arrays.parallelSort, or a fork-join merge sort for permutations.
+ * The default threshold is given by the system property
+ * junicon.parallelSort, or 8192.
+ * <P>
+ * Tables and sortf sort a permutation of positions by key,
+ * using a stable merge sort, so that no per-entry lists are created.
+ * All sorts are stable, so that the order is the same as sorting
+ * with the comparator, where the comparator is consistent.
+ * <P>
+ * Collections of at least the spill threshold, by default given by
+ * junicon.sortSpill or 8388608, are sorted externally into an
+ * IconSpilledList, in runs of junicon.sortRunLength or 1048576 values,
+ * so that only one run is held in memory at a time,
+ * if all are scalars that can be spilled.
+ * Records for sortf are always sorted in memory.
+ * Iterators of values are sorted externally if they produce more
+ * than one run.
+ *
+ * @author Peter Mills
+ */
+public class IconSort {
+
+  private static int parallelThreshold = (int) IconNumber.stringToInteger(
+	System.getProperty("junicon.parallelSort", "8192"), 8192);
+
+  private static int spillThreshold = (int) IconNumber.stringToInteger(
+	System.getProperty("junicon.sortSpill", "8388608"), 8388608);
+
+  private static int runLength = (int) IconNumber.stringToInteger(
+	System.getProperty("junicon.sortRunLength", "1048576"), 1048576);
+
+  private static final int INSERTION_SORT_LENGTH = 32;
+
+  // Type order, as for UniconComparator
+  private static final int NULL = 0;
+  private static final int INTEGER = 1;
+  private static final int REAL = 2;
+  private static final int STRING = 3;
+  private static final int CSET = 4;
+  private static final int WRITER = 5;
+  private static final int READER = 6;
+  private static final int FILE = 7;
+  private static final int COEXPRESSION = 8;
+  private static final int LIST = 9;
+  private static final int SET = 10;
+  private static final int MAP = 11;
+  private static final int OTHER = 12;
+  private static final int TYPES = 13;
+
+  @SuppressWarnings("unchecked")
+  private static final Comparator<Object> NATURAL =
+	(x, y) -> ((Comparable<Object>) x).compareTo(y);
+
+  // Order of sort, for merging sorted runs
+  private static final Comparator<Object> ORDER = new Comparator<Object>() {
+	private final Comparator<Object> basis =
+		new IconFunctions.UniconComparator();
+	public int compare (Object x, Object y) {
+		int c = typeOrder(x) - typeOrder(y);
+		return (c != 0) ? c : basis.compare(x, y);
+	}
+  };
+
+  //==========================================================================
+  // Configuration.
+  //==========================================================================
+
+  /**
+   * Sets the length above which runs are sorted in parallel.
+   */
+  public static void setParallelThreshold (int length) {
+	parallelThreshold = length;
+  }
+
+  /**
+   * Gets the length above which runs are sorted in parallel.
+   */
+  public static int getParallelThreshold () {
+	return parallelThreshold;
+  }
+
+  /**
+   * Sets the size at or above which collections are sorted externally.
+   */
+  public static void setSpillThreshold (int size) {
+	spillThreshold = size;
+  }
+
+  /**
+   * Gets the size at or above which collections are sorted externally.
+   */
+  public static int getSpillThreshold () {
+	return spillThreshold;
+  }
+
+  /**
+   * Sets the number of values in each run of an external sort.
+   */
+  public static void setRunLength (int length) {
+	runLength = length;
+  }
+
+  /**
+   * Gets the number of values in each run of an external sort.
+   */
+  public static int getRunLength () {
+	return runLength;
+  }
+
+  /**
+   * Returns if a collection of the given size is sorted externally.
+   */
+  public static boolean isSpilled (int size) {
+	return (size >= spillThreshold) && (size > runLength);
+  }
+
+  //==========================================================================
+  // Sort values.
+  //==========================================================================
+
+  /**
+   * Sorts the values of a collection into a new list.
+   */
+  public static List<Object> sort (Collection<?> values) {
+	if (isSpilled(values.size()) && isOrdered(values)) {
+		return sort(values.iterator());
+	}
+	Object[] sorted = values.toArray();
+	sort(sorted);
+	return new ArrayList<Object>(Arrays.asList(sorted));
+  }
+
+  /**
+   * Sorts the values produced by an iterator into a new list,
+   * spilling to disk if there is more than one run.
+   * Runs are merged by type and then by the comparator,
+   * which is the order of List.sort if the values are ordered by it,
+   * see isOrdered().
+   */
+  public static List<Object> sort (Iterator<?> values) {
+	return IconSpilledList.sort(values, runLength, IconSort::sort, ORDER);
+  }
+
+  /**
+   * Sorts the values of a collection into a new list, using the given
+   * order, which is null for natural order.
+   * Used by sortn.
+   */
+  public static List<Object> sort (Collection<?> values,
+		Comparator<?> order) {
+	@SuppressWarnings("unchecked")
+	Comparator<Object> by = (order == null) ? NATURAL
+		: (Comparator<Object>) order;
+	if (isSpilled(values.size())) {
+		return IconSpilledList.sort(values.iterator(), runLength,
+			run -> Arrays.sort(run, by), by);
+	}
+	List<Object> sorted = new ArrayList<Object>(values);
+	sorted.sort((order == null) ? null : by);
+	return sorted;
+  }
+
+  /**
+   * Sorts an array of values in place.
+   */
+  public static void sort (Object[] values) {
+	int n = values.length;
+	if (n < 2) { return; }
+	int[] types = new int[n];
+	int[] bounds = new int[TYPES + 1];
+	Class<?>[] classes = new Class<?>[TYPES];
+	boolean isOrdered = true;
+	for (int i = 0; i < n; i++) {
+		types[i] = typeOrder(values[i]);
+		bounds[types[i] + 1]++;
+		isOrdered = isOrdered && addClass(classes, values[i], types[i]);
+	}
+	if (! isOrdered) {
+		Arrays.sort(values, new IconFunctions.UniconComparator());
+		return;
+	}
+	for (int t = 0; t < TYPES; t++) { bounds[t + 1] += bounds[t]; }
+	if (! isOneType(bounds, n)) {		// Partition, keeping order
+		Object[] copy = values.clone();
+		int[] next = Arrays.copyOf(bounds, TYPES);
+		for (int i = 0; i < n; i++) { values[next[types[i]]++] = copy[i]; }
+	}
+	for (int t = INTEGER; t < TYPES; t++) {
+		sortRun(values, bounds[t], bounds[t + 1]);
+	}
+  }
+
+  /**
+   * Sorts values[from:to], all of one type.
+   */
+  private static void sortRun (Object[] values, int from, int to) {
+	int n = to - from;
+	if (n < 2) { return; }
+	boolean isParallel = n > parallelThreshold;
+	Class<?> type = commonClass(values, from, to);
+	if (type == Long.class) {
+		long[] numbers = new long[n];
+		for (int i = 0; i < n; i++) {
+			numbers[i] = (Long) values[from + i];
+		}
+		if (isParallel) { Arrays.parallelSort(numbers);
+		} else { Arrays.sort(numbers); }
+		for (int i = 0; i < n; i++) {
+			values[from + i] = Long.valueOf(numbers[i]);
+		}
+	} else if (type == Double.class) {
+		double[] numbers = new double[n];
+		for (int i = 0; i < n; i++) {
+			numbers[i] = (Double) values[from + i];
+		}
+		if (isParallel) { Arrays.parallelSort(numbers);
+		} else { Arrays.sort(numbers); }
+		for (int i = 0; i < n; i++) {
+			values[from + i] = Double.valueOf(numbers[i]);
+		}
+	} else {
+		Comparator<Object> order = ((type != null) &&
+			Comparable.class.isAssignableFrom(type)) ? NATURAL
+			: new IconFunctions.UniconComparator();
+		if (isParallel) { Arrays.parallelSort(values, from, to, order);
+		} else { Arrays.sort(values, from, to, order); }
+	}
+  }
+
+  //==========================================================================
+  // Sort tables and records by key.
+  //==========================================================================
+
+  /**
+   * Sorts the entries of a table by key or by value.
+   * Returns a list of [key, value] lists,
+   * or if flat, a list of alternating keys and values.
+   */
+  public static List<Object> sort (Map<?, ?> table, boolean byKey,
+		boolean flat) {
+	Object[] keys = table.keySet().toArray();
+	Object[] values = table.values().toArray();
+	int[] order = sortedOrder(byKey ? keys : values);
+	List<Object> result = new ArrayList<Object>(flat ? 2 * order.length
+		: order.length);
+	for (int i : order) {
+		if (flat) {
+			result.add(keys[i]);
+			result.add(values[i]);
+		} else {
+			List<Object> pair = new ArrayList<Object>(2);
+			pair.add(keys[i]);
+			pair.add(values[i]);
+			result.add(pair);
+		}
+	}
+	return result;
+  }
+
+  /**
+   * Sorts records, lists, or sets by the field at the given position,
+   * as for sortf. Negative positions count from the end.
+   * Records without the field come first, and if there is more than one,
+   * are sorted with all the others by the comparator, as for the keys.
+   * The list is updated in place.
+   */
+  public static void sortByField (List<?> records, int field) {
+	int n = records.size();
+	if (n < 2) { return; }
+	Object[] sorted = records.toArray();
+	Object[] keys = new Object[n];
+	boolean[] isMissing = new boolean[n];
+	int[] positions = new int[n];
+	int missing = 0;
+	Class<?>[] classes = new Class<?>[TYPES];
+	boolean isOrdered = true;
+	for (int i = 0; i < n; i++) {		// Missing first
+		List<?> fields = fieldsOf(sorted[i]);
+		if (fields.size() < Math.abs(field)) {
+			isMissing[i] = true;
+			positions[missing++] = i;
+		} else {
+			keys[i] = fieldAt(fields, field);
+			isOrdered = isOrdered &&
+				addClass(classes, keys[i], typeOrder(keys[i]));
+		}
+	}
+	if ((missing > 1) || (! isOrdered)) {
+		Comparator<Object> basis = new IconFunctions.UniconComparator();
+		positions = comparatorOrder(n, (i, j) -> isMissing[i] ? -1
+			: isMissing[j] ? 1 : basis.compare(keys[i], keys[j]));
+	} else if (missing < n) {
+		Object[] present = new Object[n - missing];
+		int[] presentAt = new int[n - missing];
+		for (int i = 0, j = 0, m = 0; i < n; i++) {
+			if ((m < missing) && (positions[m] == i)) { m++; continue; }
+			present[j] = keys[i];
+			presentAt[j++] = i;
+		}
+		int[] order = sortedOrder(present);
+		for (int j = 0; j < order.length; j++) {
+			positions[missing + j] = presentAt[order[j]];
+		}
+	}
+	Object[] copy = sorted.clone();
+	for (int i = 0; i < n; i++) { sorted[i] = copy[positions[i]]; }
+	setAll(records, sorted);
+  }
+
+  /**
+   * Replaces the values of the list in place.
+   */
+  @SuppressWarnings("unchecked")
+  private static void setAll (List<?> list, Object[] values) {
+	ListIterator<Object> it = ((List<Object>) list).listIterator();
+	for (Object x : values) {
+		it.next();
+		it.set(x);
+	}
+  }
+
+  private static Object fieldAt (List<?> fields, int field) {
+	return fields.get((field < 0) ? fields.size() + field : field - 1);
+  }
+
+  private static List<?> fieldsOf (Object x) {
+	if (x instanceof List) { return (List<?>) x; }
+	if (x instanceof Set) { return new ArrayList<Object>((Set<?>) x); }
+	return IconField.objectAsValues(x);
+  }
+
+  /**
+   * Returns the positions of the keys in sorted order.
+   */
+  private static int[] sortedOrder (Object[] keys) {
+	int n = keys.length;
+	int[] order = new int[n];
+	int[] types = new int[n];
+	int[] bounds = new int[TYPES + 1];
+	Class<?>[] classes = new Class<?>[TYPES];
+	boolean isOrdered = true;
+	for (int i = 0; i < n; i++) {
+		types[i] = typeOrder(keys[i]);
+		bounds[types[i] + 1]++;
+		isOrdered = isOrdered && addClass(classes, keys[i], types[i]);
+	}
+	if (! isOrdered) {
+		Comparator<Object> basis = new IconFunctions.UniconComparator();
+		return comparatorOrder(n, (i, j) -> basis.compare(keys[i], keys[j]));
+	}
+	for (int t = 0; t < TYPES; t++) { bounds[t + 1] += bounds[t]; }
+	int[] next = Arrays.copyOf(bounds, TYPES);
+	for (int i = 0; i < n; i++) { order[next[types[i]]++] = i; }
+	int[] buffer = new int[n];
+	for (int t = INTEGER; t < TYPES; t++) {
+		int from = bounds[t];
+		int to = bounds[t + 1];
+		if (to - from < 2) { continue; }
+		mergeSort(order, buffer, from, to, keyOrder(keys, order, from, to));
+	}
+	return order;
+  }
+
+  /**
+   * Returns the positions 0 to n-1 sorted by the given order,
+   * making the same comparisons as List.sort on the values they stand for.
+   */
+  private static int[] comparatorOrder (int n, Comparator<Integer> by) {
+	Integer[] boxed = new Integer[n];
+	for (int i = 0; i < n; i++) { boxed[i] = i; }
+	Arrays.sort(boxed, by);
+	int[] order = new int[n];
+	for (int i = 0; i < n; i++) { order[i] = boxed[i]; }
+	return order;
+  }
+
+  /**
+   * Order of positions by their keys, all of one type in keys[order[from:to]].
+   */
+  private static PositionOrder keyOrder (Object[] keys, int[] order,
+		int from, int to) {
+	Class<?> type = commonClass(keys, order, from, to);
+	if (type == Long.class) {
+		long[] numbers = new long[keys.length];
+		for (int i = from; i < to; i++) {
+			numbers[order[i]] = (Long) keys[order[i]];
+		}
+		return (i, j) -> Long.compare(numbers[i], numbers[j]);
+	}
+	if (type == Double.class) {
+		double[] numbers = new double[keys.length];
+		for (int i = from; i < to; i++) {
+			numbers[order[i]] = (Double) keys[order[i]];
+		}
+		return (i, j) -> Double.compare(numbers[i], numbers[j]);
+	}
+	if ((type != null) && Comparable.class.isAssignableFrom(type)) {
+		return (i, j) -> NATURAL.compare(keys[i], keys[j]);
+	}
+	Comparator<Object> basis = new IconFunctions.UniconComparator();
+	return (i, j) -> basis.compare(keys[i], keys[j]);
+  }
+
+  //==========================================================================
+  // Type order.
+  //==========================================================================
+
+  /**
+   * Position of the value's type in the order used by UniconComparator.
+   */
+  static int typeOrder (Object x) {
+	if (x == null) { return NULL; }
+	if (IconNumber.isInteger(x)) { return INTEGER; }
+	if (x instanceof Number) { return REAL; }
+	if (x instanceof CharSequence) { return STRING; }
+	if (x instanceof IconCset) { return CSET; }
+	if (x instanceof Writer) { return WRITER; }
+	if (x instanceof Reader) { return READER; }
+	if (x instanceof RandomAccessFile) { return FILE; }
+	if (x instanceof IconCoExpression) { return COEXPRESSION; }
+	if (x instanceof List) { return LIST; }
+	if (x instanceof Set) { return SET; }
+	if (x instanceof Map) { return MAP; }
+	return OTHER;
+  }
+
+  /**
+   * Adds a value of the given type to the classes seen for each type.
+   * Returns false if the comparator does not order it consistently
+   * with the values of its type already seen, i.e., if neither null
+   * nor an integer, and of a different class or not Comparable.
+   */
+  private static boolean addClass (Class<?>[] classes, Object x, int type) {
+	if ((type == NULL) || (type == INTEGER)) { return true; }
+	Class<?> seen = classes[type];
+	if (seen == null) {
+		classes[type] = x.getClass();
+		return true;
+	}
+	return (x.getClass() == seen) && (x instanceof Comparable);
+  }
+
+  /**
+   * Returns if the comparator is a total order on the values,
+   * so that sorting them by type gives the same order as List.sort.
+   */
+  private static boolean isOrdered (Collection<?> values) {
+	Class<?>[] classes = new Class<?>[TYPES];
+	for (Object x : values) {
+		if (! addClass(classes, x, typeOrder(x))) { return false; }
+	}
+	return true;
+  }
+
+  private static boolean isOneType (int[] bounds, int n) {
+	for (int t = 0; t < TYPES; t++) {
+		if (bounds[t + 1] - bounds[t] == n) { return true; }
+	}
+	return false;
+  }
+
+  /**
+   * Class shared by all of values[from:to], or null if mixed.
+   */
+  private static Class<?> commonClass (Object[] values, int from, int to) {
+	Class<?> type = values[from].getClass();
+	for (int i = from + 1; i < to; i++) {
+		if (values[i].getClass() != type) { return null; }
+	}
+	return type;
+  }
+
+  /**
+   * Class shared by all of values[order[from:to]], or null if mixed.
+   */
+  private static Class<?> commonClass (Object[] values, int[] order,
+		int from, int to) {
+	Class<?> type = values[order[from]].getClass();
+	for (int i = from + 1; i < to; i++) {
+		if (values[order[i]].getClass() != type) { return null; }
+	}
+	return type;
+  }
+
+  //==========================================================================
+  // Stable merge sort of positions.
+  //==========================================================================
+
+  /**
+   * Compares two positions by their keys.
+   */
+  @FunctionalInterface
+  private interface PositionOrder {
+	int compare (int i, int j);
+  }
+
+  private static void mergeSort (int[] order, int[] buffer, int from, int to,
+		PositionOrder by) {
+	if (to - from > parallelThreshold) {
+		ForkJoinPool.commonPool().invoke(
+			new ParallelMergeSort(order, buffer, from, to, by));
+	} else {
+		sequentialMergeSort(order, buffer, from, to, by);
+	}
+  }
+
+  private static void sequentialMergeSort (int[] order, int[] buffer,
+		int from, int to, PositionOrder by) {
+	if (to - from <= INSERTION_SORT_LENGTH) {
+		for (int i = from + 1; i < to; i++) {
+			int x = order[i];
+			int j = i - 1;
+			while ((j >= from) && (by.compare(order[j], x) > 0)) {
+				order[j + 1] = order[j];
+				j--;
+			}
+			order[j + 1] = x;
+		}
+		return;
+	}
+	int mid = (from + to) >>> 1;
+	sequentialMergeSort(order, buffer, from, mid, by);
+	sequentialMergeSort(order, buffer, mid, to, by);
+	merge(order, buffer, from, mid, to, by);
+  }
+
+  /**
+   * Merges the sorted halves order[from:mid] and order[mid:to].
+   * Takes from the left half on ties, to keep the sort stable.
+   */
+  private static void merge (int[] order, int[] buffer, int from, int mid,
+		int to, PositionOrder by) {
+	if (by.compare(order[mid - 1], order[mid]) <= 0) { return; }
+	System.arraycopy(order, from, buffer, from, mid - from);
+	int i = from;
+	int j = mid;
+	int k = from;
+	while ((i < mid) && (j < to)) {
+		if (by.compare(order[j], buffer[i]) < 0) {
+			order[k++] = order[j++];
+		} else {
+			order[k++] = buffer[i++];
+		}
+	}
+	while (i < mid) { order[k++] = buffer[i++]; }
+  }
+
+  /**
+   * Sorts the halves of a long run in parallel, then merges them.
+   */
+  private static final class ParallelMergeSort extends RecursiveAction {
+	private static final long serialVersionUID = 1L;
+	private final int[] order;
+	private final int[] buffer;
+	private final int from;
+	private final int to;
+	private final PositionOrder by;
+
+	ParallelMergeSort (int[] order, int[] buffer, int from, int to,
+			PositionOrder by) {
+		this.order = order;
+		this.buffer = buffer;
+		this.from = from;
+		this.to = to;
+		this.by = by;
+	}
+
+	protected void compute () {
+		if (to - from <= parallelThreshold) {
+			sequentialMergeSort(order, buffer, from, to, by);
+			return;
+		}
+		int mid = (from + to) >>> 1;
+		invokeAll(new ParallelMergeSort(order, buffer, from, mid, by),
+			new ParallelMergeSort(order, buffer, mid, to, by));
+		merge(order, buffer, from, mid, to, by);
+	}
+  }
+
+}
+
+//==== END OF FILE
@@ -0,0 +1,588 @@
+//========================================================================
+// Copyright (c) 2014 Orielle, LLC.  
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions
+// are met:
+//
+// 1. Redistributions of source code must retain the above copyright
+//    notice, this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+//    notice, this list of conditions and the following disclaimer in the
+//    documentation and/or other materials provided with the distribution.
+//
+// This software is provided by the copyright holders and contributors
+// "as is" and any express or implied warranties, including, but not
+// limited to, the implied warranties of merchantability and fitness for
+// a particular purpose are disclaimed. In no event shall the copyright
+// holder or contributors be liable for any direct, indirect, incidental,
+// special, exemplary, or consequential damages (including, but not
+// limited to, procurement of substitute goods or services; loss of use,
+// data, or profits; or business interruption) however caused and on any
+// theory of liability, whether in contract, strict liability, or tort
+// (including negligence or otherwise) arising in any way out of the use
+// of this software, even if advised of the possibility of such damage.
+//========================================================================
+package edu.uidaho.junicon.runtime.junicon.operators;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.io.File;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.math.BigDecimal;
+
+/**
+ * Sorted list spilled to disk, for sorting more values than fit in memory.
+ * Values are read in runs of at most the run length,
+ * and each run is sorted in memory and written to a temporary file
+ * in a compact binary encoding.
+ * The list is then produced lazily by a k-way merge of the runs,
+ * so that iterating over it, or indexing it in increasing order,
+ * holds only a buffer per run in memory.
+ * Indexing backwards restarts the merge.
+ * The list is read-only until updated, when it is materialized in memory.
+ * <P>
+ * Only scalars with value semantics can be spilled:
+ * null, Integer, Long, BigInteger, Double, BigDecimal, and String,
+ * since values are read back as new objects.
+ * Lists, records, and other values keep their identity by being
+ * sorted in memory.
+ * Merging is stable: ties are taken from the earlier run.
+ * <P>
+ * The files of a merge are closed when it is exhausted, or else once
+ * it is unreachable.
+ * The temporary file is deleted by close(), or else once the list is
+ * unreachable, or else on exit.
+ * Unreachable lists and merges are found using phantom references,
+ * and released when the next sort or merge starts.
+ *
+ * @author Peter Mills
+ */
+public class IconSpilledList extends AbstractList <Object>
+		implements AutoCloseable {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  // Encoding tags
+  private static final int NULL = 0;
+  private static final int LONG = 1;
+  private static final int INTEGER = 2;
+  private static final int DOUBLE = 3;
+  private static final int STRING = 4;
+  private static final int BIGINTEGER = 5;
+  private static final int BIGDECIMAL = 6;
+
+  private final File file;
+  private final long[] runOffsets;	// Start of each run in file
+  private final int[] runSizes;		// Values in each run
+  private final int size;
+  private final Comparator<Object> order;
+  private final Cleanup cleanup;	// Deletes file
+
+  private Merge cursor = null;		// Merge used for get(i)
+  private int cursorIndex = -1;		// Index last returned by cursor
+  private Object cursorValue = null;
+  private List<Object> materialized = null;	// Once updated
+
+  private IconSpilledList (File file, long[] runOffsets, int[] runSizes,
+		Comparator<Object> order) {
+	this.file = file;
+	this.runOffsets = runOffsets;
+	this.runSizes = runSizes;
+	this.order = order;
+	int total = 0;
+	for (int n : runSizes) { total += n; }
+	size = total;
+	cleanup = new Cleanup(this, file, null);
+  }
+
+  //==========================================================================
+  // Spilling sort.
+  //==========================================================================
+
+  /**
+   * Returns if all the values can be spilled.
+   */
+  public static boolean canSpill (Collection<?> values) {
+	for (Object x : values) {
+		if (! canSpill(x)) { return false; }
+	}
+	return true;
+  }
+
+  /**
+   * Returns if the value can be spilled.
+   */
+  public static boolean canSpill (Object x) {
+	return (x == null) || (x instanceof Long) || (x instanceof Integer)
+		|| (x instanceof Double) || (x instanceof String)
+		|| (x instanceof BigInteger) || (x instanceof BigDecimal);
+  }
+
+  /**
+   * Sorts the values, in runs of the given length.
+   * Each run is sorted by sortRun, and the runs are merged using order,
+   * which must agree with sortRun.
+   * If the values fit in one run, they are sorted in memory into an
+   * ArrayList. If a value cannot be spilled, the values spilled so far
+   * are read back, and all are sorted in memory.
+   */
+  public static List<Object> sort (Iterator<?> values, int runLength,
+		Consumer<Object[]> sortRun, Comparator<Object> order) {
+	releaseUnreachable();
+	runLength = Math.max(1, runLength);
+	Object[] run = readRun(values, runLength);
+	if (! values.hasNext()) { return sortInMemory(run, sortRun); }
+	File file = null;
+	List<Long> offsets = new ArrayList<>();
+	List<Integer> sizes = new ArrayList<>();
+	Object[] unspilled = null;		// Run that cannot be spilled
+	try {
+	  file = File.createTempFile("junicon-sort", ".runs");
+	  file.deleteOnExit();
+	  CountingOutputStream count = new CountingOutputStream(
+		new BufferedOutputStream(new FileOutputStream(file),
+			BUFFER_SIZE));
+	  try (DataOutputStream out = new DataOutputStream(count)) {
+	    while (run.length > 0) {
+		if (! canSpill(Arrays.asList(run))) {
+			unspilled = run;
+			break;
+		}
+		sortRun.accept(run);
+		offsets.add(count.size);
+		sizes.add(run.length);
+		for (Object x : run) { write(out, x); }
+		run = readRun(values, runLength);
+	    }
+	  }
+	} catch (IOException e) {
+		if (file != null) { file.delete(); }
+		throw new UncheckedIOException(e);
+	} catch (RuntimeException e) {
+		if (file != null) { file.delete(); }
+		throw e;
+	}
+	IconSpilledList spilled = new IconSpilledList(file, toLongs(offsets),
+		toInts(sizes), order);
+	if (unspilled == null) { return spilled; }
+	List<Object> all = spilled.unsorted();	// Sort in memory
+	spilled.close();
+	all.addAll(Arrays.asList(unspilled));
+	while (values.hasNext()) { all.add(values.next()); }
+	return sortInMemory(all.toArray(), sortRun);
+  }
+
+  private static List<Object> sortInMemory (Object[] values,
+		Consumer<Object[]> sortRun) {
+	sortRun.accept(values);
+	return new ArrayList<Object>(Arrays.asList(values));
+  }
+
+  private static Object[] readRun (Iterator<?> values, int runLength) {
+	List<Object> run = new ArrayList<>();
+	while ((run.size() < runLength) && values.hasNext()) {
+		run.add(values.next());
+	}
+	return run.toArray();
+  }
+
+  private static long[] toLongs (List<Long> list) {
+	long[] result = new long[list.size()];
+	for (int i = 0; i < result.length; i++) { result[i] = list.get(i); }
+	return result;
+  }
+
+  private static int[] toInts (List<Integer> list) {
+	int[] result = new int[list.size()];
+	for (int i = 0; i < result.length; i++) { result[i] = list.get(i); }
+	return result;
+  }
+
+  /**
+   * Output stream that counts the bytes written, as a long,
+   * unlike DataOutputStream.size().
+   */
+  private static final class CountingOutputStream extends FilterOutputStream {
+	long size = 0;
+
+	CountingOutputStream (OutputStream out) { super(out); }
+
+	public void write (int b) throws IOException {
+		out.write(b);
+		size++;
+	}
+
+	public void write (byte[] b, int off, int len) throws IOException {
+		out.write(b, off, len);
+		size += len;
+	}
+  }
+
+  //==========================================================================
+  // List operations.
+  //==========================================================================
+
+  public int size () {
+	if (materialized != null) { return materialized.size(); }
+	return size;
+  }
+
+  /**
+   * Gets a value, continuing the merge if index is not before
+   * the last index got, and otherwise restarting it.
+   */
+  public Object get (int index) {
+	if (materialized != null) { return materialized.get(index); }
+	if ((index < 0) || (index >= size)) {
+		throw new IndexOutOfBoundsException("Index: " + index);
+	}
+	if (index == cursorIndex) { return cursorValue; }
+	if ((cursor == null) || (index < cursorIndex)) {
+		if (cursor != null) { cursor.close(); }
+		cursor = new Merge(true);
+		cursorIndex = -1;
+	}
+	while (cursorIndex < index) {
+		cursorValue = cursor.next();
+		cursorIndex++;
+	}
+	return cursorValue;
+  }
+
+  public Iterator<Object> iterator () {
+	if (materialized != null) { return materialized.iterator(); }
+	return new Merge(true);
+  }
+
+  public Object set (int index, Object x) {
+	return materialize().set(index, x);
+  }
+
+  public void add (int index, Object x) {
+	materialize().add(index, x);
+	modCount++;
+  }
+
+  public Object remove (int index) {
+	modCount++;
+	return materialize().remove(index);
+  }
+
+  /**
+   * Closes the merge, and deletes the temporary file.
+   * The list is then only usable if it was materialized.
+   */
+  public void close () {
+	if (cursor != null) { cursor.close(); }
+	cursor = null;
+	cursorIndex = -1;
+	cleanup.release();
+  }
+
+  /**
+   * Reads all values into memory, so that they can be updated.
+   */
+  private List<Object> materialize () {
+	if (materialized == null) {
+		List<Object> all = new ArrayList<>(size);
+		Iterator<Object> it = new Merge(true);
+		while (it.hasNext()) { all.add(it.next()); }
+		close();
+		materialized = all;
+	}
+	return materialized;
+  }
+
+  /**
+   * Reads all values, in run order rather than merged.
+   */
+  private List<Object> unsorted () {
+	List<Object> all = new ArrayList<>(size);
+	Iterator<Object> it = new Merge(false);
+	while (it.hasNext()) { all.add(it.next()); }
+	return all;
+  }
+
+  //==========================================================================
+  // K-way merge.
+  //==========================================================================
+
+  /**
+   * Reader over one run.
+   */
+  private final class Run {
+	final int index;
+	final DataInputStream in;
+	int remaining;
+	Object head = null;
+
+	/**
+	 * Opens the run, adding its file to those to close.
+	 */
+	Run (int index, List<Closeable> files) throws IOException {
+		this.index = index;
+		FileInputStream stream = new FileInputStream(file);
+		files.add(stream);
+		stream.getChannel().position(runOffsets[index]);
+		in = new DataInputStream(new BufferedInputStream(stream,
+			BUFFER_SIZE));
+		remaining = runSizes[index];
+	}
+
+	/**
+	 * Reads the next value into head.
+	 * Returns false, and closes the run, at its end.
+	 */
+	boolean advance () throws IOException {
+		if (remaining == 0) {
+			in.close();
+			return false;
+		}
+		remaining--;
+		head = read(in);
+		return true;
+	}
+  }
+
+  /**
+   * Iterator that merges the runs, or if not sorted reads them in order.
+   * Closes its files once exhausted.
+   */
+  private final class Merge implements Iterator<Object> {
+	private final PriorityQueue<Run> heads;
+	private final List<Closeable> files = new ArrayList<>();
+	private final Cleanup cleanup;		// Closes files
+
+	Merge (boolean isSorted) {
+		releaseUnreachable();
+		heads = new PriorityQueue<Run>(Math.max(1, runSizes.length),
+			isSorted ? (a, b) -> {
+				int c = order.compare(a.head, b.head);
+				return (c != 0) ? c : (a.index - b.index);
+			} : (a, b) -> (a.index - b.index));
+		cleanup = new Cleanup(this, null, files);
+		try {
+		    for (int i = 0; i < runSizes.length; i++) {
+			Run run = new Run(i, files);
+			if (run.advance()) { heads.add(run); }
+		    }
+		} catch (IOException e) {
+			close();
+			throw new UncheckedIOException(e);
+		}
+		if (heads.isEmpty()) { close(); }
+	}
+
+	public boolean hasNext () {
+		return ! heads.isEmpty();
+	}
+
+	public Object next () {
+		Run run = heads.poll();
+		if (run == null) { throw new NoSuchElementException(); }
+		Object x = run.head;
+		try {
+			if (run.advance()) { heads.add(run); }
+		} catch (IOException e) {
+			close();
+			throw new UncheckedIOException(e);
+		}
+		if (heads.isEmpty()) { close(); }
+		return x;
+	}
+
+	void close () {
+		heads.clear();
+		cleanup.release();
+	}
+  }
+
+  //==========================================================================
+  // Cleanup of unreachable lists and merges.
+  //==========================================================================
+
+  private static final ReferenceQueue<Object> unreachable =
+	new ReferenceQueue<>();
+
+  // Cleanups not yet released, which must stay reachable to be enqueued
+  private static final Set<Cleanup> pending =
+	Collections.newSetFromMap(new ConcurrentHashMap<Cleanup, Boolean>());
+
+  /**
+   * Releases the files of a list or merge, when closed,
+   * or once the list or merge is unreachable.
+   * Refers to the files, rather than to the list or merge.
+   */
+  private static final class Cleanup extends PhantomReference<Object> {
+	private final File file;		// Deleted, if any
+	private final List<Closeable> files;	// Closed, if any
+
+	Cleanup (Object owner, File file, List<Closeable> files) {
+		super(owner, unreachable);
+		this.file = file;
+		this.files = files;
+		pending.add(this);
+	}
+
+	/**
+	 * Closes the files, and deletes the file. Only acts once.
+	 */
+	void release () {
+		if (! pending.remove(this)) { return; }
+		clear();
+		if (files != null) {
+			for (Closeable f : files) {
+				try { f.close(); } catch (IOException e) { }
+			}
+		}
+		if (file != null) { file.delete(); }
+	}
+  }
+
+  /**
+   * Releases the files of lists and merges that have become unreachable.
+   */
+  private static void releaseUnreachable () {
+	Reference<?> ref;
+	while ((ref = unreachable.poll()) != null) {
+		((Cleanup) ref).release();
+	}
+  }
+
+  //==========================================================================
+  // Encoding.
+  //==========================================================================
+
+  private static void write (DataOutputStream out, Object x)
+		throws IOException {
+	if (x == null) {
+		out.writeByte(NULL);
+	} else if (x instanceof Long) {
+		out.writeByte(LONG);
+		writeVarLong(out, zigzag((Long) x));
+	} else if (x instanceof Integer) {
+		out.writeByte(INTEGER);
+		writeVarLong(out, zigzag((Integer) x));
+	} else if (x instanceof Double) {
+		out.writeByte(DOUBLE);
+		out.writeDouble((Double) x);
+	} else if (x instanceof String) {
+		String s = (String) x;
+		out.writeByte(STRING);
+		writeVarLong(out, s.length());
+		for (int i = 0; i < s.length(); i++) {
+			writeVarLong(out, s.charAt(i));
+		}
+	} else if (x instanceof BigInteger) {
+		out.writeByte(BIGINTEGER);
+		writeBytes(out, ((BigInteger) x).toByteArray());
+	} else if (x instanceof BigDecimal) {
+		BigDecimal d = (BigDecimal) x;
+		out.writeByte(BIGDECIMAL);
+		writeVarLong(out, zigzag(d.scale()));
+		writeBytes(out, d.unscaledValue().toByteArray());
+	} else {
+		throw new IOException("Cannot spill value in sort run");
+	}
+  }
+
+  private static Object read (DataInputStream in) throws IOException {
+	int tag = in.readUnsignedByte();
+	switch (tag) {
+	  case NULL:
+		return null;
+	  case LONG:
+		return unzigzag(readVarLong(in));
+	  case INTEGER:
+		return (int) unzigzag(readVarLong(in));
+	  case DOUBLE:
+		return in.readDouble();
+	  case STRING:
+		char[] chars = new char[(int) readVarLong(in)];
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = (char) readVarLong(in);
+		}
+		return new String(chars);
+	  case BIGINTEGER:
+		return new BigInteger(readBytes(in));
+	  case BIGDECIMAL:
+		int scale = (int) unzigzag(readVarLong(in));
+		return new BigDecimal(new BigInteger(readBytes(in)), scale);
+	  default:
+		throw new IOException("Bad tag in sort run: " + tag);
+	}
+  }
+
+  private static long zigzag (long x) {
+	return (x << 1) ^ (x >> 63);
+  }
+
+  private static long unzigzag (long x) {
+	return (x >>> 1) ^ -(x & 1);
+  }
+
+  /**
+   * Writes 7 bits per byte, low bits first, high bit set if more follow.
+   */
+  private static void writeVarLong (DataOutputStream out, long x)
+		throws IOException {
+	while ((x & ~0x7FL) != 0) {
+		out.writeByte((int) ((x & 0x7F) | 0x80));
+		x >>>= 7;
+	}
+	out.writeByte((int) x);
+  }
+
+  private static long readVarLong (DataInputStream in) throws IOException {
+	long x = 0;
+	for (int shift = 0; shift < 64; shift += 7) {
+		int b = in.readUnsignedByte();
+		x |= (long) (b & 0x7F) << shift;
+		if ((b & 0x80) == 0) { return x; }
+	}
+	throw new IOException("Bad length in sort run");
+  }
+
+  private static void writeBytes (DataOutputStream out, byte[] bytes)
+		throws IOException {
+	writeVarLong(out, bytes.length);
+	out.write(bytes);
+  }
+
+  private static byte[] readBytes (DataInputStream in) throws IOException {
+	byte[] bytes = new byte[(int) readVarLong(in)];
+	in.readFully(bytes);
+	return bytes;
+  }
+
+}
+
+//==== END OF FILE
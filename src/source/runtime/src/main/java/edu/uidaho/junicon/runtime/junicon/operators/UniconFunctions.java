@@ -305,10 +305,12 @@ public class UniconFunctions {
                     }
 
                     // not a file, write it out
+		    String text = (i instanceof Number) ?
+			IconNumberFormat.format((Number) i) : i.toString();
 		    if (isRandom) {
-                        rfile.writeBytes(i.toString());
+                        rfile.writeBytes(text);
                     } else {
-                        file.write(i.toString().getBytes(
+                        file.write(text.getBytes(
 				IconNumber.getDefaultCharset()));
                         file.flush();
                     }
@@ -361,10 +363,12 @@ public class UniconFunctions {
                     }
 
                     // argument not a file, write it out
+		    String text = (i instanceof Number) ?
+			IconNumberFormat.format((Number) i) : i.toString();
 		    if (isRandom) {
-                        rfile.writeBytes(i.toString());
+                        rfile.writeBytes(text);
                     } else {
-                        file.write(i.toString().getBytes(
+                        file.write(text.getBytes(
 				IconNumber.getDefaultCharset()));
                         file.flush();
                     }
@@ -713,9 +717,17 @@ public class UniconFunctions {
                                 .replace("\n", "\\n").replace("\0", "\\0")
                                 .replace("\b", "\\b").replace("\"", "\\\"") + "\"";
       }
+      if (args[0] instanceof Number) {
+          return IconNumberFormat.format((Number) args[0]);
+      }
       if (args[0] instanceof List) {
           return "list_(" + ((List) args[0]).size() + ")";
       }
+      if (args[0] instanceof IconCset) {
+          return "'" + ((IconCset) args[0]).getString().replace("\t", "\\t")
+                                .replace("\n", "\\n").replace("\0", "\\0")
+                                .replace("\b", "\\b").replace("'", "\\'") + "'";
+      }
       if (args[0] instanceof Set) {
           return "set_(" + ((Set) args[0]).size() + ")";
       }
@@ -742,10 +754,11 @@ public class UniconFunctions {
   public static Object type (Object... args) {
       if (args == null || args.length == 0) { return FAIL; }
       if (args[0] == null) return "null";
-      if (args[0] instanceof Integer || args[0] instanceof BigInteger) return "integer";
+      if (IconNumber.isInteger(args[0])) return "integer";
       if (args[0] instanceof Number) return "real";
       if (args[0] instanceof CharSequence) return "string";
       if (args[0] instanceof List) return "list";
+      if (args[0] instanceof IconCset) return "cset";
       if (args[0] instanceof Set) return "set";
       if (args[0] instanceof Map) return "table";
       if (args[0] instanceof Reader) return "file";
@@ -40,6 +40,8 @@ import java.lang.management.*;
  * a given class with a main method parameterized by sample size.
  * Outputs the milliseconds of cpu time, including user and system time,
  * for each iteration.
+ * Optionally also outputs the bytes allocated by each iteration,
+ * if supported by the JVM.
  *
  * @author Peter Mills
  */
@@ -52,6 +54,7 @@ public class Benchmark {
   private int warmups = 1; 
   private int iterations = 1; 
   private boolean isReflective = false;
+  private boolean isAllocation = false;
 
   // For error messages
   private static PrintStream err = System.err;
@@ -70,7 +73,7 @@ public class Benchmark {
   /**
    * Main program.  Runs benchmark for classname.main(sampleSize).
    * <BR>
-   * Usage: benchmark -r -w warmups -n iterations classname sampleSize [args]
+   * Usage: benchmark -r -a -w warmups -n iterations classname sampleSize [args]
    * <BR>
    * Outputs: results by iteration. Optionally amean, stddev, confidence.
    * @param args	command line arguments, will override Spring settings.
@@ -114,6 +117,8 @@ public class Benchmark {
 	+ "\n\t\t"
 	+ "[-r (reflectively invoke class)]"
 	+ "\n\t\t"
+	+ "[-a (report bytes allocated)]"
+	+ "\n\t\t"
 	+ "[-w warmups] [-i iterations] classname sampleSize [args...]";
 
 	usage += "\n\t"
@@ -130,6 +135,7 @@ public class Benchmark {
 	    switch (arg) {
 		    case "-h": printHelp = true; break;
 		    case "-r": isReflective = true; break;
+		    case "-a": isAllocation = true; break;
 		    case "-w": if ((i < args.length) && (args[i] != null)) {
 				  Number num = stringToInteger(args[i++]);
 				  if (num == null) { invalidArgs = true;
@@ -242,6 +248,7 @@ public class Benchmark {
    */
   private void apply (Object... args) {
       List<Long> results = new ArrayList();
+      List<Long> allocations = new ArrayList();
       try {
 	// Setup test
 	setupTest();
@@ -256,13 +263,20 @@ public class Benchmark {
 	// Run test iterations
 	System.out.println("**** Test iterations");
 	for (int i=0; i<iterations; i++) {
+		long allocated = getAllocatedBytes();
 		long start = getCpuTime();
 		System.out.println("Iteration " + (i+1));
 		runTest();
 		long duration = getCpuTime() - start;
+		allocated = getAllocatedBytes() - allocated;
 		System.out.println("Iteration " + (i+1)
 			+ " time (ns): " + duration);
 		results.add(duration);
+		if (isAllocation) {
+			System.out.println("Iteration " + (i+1)
+				+ " allocated (bytes): " + allocated);
+			allocations.add(allocated);
+		}
 	}
 
 	// Statistical analysis
@@ -271,6 +285,10 @@ public class Benchmark {
 	double confidence = confidenceInterval(stddev, results.size(), false);
 	System.out.println("Mean " + mean + " +- " + confidence
 		+ " (Confidence @99%)");
+	if (isAllocation) {
+		System.out.println("Mean allocated (bytes): "
+			+ average(allocations));
+	}
 
       } catch (Exception e) {
 	e.printStackTrace();
@@ -308,6 +326,20 @@ public class Benchmark {
 		bean.getCurrentThreadCpuTime( ) : 0L;
   }
  
+  /**
+   * Get bytes allocated by the current thread, or 0 if not supported.
+   * Relies on the com.sun.management extension of ThreadMXBean.
+   */
+  public static long getAllocatedBytes( ) {
+	ThreadMXBean bean = ManagementFactory.getThreadMXBean( );
+	if (! (bean instanceof com.sun.management.ThreadMXBean)) { return 0L; }
+	com.sun.management.ThreadMXBean sunBean =
+		(com.sun.management.ThreadMXBean) bean;
+	return sunBean.isThreadAllocatedMemorySupported( ) ?
+		sunBean.getThreadAllocatedBytes(Thread.currentThread().getId())
+		: 0L;
+  }
+ 
   /**
    * Get user time in nanoseconds.
    */
@@ -0,0 +1,140 @@
+//========================================================================
+// Copyright (c) 2015 Orielle, LLC.  
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions
+// are met:
+//
+// 1. Redistributions of source code must retain the above copyright
+//    notice, this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+//    notice, this list of conditions and the following disclaimer in the
+//    documentation and/or other materials provided with the distribution.
+//
+// This software is provided by the copyright holders and contributors
+// "as is" and any express or implied warranties, including, but not
+// limited to, the implied warranties of merchantability and fitness for
+// a particular purpose are disclaimed. In no event shall the copyright
+// holder or contributors be liable for any direct, indirect, incidental,
+// special, exemplary, or consequential damages (including, but not
+// limited to, procurement of substitute goods or services; loss of use,
+// data, or profits; or business interruption) however caused and on any
+// theory of liability, whether in contract, strict liability, or tort
+// (including negligence or otherwise) arising in any way out of the use
+// of this software, even if advised of the possibility of such damage.
+//========================================================================
+package edu.uidaho.junicon.test.benchmark;
+
+import edu.uidaho.junicon.runtime.junicon.iterators.*;
+import edu.uidaho.junicon.runtime.junicon.constructs.IconToIterator;
+
+import java.io.*;
+
+/**
+ * Checks that a range counter is reused across iterations.
+ * Steps the range 1 to n, and verifies it hands out the same atom
+ * on each step.  Then steps i := 1 to n, as in every i := 1 to n,
+ * and verifies the variable holds the same value atom on each step,
+ * with the next integer.
+ * Then checks that a value copied from the variable during the loop,
+ * and a value returned from it, keep their integer after the loop.
+ * Exits with status 1 if any check fails.
+ * <P>
+ * Usage: counterreuse [n]
+ *
+ * @author Peter Mills
+ */
+public class CounterReuse {
+
+  // For error messages
+  private static PrintStream err = System.err;
+
+  //====================================================================
+  // Main.
+  //====================================================================
+
+  /**
+   * Main program.  Outputs the number of steps checked.
+   * @param args	command line arguments.
+   */
+  public static void main (String[] args) {
+	int n = 1000;
+	if ((args != null) && (args.length > 0)) {
+		Number num = Benchmark.stringToInteger(args[0]);
+		if (num == null) {
+			err.println("Usage: counterreuse [n]");
+			System.exit(1);
+		}
+		n = num.intValue();
+	}
+	String failure = check(n);
+	if (failure != null) {
+		err.println("counterreuse: " + failure);
+		System.exit(1);
+	}
+	System.out.println("counterreuse: " + n + " steps");
+  }
+
+  //=========================================================================
+  // Check.
+  //=========================================================================
+
+  /**
+   * Steps 1 to n, and i := 1 to n, and checks the counter is reused.
+   * @return description of the first failed check, or null if none.
+   */
+  public static String check (int n) {
+	IconToIterator range = new IconToIterator(1, n);
+	IIconAtom produced = null;
+	for (long step = 1; step <= n; step++) {
+		IIconAtom atom = range.nextAtom();
+		if (range.isFailed()) { return "range failed at step " + step; }
+		if (produced == null) { produced = atom; }
+		if (atom != produced) {
+			return "range allocated a new atom at step " + step;
+		}
+	}
+
+	IconVar i_r = new IconVar().local();
+	IconVar j_r = new IconVar().local();
+	IconIterator assign = new IconAssign().over(new IconSingleton(i_r),
+		new IconToIterator(1, n));
+	IconValue held = null;
+	IIconAtom returned = null;
+	long expected = 1;
+	while (true) {
+		assign.nextAtom();
+		if (assign.isFailed()) { break; }
+		IconValue value = i_r.getValue();
+		if (held == null) { held = value; }
+		if (value != held) {
+			return "variable allocated a new value at step " + expected;
+		}
+		if (value.getInteger() != expected) {
+			return "variable is " + value.getInteger()
+				+ " at step " + expected;
+		}
+		if (expected == 1) {
+			j_r.setValue(i_r);
+			returned = i_r.onReturn();
+		}
+		expected++;
+	}
+	if (expected != n + 1) {
+		return "assignment stopped after " + (expected - 1) + " steps";
+	}
+	if ((n > 0) && (j_r.getValue().getInteger() != 1)) {
+		return "copy changed to " + j_r.getValue().getInteger();
+	}
+	if ((returned != null) && (returned.getValue().getInteger() != 1)) {
+		return "returned value changed to "
+			+ returned.getValue().getInteger();
+	}
+	return null;
+  }
+
+}
+
+//==== END OF FILE
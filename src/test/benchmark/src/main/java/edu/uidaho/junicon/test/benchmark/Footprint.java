@@ -0,0 +1,206 @@
+//========================================================================
+// Copyright (c) 2015 Orielle, LLC.  
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions
+// are met:
+//
+// 1. Redistributions of source code must retain the above copyright
+//    notice, this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+//    notice, this list of conditions and the following disclaimer in the
+//    documentation and/or other materials provided with the distribution.
+//
+// This software is provided by the copyright holders and contributors
+// "as is" and any express or implied warranties, including, but not
+// limited to, the implied warranties of merchantability and fitness for
+// a particular purpose are disclaimed. In no event shall the copyright
+// holder or contributors be liable for any direct, indirect, incidental,
+// special, exemplary, or consequential damages (including, but not
+// limited to, procurement of substitute goods or services; loss of use,
+// data, or profits; or business interruption) however caused and on any
+// theory of liability, whether in contract, strict liability, or tort
+// (including negligence or otherwise) arising in any way out of the use
+// of this software, even if advised of the possibility of such damage.
+//========================================================================
+package edu.uidaho.junicon.test.benchmark;
+
+import edu.uidaho.junicon.runtime.junicon.annotations.MMethod;
+import edu.uidaho.junicon.runtime.junicon.iterators.IIconIterator;
+import edu.uidaho.junicon.runtime.junicon.iterators.IIconComposition;
+
+import java.util.*;
+import java.io.*;
+import java.lang.reflect.*;
+
+/**
+ * Measures the heap footprint of method bodies.
+ * For each method of the given classes annotated with MMethod,
+ * materializes a number of fresh method bodies, without running them,
+ * and outputs the retained heap in bytes per body.
+ * Retained heap is measured as the difference in used memory
+ * after garbage collection, so results are approximate,
+ * but are stable enough to compare iterator layouts before and after.
+ * Also reports, per method and in total for each class,
+ * how many compositions of a body are singleton or bounded,
+ * i.e., marked by the transform to fail on resume.
+ * <P>
+ * Usage: footprint [-n bodies] classname...
+ *
+ * @author Peter Mills
+ */
+public class Footprint {
+
+  private int bodies = 2000;
+  private List<String> classNames = new ArrayList();
+
+  // For error messages
+  private static PrintStream err = System.err;
+
+  //====================================================================
+  // Main.
+  //====================================================================
+
+  /**
+   * Main program.  Reports bytes per method body for each class.
+   * @param args	command line arguments.
+   */
+  public static void main (String[] args) {
+      try {
+	Footprint shell = new Footprint();
+	boolean invalidArgs = shell.processCommandLineArgs(args);
+	if (! invalidArgs) {
+		shell.apply();
+	}
+      } catch (Throwable e) {
+	e.printStackTrace();
+      }
+  }
+
+  /**
+   * Process command line arguments.
+   * @return if invalid args.
+   */
+  public boolean processCommandLineArgs (String[] args) {
+	boolean invalidArgs = false;
+	String usage = "Usage: footprint [-h (help)] [-n bodies] classname...";
+	if (args == null) { args = new String[0]; }
+
+	int i = 0;
+	String arg = "";
+	while ((! invalidArgs) && (i < args.length) && (args[i] != null) &&
+			args[i].startsWith("-")) {
+	    arg = args[i++];
+	    switch (arg) {
+		    case "-h": invalidArgs = true; break;
+		    case "-n": if ((i < args.length) && (args[i] != null)) {
+				  Number num = Benchmark.stringToInteger(args[i++]);
+				  if (num == null) { invalidArgs = true;
+				  } else { bodies = num.intValue(); }
+				} else { invalidArgs = true; };
+				break;
+		    default: invalidArgs = true;
+				break;
+	    }
+	}
+	while (i < args.length) {
+		String name = args[i++];
+		if (name.indexOf('.') < 0) {
+			name = "edu.uidaho.junicon.test.junicon." + name;
+		}
+		classNames.add(name);
+	}
+	if (classNames.isEmpty()) { invalidArgs = true; }
+	if (invalidArgs) {
+		err.println(usage);
+	}
+	return invalidArgs;
+  }
+
+  //=========================================================================
+  // Measure footprint.
+  //=========================================================================
+
+  /**
+   * Output bytes per method body, for each MMethod of each class.
+   */
+  private void apply () throws Exception {
+	for (String className : classNames) {
+	  Class<?> clazz = Class.forName(className);
+	  Object instance = clazz.newInstance();
+	  Method[] methods = clazz.getDeclaredMethods();
+	  Arrays.sort(methods, (a, b) -> a.getName().compareTo(b.getName()));
+	  int totalSingletons = 0;
+	  int totalCompositions = 0;
+	  for (Method method : methods) {
+		if (method.getAnnotation(MMethod.class) == null) { continue; }
+		method.setAccessible(true);
+		measure(instance, method);		// warmup
+		long bytes = measure(instance, method);
+		Object body = method.invoke(instance,
+			new Object[] { new Object[0] });
+		int singletons = 0;
+		int compositions = 0;
+		if (body instanceof IIconIterator) {
+			singletons = countCompositions(body, true);
+			compositions = countCompositions(body, false);
+		}
+		totalSingletons += singletons;
+		totalCompositions += compositions;
+		System.out.println(clazz.getSimpleName() + "." +
+			method.getName() + " bytes/body: " + bytes +
+			" singletons: " + singletons + "/" + compositions);
+	  }
+	  System.out.println(clazz.getSimpleName() + " singletons: " +
+		totalSingletons + "/" + totalCompositions);
+	}
+  }
+
+  /**
+   * Number of compositions in the materialized tree,
+   * or only of those that are singleton or bounded.
+   */
+  private static int countCompositions (Object node,
+		boolean onlySingletons) {
+	if (! (node instanceof IIconComposition)) { return 0; }
+	IIconComposition<?> comp = (IIconComposition<?>) node;
+	int count = ((! onlySingletons) || comp.isSingleton()) ? 1 : 0;
+	return count + countCompositions(comp.getX(), onlySingletons) +
+		countCompositions(comp.getY(), onlySingletons);
+  }
+
+  /**
+   * Returns the retained bytes per method body,
+   * by creating and holding on to fresh bodies.
+   * Bodies are never returned to the method cache, so each is new.
+   */
+  private long measure (Object instance, Method method) throws Exception {
+	Object[] held = new Object[bodies];
+	Object[] noArgs = new Object[] { new Object[0] };
+	long before = usedMemory();
+	for (int i=0; i<bodies; i++) {
+		held[i] = method.invoke(instance, noArgs);
+	}
+	long after = usedMemory();
+	if (held[bodies-1] == null) { return 0; }	// keep reachable
+	return (after - before) / bodies;
+  }
+
+  /**
+   * Used heap after garbage collection.
+   */
+  private static long usedMemory () {
+	Runtime runtime = Runtime.getRuntime();
+	long used = Long.MAX_VALUE;
+	for (int i=0; i<4; i++) {
+		System.gc();
+		used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+	}
+	return used;
+  }
+
+}
+
+//==== END OF FILE
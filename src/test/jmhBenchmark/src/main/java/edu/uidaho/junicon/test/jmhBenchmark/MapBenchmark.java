@@ -0,0 +1,178 @@
+//========================================================================
+// Copyright (c) 2015 Orielle, LLC.  
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions
+// are met:
+//
+// 1. Redistributions of source code must retain the above copyright
+//    notice, this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+//    notice, this list of conditions and the following disclaimer in the
+//    documentation and/or other materials provided with the distribution.
+//
+// This software is provided by the copyright holders and contributors
+// "as is" and any express or implied warranties, including, but not
+// limited to, the implied warranties of merchantability and fitness for
+// a particular purpose are disclaimed. In no event shall the copyright
+// holder or contributors be liable for any direct, indirect, incidental,
+// special, exemplary, or consequential damages (including, but not
+// limited to, procurement of substitute goods or services; loss of use,
+// data, or profits; or business interruption) however caused and on any
+// theory of liability, whether in contract, strict liability, or tort
+// (including negligence or otherwise) arising in any way out of the use
+// of this software, even if advised of the possibility of such damage.
+//========================================================================
+package edu.uidaho.junicon.test.jmhBenchmark;
+
+import edu.uidaho.junicon.runtime.junicon.operators.IconMap;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import java.util.Map;
+import java.util.LinkedHashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks tables on a word count workload.
+ * Counts two occurrences each of a million distinct words in random order,
+ * either strings or Java Integers, in a table with default 0,
+ * using either the open addressing IconMap or the former
+ * implementation that wraps a LinkedHashMap.
+ * Outputs the average time to count all words,
+ * and after each trial the retained heap per entry.
+ * <BR>
+ * Usage: MapBenchmark [warmups iterations]
+ *
+ * @author Peter Mills
+ */
+@State(Scope.Thread)
+public class MapBenchmark {
+
+  //====================================================================
+  // Jmh parameters
+  //====================================================================
+  @Param({"iconmap", "legacy"})
+  public String table;
+
+  @Param({"string", "integer"})
+  public String keys;
+
+  @Param({"1000000"})
+  public int distinct;
+
+  //====================================================================
+  // Main.
+  //====================================================================
+
+  /**
+   * Main program.  Runs table benchmarks.
+   * @param args	optional warmups and iterations.
+   */
+  public static void main(String[] args) throws RunnerException {
+	int warmups = 5;
+	int iterations = 5;
+	try {
+		if (args.length > 0) { warmups = Integer.parseInt(args[0]); }
+		if (args.length > 1) { iterations = Integer.parseInt(args[1]); }
+	} catch (NumberFormatException e) {
+		System.err.println("Usage: MapBenchmark [warmups iterations]");
+		System.exit(0);
+	}
+	Options opt = new OptionsBuilder()
+		.include(MapBenchmark.class.getSimpleName())
+		.warmupIterations(warmups)
+		.measurementIterations(iterations)
+		.forks(1)
+		.build();
+	new Runner(opt).run();
+  }
+
+  //=========================================================================
+  // Setup benchmark.
+  //=========================================================================
+  Object[] words;
+
+  @Setup(Level.Trial)
+  public void prepare() {
+	// Each word twice, in random order
+	words = new Object[2 * distinct];
+	for (int i = 0; i < words.length; i++) {
+		int w = i % distinct;
+		words[i] = "string".equals(keys) ? (Object) ("word" + w)
+				: (Object) Integer.valueOf(w);
+	}
+	Collections.shuffle(Arrays.asList(words), new Random(1));
+  }
+
+  @TearDown(Level.Trial)
+  public void reportMemory() {
+	long before = usedMemory();
+	Map<Object,Object> counts = count();
+	long after = usedMemory();
+	System.out.println("Retained bytes per entry: " +
+		((after - before) / Math.max(1, counts.size())));
+  }
+
+  private static long usedMemory() {
+	Runtime runtime = Runtime.getRuntime();
+	for (int i = 0; i < 3; i++) { System.gc(); }
+	return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  //=========================================================================
+  // Run benchmark.
+  //=========================================================================
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public void runWordCount (Blackhole hole) {
+	hole.consume(count());
+  }
+
+  /**
+   * Counts words as: every w := !words do counts[w] +:= 1
+   */
+  private Map<Object,Object> count () {
+	Map<Object,Object> counts;
+	if ("legacy".equals(table)) {
+		LegacyMap<Object> legacy = new LegacyMap<>();
+		legacy.setDefault(0L);
+		counts = legacy;
+	} else {
+		IconMap<Object> map = new IconMap<>();
+		map.setDefault(0L);
+		counts = map;
+	}
+	for (Object w : words) {
+		counts.put(w, ((Long) counts.get(w)) + 1);
+	}
+	return counts;
+  }
+
+  //=========================================================================
+  // Former table implementation.
+  //=========================================================================
+  private static class LegacyMap <V> extends LinkedHashMap <V,V> {
+	private V undefined = null;
+
+	public void setDefault (V d) { undefined = d; }
+
+	public V get (Object x) {
+		if (! containsKey(x)) { return undefined; }
+		return super.get(x);
+	}
+  }
+
+}
+
+//==== END OF FILE
@@ -0,0 +1,179 @@
+//========================================================================
+// Copyright (c) 2015 Orielle, LLC.  
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions
+// are met:
+//
+// 1. Redistributions of source code must retain the above copyright
+//    notice, this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+//    notice, this list of conditions and the following disclaimer in the
+//    documentation and/or other materials provided with the distribution.
+//
+// This software is provided by the copyright holders and contributors
+// "as is" and any express or implied warranties, including, but not
+// limited to, the implied warranties of merchantability and fitness for
+// a particular purpose are disclaimed. In no event shall the copyright
+// holder or contributors be liable for any direct, indirect, incidental,
+// special, exemplary, or consequential damages (including, but not
+// limited to, procurement of substitute goods or services; loss of use,
+// data, or profits; or business interruption) however caused and on any
+// theory of liability, whether in contract, strict liability, or tort
+// (including negligence or otherwise) arising in any way out of the use
+// of this software, even if advised of the possibility of such damage.
+//========================================================================
+package edu.uidaho.junicon.test.jmhBenchmark;
+
+import edu.uidaho.junicon.runtime.junicon.iterators.IconNumber;
+import edu.uidaho.junicon.runtime.junicon.iterators.IconNumberFormat;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import java.math.BigInteger;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks converting numeric text, as read from a CSV-like file.
+ * Each line has five comma-separated fields: an id, a price with two
+ * decimals, a quantity, a ratio with up to six decimals, and a
+ * scientific real.
+ * Parsing converts every field to a number as string arithmetic does,
+ * using either IconNumberFormat or the former regular expression
+ * and shared NumberFormat.
+ * Formatting converts the reals back to text for write,
+ * using either IconNumberFormat or Double.toString.
+ * Outputs the average time to convert all lines.
+ * <BR>
+ * Usage: NumberBenchmark [warmups iterations]
+ *
+ * @author Peter Mills
+ */
+@State(Scope.Thread)
+public class NumberBenchmark {
+
+  //====================================================================
+  // Jmh parameters
+  //====================================================================
+  @Param({"icon", "legacy"})
+  public String converter;
+
+  @Param({"100000"})
+  public int lines;
+
+  //====================================================================
+  // Main.
+  //====================================================================
+
+  /**
+   * Main program.  Runs number conversion benchmarks.
+   * @param args	optional warmups and iterations.
+   */
+  public static void main(String[] args) throws RunnerException {
+	int warmups = 5;
+	int iterations = 5;
+	try {
+		if (args.length > 0) { warmups = Integer.parseInt(args[0]); }
+		if (args.length > 1) { iterations = Integer.parseInt(args[1]); }
+	} catch (NumberFormatException e) {
+		System.err.println("Usage: NumberBenchmark [warmups iterations]");
+		System.exit(0);
+	}
+	Options opt = new OptionsBuilder()
+		.include(NumberBenchmark.class.getSimpleName())
+		.warmupIterations(warmups)
+		.measurementIterations(iterations)
+		.forks(1)
+		.build();
+	new Runner(opt).run();
+  }
+
+  //=========================================================================
+  // Setup benchmark.
+  //=========================================================================
+  String[] text;
+  double[] reals;
+
+  // Former conversion
+  private static final Pattern isIntegerPattern = Pattern.compile("-?\\d+");
+  private static final NumberFormat numberFormatter =
+	NumberFormat.getInstance();
+
+  @Setup(Level.Trial)
+  public void prepare() {
+	Random random = new Random(1);
+	text = new String[lines];
+	reals = new double[3 * lines];
+	for (int i = 0; i < lines; i++) {
+		double price = random.nextInt(100000) / 100.0;
+		double ratio = random.nextInt(1000000) / 1e6;
+		double scientific = Double.parseDouble(String.format("%.4e",
+			random.nextGaussian() * 1e-4));
+		text[i] = i + "," + price + "," + random.nextInt(1000) + ","
+			+ ratio + "," + scientific;
+		reals[3*i] = price;
+		reals[3*i + 1] = ratio;
+		reals[3*i + 2] = scientific;
+	}
+  }
+
+  //=========================================================================
+  // Run benchmark.
+  //=========================================================================
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public void runParse (Blackhole hole) {
+	boolean isLegacy = "legacy".equals(converter);
+	for (String line : text) {
+		int from = 0;
+		while (from <= line.length()) {
+			int to = line.indexOf(',', from);
+			if (to < 0) { to = line.length(); }
+			String field = line.substring(from, to);
+			hole.consume(isLegacy ? legacyParse(field)
+				: IconNumber.toBigNumber(field));
+			from = to + 1;
+		}
+	}
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public void runFormat (Blackhole hole) {
+	boolean isLegacy = "legacy".equals(converter);
+	for (double real : reals) {
+		hole.consume(isLegacy ? Double.toString(real)
+			: IconNumberFormat.format(real));
+	}
+  }
+
+  /**
+   * Former string to number conversion.
+   */
+  private static Number legacyParse (String str) {
+	str = str.trim();
+	try {
+		if (isIntegerPattern.matcher(str).matches()) {
+			return new BigInteger(str);
+		}
+		return numberFormatter.parse(str);
+	} catch (NumberFormatException | ParseException e) {
+		return null;
+	}
+  }
+
+}
+
+//==== END OF FILE
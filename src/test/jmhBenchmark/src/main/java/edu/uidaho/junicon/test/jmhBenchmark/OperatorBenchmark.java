@@ -0,0 +1,199 @@
+//========================================================================
+// Copyright (c) 2015 Orielle, LLC.  
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions
+// are met:
+//
+// 1. Redistributions of source code must retain the above copyright
+//    notice, this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+//    notice, this list of conditions and the following disclaimer in the
+//    documentation and/or other materials provided with the distribution.
+//
+// This software is provided by the copyright holders and contributors
+// "as is" and any express or implied warranties, including, but not
+// limited to, the implied warranties of merchantability and fitness for
+// a particular purpose are disclaimed. In no event shall the copyright
+// holder or contributors be liable for any direct, indirect, incidental,
+// special, exemplary, or consequential damages (including, but not
+// limited to, procurement of substitute goods or services; loss of use,
+// data, or profits; or business interruption) however caused and on any
+// theory of liability, whether in contract, strict liability, or tort
+// (including negligence or otherwise) arising in any way out of the use
+// of this software, even if advised of the possibility of such damage.
+//========================================================================
+package edu.uidaho.junicon.test.jmhBenchmark;
+
+import edu.uidaho.junicon.runtime.junicon.iterators.*;
+import edu.uidaho.junicon.runtime.junicon.operators.IconOperators;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Benchmarks numeric binary operators, with and without inline caches.
+ * Repeatedly evaluates x+y and x<y over integer, real, or mixed operands,
+ * where each operation is a separate call site.
+ * The run benchmarks step an IconOperation, and so include iterator overhead,
+ * while the apply benchmarks invoke the call site's operator directly
+ * on the operand atoms, which isolates the operator dispatch.
+ * If polluted, the shared operators are first exercised over all operand
+ * types, as in a program that uses them at more than one type.
+ * Outputs the average time for each evaluation.
+ * <BR>
+ * Usage: OperatorBenchmark [warmups iterations]
+ *
+ * @author Peter Mills
+ */
+@State(Scope.Thread)
+public class OperatorBenchmark {
+
+  //====================================================================
+  // Jmh parameters
+  //====================================================================
+  @Param({"true", "false"})
+  public boolean isInlineCache;
+
+  @Param({"integer", "real", "mixed"})
+  public String operands;
+
+  @Param({"true", "false"})
+  public boolean isPolluted;
+
+  //====================================================================
+  // Main.
+  //====================================================================
+
+  /**
+   * Main program.  Runs operator benchmarks.
+   * @param args	optional warmups and iterations.
+   */
+  public static void main(String[] args) throws RunnerException {
+	int warmups = 5;
+	int iterations = 5;
+	try {
+		if (args.length > 0) { warmups = Integer.parseInt(args[0]); }
+		if (args.length > 1) { iterations = Integer.parseInt(args[1]); }
+	} catch (NumberFormatException e) {
+		System.err.println("Usage: OperatorBenchmark [warmups iterations]");
+		System.exit(0);
+	}
+	Options opt = new OptionsBuilder()
+		.include(OperatorBenchmark.class.getSimpleName())
+		.warmupIterations(warmups)
+		.measurementIterations(iterations)
+		.forks(1)
+		.build();
+	new Runner(opt).run();
+  }
+
+  //=========================================================================
+  // Setup benchmark.
+  //=========================================================================
+  IconOperation<Object> plus;
+  IconOperation<Object> lessThan;
+  BinaryOperator<IIconAtom<Object>> plusSite;
+  BinaryOperator<IIconAtom<Object>> lessThanSite;
+  IIconAtom<Object> xatom;
+  IIconAtom<Object> yatom;
+
+  @Setup(Level.Trial)
+  public void prepare() {
+	// Call sites are specialized when constructed
+	IconInlineCache.isEnabled = isInlineCache;
+	plus = new IconOperation(IconOperators.plus, x(), y());
+	lessThan = new IconOperation(IconOperators.lessThan, x(), y());
+	plusSite = IconInlineCache.forOperator((BinaryOperator) IconOperators.plus);
+	lessThanSite = IconInlineCache.forOperator(
+		(BinaryOperator) IconOperators.lessThan);
+	xatom = x().nextAtom();
+	yatom = y().nextAtom();
+	if (isPolluted) { pollute(); }
+  }
+
+  /**
+   * Exercises the shared operators over every operand type,
+   * as a program would that uses + and < at more than one type,
+   * so the generic path is not profiled for just the measured operands.
+   */
+  private void pollute () {
+	Object[] values = { 17, 2.25, new BigInteger("12345678901234567890"),
+		new BigDecimal("1.125"), "42" };
+	for (int i = 0; i < 20000; i++) {
+	    for (Object x : values) {
+		for (Object y : values) {
+		    IIconAtom xa = IconValue.create(x);
+		    IIconAtom ya = IconValue.create(y);
+		    IconOperators.plus.apply(xa, ya);
+		    IconOperators.lessThan.apply(xa, ya);
+		    IconInlineCache.forOperator(
+			(BinaryOperator) IconOperators.plus).apply(xa, ya);
+		}
+	    }
+	}
+  }
+
+  @TearDown(Level.Trial)
+  public void shutdown() {
+	IconInlineCache.isEnabled = true;
+  }
+
+  private IconIterator x () {
+	switch (operands) {
+		case "real": return new IconValueIterator(1.5);
+		default: return new IconValueIterator(17);
+	}
+  }
+
+  private IconIterator y () {
+	switch (operands) {
+		case "integer": return new IconValueIterator(25);
+		default: return new IconValueIterator(2.25);
+	}
+  }
+
+  //=========================================================================
+  // Run benchmark.
+  //=========================================================================
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public void runPlus (Blackhole hole) {
+	hole.consume(plus.restart().nextAtom());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public void runLessThan (Blackhole hole) {
+	hole.consume(lessThan.restart().nextAtom());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public void applyPlus (Blackhole hole) {
+	hole.consume(plusSite.apply(xatom, yatom));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public void applyLessThan (Blackhole hole) {
+	hole.consume(lessThanSite.apply(xatom, yatom));
+  }
+
+}
+
+//==== END OF FILE
@@ -0,0 +1,208 @@
+//========================================================================
+// Copyright (c) 2015 Orielle, LLC.  
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions
+// are met:
+//
+// 1. Redistributions of source code must retain the above copyright
+//    notice, this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+//    notice, this list of conditions and the following disclaimer in the
+//    documentation and/or other materials provided with the distribution.
+//
+// This software is provided by the copyright holders and contributors
+// "as is" and any express or implied warranties, including, but not
+// limited to, the implied warranties of merchantability and fitness for
+// a particular purpose are disclaimed. In no event shall the copyright
+// holder or contributors be liable for any direct, indirect, incidental,
+// special, exemplary, or consequential damages (including, but not
+// limited to, procurement of substitute goods or services; loss of use,
+// data, or profits; or business interruption) however caused and on any
+// theory of liability, whether in contract, strict liability, or tort
+// (including negligence or otherwise) arising in any way out of the use
+// of this software, even if advised of the possibility of such damage.
+//========================================================================
+package edu.uidaho.junicon.test.jmhBenchmark;
+
+import edu.uidaho.junicon.runtime.junicon.iterators.*;
+import edu.uidaho.junicon.runtime.junicon.operators.IconCset;
+import edu.uidaho.junicon.runtime.junicon.operators.IconFunctions;
+import static edu.uidaho.junicon.runtime.junicon.iterators.IIconAtom.FAIL;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks string scanning on a tokenizer workload.
+ * Splits lines of source text into identifiers, numbers, and
+ * punctuation using many(), and counts statements using find(),
+ * either with the scanning builtins or with the former implementation
+ * that copies the subject and compiles a regular expression per call.
+ * Outputs the average time to tokenize all lines.
+ * <BR>
+ * Usage: ScanBenchmark [warmups iterations]
+ *
+ * @author Peter Mills
+ */
+@State(Scope.Thread)
+public class ScanBenchmark {
+
+  //====================================================================
+  // Jmh parameters
+  //====================================================================
+  @Param({"kernel", "regex"})
+  public String scanner;
+
+  @Param({"100"})
+  public int lines;
+
+  //====================================================================
+  // Main.
+  //====================================================================
+
+  /**
+   * Main program.  Runs scanning benchmarks.
+   * @param args	optional warmups and iterations.
+   */
+  public static void main(String[] args) throws RunnerException {
+	int warmups = 5;
+	int iterations = 5;
+	try {
+		if (args.length > 0) { warmups = Integer.parseInt(args[0]); }
+		if (args.length > 1) { iterations = Integer.parseInt(args[1]); }
+	} catch (NumberFormatException e) {
+		System.err.println("Usage: ScanBenchmark [warmups iterations]");
+		System.exit(0);
+	}
+	Options opt = new OptionsBuilder()
+		.include(ScanBenchmark.class.getSimpleName())
+		.warmupIterations(warmups)
+		.measurementIterations(iterations)
+		.forks(1)
+		.build();
+	new Runner(opt).run();
+  }
+
+  //=========================================================================
+  // Setup benchmark.
+  //=========================================================================
+  private static final IconCset spaces = IconCset.valueOf(" \t");
+  private static final IconCset letters = IconCset.valueOf(
+	"abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ_");
+  private static final IconCset digits = IconCset.valueOf("0123456789");
+
+  private static final String[] samples = {
+	"while (count < limit) { total := total + item[count] * 17; }",
+	"procedure main(args) local x, y; x := 42; y := x ^ 2 + 7;",
+	"if name == \"end\" then return tokens else suspend word_1;",
+	"every i := 1 to 100 do write(image(table_of_counts[i]));"
+  };
+
+  String[] text;
+
+  @Setup(Level.Trial)
+  public void prepare() {
+	text = new String[lines];
+	for (int i = 0; i < lines; i++) {
+		text[i] = samples[i % samples.length];
+	}
+  }
+
+  //=========================================================================
+  // Run benchmark.
+  //=========================================================================
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public void runTokenize (Blackhole hole) {
+	boolean isKernel = "kernel".equals(scanner);
+	for (String line : text) {
+		hole.consume(isKernel ? tokenize(line) : tokenizeRegex(line));
+		hole.consume(isKernel ? countStatements(line)
+				: countStatementsRegex(line));
+	}
+  }
+
+  //=========================================================================
+  // Tokenizer using the scanning builtins.
+  //=========================================================================
+  private static int tokenize (String line) {
+	int tokens = 0;
+	int pos = 1;
+	int after = line.length() + 1;
+	while (pos < after) {
+		Object next = IconFunctions.many(spaces, line, pos);
+		if (next != FAIL) { pos = ((Number) next).intValue(); }
+		if (pos >= after) { break; }
+		next = IconFunctions.many(letters, line, pos);
+		if (next == FAIL) { next = IconFunctions.many(digits, line, pos); }
+		pos = (next == FAIL) ? pos + 1 : ((Number) next).intValue();
+		tokens++;
+	}
+	return tokens;
+  }
+
+  private static int countStatements (String line) {
+	IIconIterator found = (IIconIterator) IconFunctions.find(";", line, 1);
+	int count = 0;
+	found.nextAtom();
+	while (! found.isFailed()) {
+		count++;
+		found.nextAtom();
+	}
+	return count;
+  }
+
+  //=========================================================================
+  // Tokenizer using the former implementation:
+  //	copies subject[from:0], and compiles a pattern on each call.
+  //=========================================================================
+  private static int tokenizeRegex (String line) {
+	int tokens = 0;
+	int pos = 1;
+	int after = line.length() + 1;
+	while (pos < after) {
+		int next = manyRegex(spaces, line, pos);
+		if (next > 0) { pos = next; }
+		if (pos >= after) { break; }
+		next = manyRegex(letters, line, pos);
+		if (next < 0) { next = manyRegex(digits, line, pos); }
+		pos = (next < 0) ? pos + 1 : next;
+		tokens++;
+	}
+	return tokens;
+  }
+
+  private static int manyRegex (IconCset cset, String subj, int from) {
+	String str = cset.stream().collect(Collectors.joining());
+	String target = subj.substring(from - 1);
+	Matcher matcher = Pattern.compile("[" +
+		Pattern.quote(str) + "]+").matcher(target);
+	if (matcher.lookingAt()) {
+		return matcher.end() + from;
+	}
+	return -1;
+  }
+
+  private static int countStatementsRegex (String line) {
+	String target = line.substring(0);
+	Matcher matcher = Pattern.compile(Pattern.quote(";")).matcher(target);
+	int count = 0;
+	while (matcher.find()) { count++; }
+	return count;
+  }
+
+}
+
+//==== END OF FILE